@@ -8,11 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
 import uk.gov.hmcts.reform.hmc.BaseTest;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
 import uk.gov.hmcts.reform.hmc.errorhandling.ServiceBusMessageErrorHandler;
+import uk.gov.hmcts.reform.hmc.helper.OutboundMessageSerializer;
+import uk.gov.hmcts.reform.hmc.helper.PayloadLogger;
 import uk.gov.hmcts.reform.hmc.repository.DefaultFutureHearingRepository;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 import uk.gov.hmcts.reform.hmc.service.MessageProcessor;
 import uk.gov.hmcts.reform.hmc.service.PendingRequestService;
+import uk.gov.hmcts.reform.hmc.service.PendingRequestWorkerPool;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -47,6 +53,24 @@ class MessageProcessorIT extends BaseTest {
     @Autowired
     private ServiceBusMessageErrorHandler errorHandler;
 
+    @Autowired
+    private PendingRequestWorkerPool pendingRequestWorkerPool;
+
+    @Autowired
+    private HearingLookupCache hearingLookupCache;
+
+    @Autowired
+    private FutureHearingConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private PayloadLogger payloadLogger;
+
+    @Autowired
+    private OutboundMessageSerializer outboundMessageSerializer;
+
+    @Autowired
+    private ApplicationParams applicationParams;
+
     @Test
     void shouldInitiateRequestHearing() throws JsonProcessingException {
         Map<String, Object> applicationProperties = new HashMap<>();
@@ -57,7 +81,9 @@ class MessageProcessorIT extends BaseTest {
 
         MessageProcessor messageProcessor = new MessageProcessor(
                  defaultFutureHearingRepository, errorHandler, messageSenderConfiguration,
-                                                                         OBJECT_MAPPER, pendingRequestService);
+                 OBJECT_MAPPER, pendingRequestService, pendingRequestWorkerPool,
+                 hearingLookupCache, concurrencyLimiter, payloadLogger,
+                outboundMessageSerializer, applicationParams);
         messageProcessor.processMessage(data, applicationProperties);
         verify(defaultFutureHearingRepository).createHearingRequest(any(), any());
     }
@@ -72,7 +98,9 @@ class MessageProcessorIT extends BaseTest {
 
         MessageProcessor messageProcessor = new MessageProcessor(
                 defaultFutureHearingRepository, errorHandler, messageSenderConfiguration,
-                OBJECT_MAPPER, pendingRequestService);
+                OBJECT_MAPPER, pendingRequestService, pendingRequestWorkerPool,
+                hearingLookupCache, concurrencyLimiter, payloadLogger,
+                outboundMessageSerializer, applicationParams);
         messageProcessor.processMessage(data, applicationProperties);
         verify(defaultFutureHearingRepository).deleteHearingRequest(any(), any());
     }
@@ -87,7 +115,9 @@ class MessageProcessorIT extends BaseTest {
 
         MessageProcessor messageProcessor = new MessageProcessor(
                  defaultFutureHearingRepository, errorHandler, messageSenderConfiguration,
-                 OBJECT_MAPPER, pendingRequestService);
+                 OBJECT_MAPPER, pendingRequestService, pendingRequestWorkerPool,
+                 hearingLookupCache, concurrencyLimiter, payloadLogger,
+                outboundMessageSerializer, applicationParams);
         messageProcessor.processMessage(data, applicationProperties);
         verify(defaultFutureHearingRepository).amendHearingRequest(any(), any());
     }
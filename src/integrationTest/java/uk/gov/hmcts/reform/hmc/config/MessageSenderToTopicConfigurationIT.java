@@ -3,11 +3,15 @@ package uk.gov.hmcts.reform.hmc.config;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.reform.hmc.BaseTest;
 
+import java.nio.charset.StandardCharsets;
+
 class MessageSenderToTopicConfigurationIT extends BaseTest  {
 
+    private static final byte[] TEST_MESSAGE = "Test Message".getBytes(StandardCharsets.UTF_8);
+
     @Test
     void shouldSuccessfullyProcessRequest() {
-        messageSenderToTopicConfiguration.sendMessage("Test Message",
+        messageSenderToTopicConfiguration.sendMessage(TEST_MESSAGE,
                                                       "Test service code","hearingID",
                                                       null);
 
@@ -15,7 +19,7 @@ class MessageSenderToTopicConfigurationIT extends BaseTest  {
 
     @Test
     void shouldSuccessfullyProcessRequestWhenDeploymentIdIsPresent() {
-        messageSenderToTopicConfiguration.sendMessage("Test Message",
+        messageSenderToTopicConfiguration.sendMessage(TEST_MESSAGE,
                                                       "Test service code","hearingID",
                                                       "TEST");
     }
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.hmc.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import uk.gov.hmcts.reform.hmc.BaseTest;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HearingRepositoryIT extends BaseTest {
+
+    private static final String DELETE_HEARING_DATA_SCRIPT = "classpath:sql/delete-hearing-tables.sql";
+    private static final String INSERT_CASE_HEARING_REQUEST_VERSIONS
+        = "classpath:sql/insert-case_hearing_request_versions.sql";
+
+    private final HearingRepository hearingRepository;
+
+    @Autowired
+    public HearingRepositoryIT(HearingRepository hearingRepository) {
+        this.hearingRepository = hearingRepository;
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_HEARING_DATA_SCRIPT, INSERT_CASE_HEARING_REQUEST_VERSIONS})
+    void findHearingAuditDetails_shouldReturnLatestRequestVersion() {
+        Optional<HearingAuditDetails> hearingAuditDetails = hearingRepository.findHearingAuditDetails(2000000010L);
+
+        assertThat(hearingAuditDetails).contains(new HearingAuditDetails(
+            2000000010L,
+            "UPDATE_REQUESTED",
+            LocalDateTime.of(2021, 8, 10, 11, 20),
+            LocalDateTime.of(2021, 8, 12, 13, 30),
+            "ABA1",
+            2
+        ));
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_HEARING_DATA_SCRIPT})
+    void findHearingAuditDetails_shouldReturnEmptyWhenHearingNotFound() {
+        assertThat(hearingRepository.findHearingAuditDetails(2000000010L)).isEmpty();
+    }
+}
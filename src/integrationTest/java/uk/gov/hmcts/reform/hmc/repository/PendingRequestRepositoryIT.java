@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import uk.gov.hmcts.reform.hmc.BaseTest;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +25,8 @@ import static uk.gov.hmcts.reform.hmc.config.PendingStatusType.PROCESSING;
 
 class PendingRequestRepositoryIT extends BaseTest {
 
+    private static final LocalDateTime FIRST_PAGE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private static final String DELETE_PENDING_REQUEST_DATA_SCRIPT
         = "classpath:sql/delete-pending_request_tables.sql";
     private static final String INSERT_PENDING_REQUESTS_NEW_WITHOUT_EXCEPTION
@@ -201,6 +204,110 @@ class PendingRequestRepositoryIT extends BaseTest {
         assertThat(results.getFirst().getHearingId()).isEqualTo(2000000002);
     }
 
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT})
+    void claimQueuedPendingRequests_shouldClaimUpToPageSize() {
+        createTestData(PENDING.name(), LocalDateTime.now().minusHours(1), 3);
+
+        List<QueuedPendingRequest> claimed = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 2);
+
+        assertThat(claimed).hasSize(2);
+        claimed.forEach(pendingRequest -> assertPendingRequestStatusIncidentFlag(pendingRequest.getId(),
+                                                                                 PROCESSING.name(), false));
+        assertThat(pendingRequestRepository.claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 2)).hasSize(1);
+        assertThat(pendingRequestRepository.claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 2)).isEmpty();
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_NEW_WITHOUT_EXCEPTION})
+    void claimQueuedPendingRequests_shouldClaimPageAfterGivenRequest() {
+        List<QueuedPendingRequest> firstPage = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 1);
+        assertThat(firstPage).hasSize(1);
+        QueuedPendingRequest last = firstPage.getLast();
+        assertThat(last.getId()).isEqualTo(1L);
+        assertThat(last.getHearingId()).isEqualTo(2000000001L);
+        pendingRequestRepository.releaseClaim(last.getId(), last.getLastTriedDateTime());
+
+        List<QueuedPendingRequest> nextPage = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", last.getSubmittedDateTime(), last.getId(), 10);
+
+        assertThat(nextPage).extracting(QueuedPendingRequest::getId).doesNotContain(1L).isNotEmpty();
+        assertPendingRequestStatusIncidentFlag(1L, PENDING.name(), false);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_AMEND_WITH_EXCEPTION})
+    void claimQueuedPendingRequests_shouldNotClaimRequestBehindEarlierException() {
+        List<QueuedPendingRequest> claimed = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 10);
+
+        assertThat(claimed).hasSize(1);
+        assertThat(claimed.getFirst().getHearingId()).isEqualTo(2000000002);
+        assertPendingRequestStatusIncidentFlag(3L, PENDING.name(), false);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_NEW_WITHOUT_EXCEPTION})
+    void claimQueuedPendingRequestsForHearing_shouldOnlyClaimGivenHearing() {
+        List<QueuedPendingRequest> claimed = pendingRequestRepository
+            .claimQueuedPendingRequestsForHearing(2L, "MINUTES", 2000000001L, FIRST_PAGE, 0L, 10);
+
+        assertThat(claimed).extracting(QueuedPendingRequest::getId).containsExactly(1L);
+        assertPendingRequestStatusIncidentFlag(4L, PENDING.name(), false);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_PROCESSING})
+    void releaseClaim_shouldReturnRequestToPending() {
+        LocalDateTime lastTriedDateTime = LocalDateTime.of(2023, 9, 30, 10, 0);
+        int released = pendingRequestRepository.releaseClaim(1L, lastTriedDateTime);
+
+        assertThat(released).isEqualTo(1);
+        assertPendingRequestStatusIncidentFlag(1L, PENDING.name(), false);
+        assertThat(pendingRequestRepository.findById(1L)).get()
+            .extracting(PendingRequestEntity::getLastTriedDateTime).isEqualTo(lastTriedDateTime);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT})
+    void claimQueuedPendingRequests_shouldStampClaimAndReturnPreviousLastTriedDateTime() {
+        LocalDateTime lastTriedDateTime = LocalDateTime.now().minusHours(1).withNano(0);
+        createTestData(PENDING.name(), lastTriedDateTime, 1);
+
+        List<QueuedPendingRequest> claimed = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 10);
+
+        assertThat(claimed).singleElement()
+            .extracting(QueuedPendingRequest::getLastTriedDateTime).isEqualTo(lastTriedDateTime);
+        assertThat(pendingRequestRepository.findById(claimed.getFirst().getId())).get()
+            .extracting(PendingRequestEntity::getLastTriedDateTime)
+            .matches(claimedDateTime -> claimedDateTime.isAfter(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_PROCESSING})
+    void releaseExpiredClaims_shouldReturnStrandedClaimToPending() {
+        int released = pendingRequestRepository.releaseExpiredClaims(450L);
+
+        assertThat(released).isEqualTo(1);
+        assertPendingRequestStatusIncidentFlag(1L, PENDING.name(), false);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT})
+    void releaseExpiredClaims_shouldNotReleaseRecentClaim() {
+        createTestData(PENDING.name(), LocalDateTime.now().minusHours(1), 1);
+        List<QueuedPendingRequest> claimed = pendingRequestRepository
+            .claimQueuedPendingRequests(2L, "MINUTES", FIRST_PAGE, 0L, 10);
+
+        int released = pendingRequestRepository.releaseExpiredClaims(450L);
+
+        assertThat(released).isZero();
+        assertPendingRequestStatusIncidentFlag(claimed.getFirst().getId(), PROCESSING.name(), false);
+    }
+
     @Test
     @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, INSERT_PENDING_REQUESTS_PROCESSING})
     void markRequestWithGivenStatus_shouldBeSuccessful() {
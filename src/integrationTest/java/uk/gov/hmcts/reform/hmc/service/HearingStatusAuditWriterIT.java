@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import uk.gov.hmcts.reform.hmc.BaseTest;
+import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.repository.HearingStatusAuditRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@TestPropertySource(
+    properties = {
+        "hearing-status-audit.write-behind.enabled = true",
+        "hearing-status-audit.write-behind.max-wait-in-milliseconds = 10"
+    }
+)
+class HearingStatusAuditWriterIT extends BaseTest {
+
+    private static final String DELETE_HEARING_DATA_SCRIPT = "classpath:sql/delete-hearing-tables.sql";
+    private static final long WAIT_IN_MILLISECONDS = 10_000L;
+
+    private final HearingStatusAuditWriter hearingStatusAuditWriter;
+    private final HearingStatusAuditRepository hearingStatusAuditRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public HearingStatusAuditWriterIT(HearingStatusAuditWriter hearingStatusAuditWriter,
+                                      HearingStatusAuditRepository hearingStatusAuditRepository,
+                                      ObjectMapper objectMapper) {
+        this.hearingStatusAuditWriter = hearingStatusAuditWriter;
+        this.hearingStatusAuditRepository = hearingStatusAuditRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_HEARING_DATA_SCRIPT})
+    void shouldWriteQueuedAuditRowsInBatch() throws JsonProcessingException, InterruptedException {
+        JsonNode errorDescription = objectMapper.readTree("{\"errCode\": 1000, \"errDesc\": \"Bad request\"}");
+        hearingStatusAuditWriter.write(audit("2000000001", "200", null));
+        hearingStatusAuditWriter.write(audit("2000000002", "400", errorDescription));
+
+        List<HearingStatusAuditEntity> audits = awaitAudits(2).stream()
+            .sorted(Comparator.comparing(HearingStatusAuditEntity::getHearingId))
+            .toList();
+
+        assertEquals(2, audits.size(), "Unexpected number of hearing status audit records");
+        assertNotEquals(audits.get(0).getId(), audits.get(1).getId());
+        assertEquals("200", audits.get(0).getHttpStatus());
+        assertNull(audits.get(0).getErrorDescription());
+        assertEquals("400", audits.get(1).getHttpStatus());
+        assertEquals(errorDescription, audits.get(1).getErrorDescription());
+    }
+
+    private List<HearingStatusAuditEntity> awaitAudits(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_IN_MILLISECONDS;
+        List<HearingStatusAuditEntity> audits = hearingStatusAuditRepository.findAll();
+        while (audits.size() < expected && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+            audits = hearingStatusAuditRepository.findAll();
+        }
+        return audits;
+    }
+
+    private static HearingStatusAuditEntity audit(String hearingId, String httpStatus, JsonNode errorDescription) {
+        HearingStatusAuditEntity audit = new HearingStatusAuditEntity();
+        audit.setHearingId(hearingId);
+        audit.setHmctsServiceId("ABA1");
+        audit.setStatus("HEARING_REQUESTED");
+        audit.setStatusUpdateDateTime(LocalDateTime.now());
+        audit.setHearingEvent("create-hearing-request");
+        audit.setHttpStatus(httpStatus);
+        audit.setSource("hmc");
+        audit.setTarget("fh");
+        audit.setErrorDescription(errorDescription);
+        audit.setRequestVersion("1");
+        audit.setResponseDateTime(LocalDateTime.now());
+        return audit;
+    }
+}
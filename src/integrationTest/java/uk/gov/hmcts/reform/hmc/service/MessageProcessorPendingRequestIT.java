@@ -46,6 +46,8 @@ class MessageProcessorPendingRequestIT extends BaseTest {
         "classpath:sql/insert-pending_requests_pending_and_hearing.sql";
     private static final String DATA_SCRIPT_INSERT_PENDING_REQUESTS_PROCESSING_AND_HEARING =
         "classpath:sql/insert-pending_requests_processing_and_hearing.sql";
+    private static final String DATA_SCRIPT_INSERT_PENDING_REQUESTS_STRANDED_CLAIM_AND_HEARING =
+        "classpath:sql/insert-pending_requests_stranded_claim_and_hearing.sql";
     private static final String DATA_SCRIPT_INSERT_PENDING_REQUESTS_NOT_READY =
         "classpath:sql/insert-pending_requests_not_ready.sql";
     private static final String DATA_SCRIPT_INSERT_PENDING_REQUESTS_UNKNOWN_MESSAGE_TYPE =
@@ -156,7 +158,7 @@ class MessageProcessorPendingRequestIT extends BaseTest {
     @Sql(scripts = {DATA_SCRIPT_DELETE_PENDING_REQUEST_TABLES,
         DATA_SCRIPT_DELETE_HEARING_TABLES,
         DATA_SCRIPT_INSERT_PENDING_REQUESTS_PROCESSING_AND_HEARING})
-    void processPendingRequest_shouldNotProcessClaimedRequest() {
+    void processPendingRequests_shouldNotProcessClaimedRequest() {
         Logger logger = (Logger) LoggerFactory.getLogger(MessageProcessor.class);
         ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
         listAppender.start();
@@ -165,22 +167,35 @@ class MessageProcessorPendingRequestIT extends BaseTest {
         final Level originalLogLevel = logger.getLevel();
         logger.setLevel(Level.DEBUG);
 
-        PendingRequestEntity pendingRequestBefore = getPendingRequest(PENDING_REQUEST_ID);
-        messageProcessor.processPendingRequest(pendingRequestBefore);
+        messageProcessor.processPendingRequests();
 
         logger.detachAndStopAllAppenders();
         logger.setLevel(originalLogLevel);
 
         List<LogMessage> expectedLogMessages =
-            List.of(new LogMessage(Level.DEBUG,
-                                   String.format(DEBUG_LOG_MESSAGE_PROCESS_PENDING_REQUEST_STARTING, "2000000000")),
-                    new LogMessage(Level.DEBUG, "Pending request with Id: 1, hearingId: 2000000000 already claimed."));
+            List.of(new LogMessage(Level.DEBUG, "processPendingRequests (every 120000)- starting"),
+                    new LogMessage(Level.DEBUG, "No pending requests found for processing."),
+                    new LogMessage(Level.DEBUG, "processPendingRequests - completed"));
         assertLogErrorMessages(listAppender, expectedLogMessages);
 
         PendingRequestEntity pendingRequestAfter = getPendingRequest(PENDING_REQUEST_ID);
         assertPendingRequestStatus(pendingRequestAfter, "PROCESSING");
     }
 
+    @Test
+    @Sql(scripts = {DATA_SCRIPT_DELETE_PENDING_REQUEST_TABLES,
+        DATA_SCRIPT_DELETE_HEARING_TABLES,
+        DATA_SCRIPT_INSERT_PENDING_REQUESTS_STRANDED_CLAIM_AND_HEARING})
+    void processPendingRequests_shouldRecoverStrandedClaim() {
+        stubSuccessfullyReturnToken(TOKEN);
+        stubSuccessfullyRequestHearing(TOKEN);
+
+        messageProcessor.processPendingRequests();
+
+        PendingRequestEntity pendingRequestAfter = getPendingRequest(PENDING_REQUEST_ID);
+        assertPendingRequestStatus(pendingRequestAfter, "COMPLETED");
+    }
+
     @Test
     @Sql(scripts = {DATA_SCRIPT_DELETE_PENDING_REQUEST_TABLES,
         DATA_SCRIPT_DELETE_HEARING_TABLES,
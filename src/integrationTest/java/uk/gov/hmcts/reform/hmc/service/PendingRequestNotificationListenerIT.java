@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import uk.gov.hmcts.reform.hmc.BaseTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@TestPropertySource(
+    properties = {
+        "pending.request.notify.enabled = true",
+        "pending.request.notify.poll-timeout-in-milliseconds = 100"
+    }
+)
+class PendingRequestNotificationListenerIT extends BaseTest {
+
+    private static final String CREATE_NOTIFY_TRIGGER_SCRIPT
+        = "classpath:sql/create-pending_requests_notify_trigger.sql";
+    private static final String DROP_NOTIFY_TRIGGER_SCRIPT
+        = "classpath:sql/drop-pending_requests_notify_trigger.sql";
+    private static final String DELETE_PENDING_REQUEST_DATA_SCRIPT
+        = "classpath:sql/delete-pending_request_tables.sql";
+
+    private static final String NOTIFICATION_SWEEP_METRIC = "hmc.outbound.pending.request.notification.sweep";
+    private static final long WAIT_IN_MILLISECONDS = 10_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final PendingRequestNotificationListener listener;
+
+    @Autowired
+    public PendingRequestNotificationListenerIT(JdbcTemplate jdbcTemplate,
+                                                MeterRegistry meterRegistry,
+                                                PendingRequestNotificationListener listener) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.listener = listener;
+    }
+
+    @Test
+    void shouldSweepWhenNotified() throws InterruptedException {
+        assertTrue(listener.isRunning());
+        double sweeps = awaitFirstSweep();
+
+        jdbcTemplate.queryForList("SELECT pg_notify('pending_requests', '2000000001')");
+
+        assertTrue(awaitSweepsAbove(sweeps), "Expected a sweep after the notification");
+    }
+
+    @Test
+    @Sql(scripts = {CREATE_NOTIFY_TRIGGER_SCRIPT}, config = @SqlConfig(separator = "@@"))
+    @Sql(scripts = {DELETE_PENDING_REQUEST_DATA_SCRIPT, DROP_NOTIFY_TRIGGER_SCRIPT}, executionPhase = AFTER_TEST_METHOD)
+    void shouldSweepWhenPendingRequestInserted() throws InterruptedException {
+        double sweeps = awaitFirstSweep();
+
+        jdbcTemplate.update("INSERT INTO public.pending_requests (id, hearing_id, message, message_type, status, "
+                                + "incident_flag, version_number, submitted_date_time, retry_count, deployment_id) "
+                                + "VALUES (1, 2000000001, 'message', 'REQUEST_HEARING', 'PROCESSING', false, 1, "
+                                + "NOW(), 0, 'depId01')");
+
+        assertTrue(awaitSweepsAbove(sweeps), "Expected a sweep after a pending request was inserted");
+        assertTrue(meterRegistry.get("hmc.outbound.pending.request.notification").counter().count() > 0);
+    }
+
+    private double awaitFirstSweep() throws InterruptedException {
+        // the listener sweeps once as soon as it is listening
+        assertTrue(awaitSweepsAbove(0), "Expected the listener to start listening");
+        return sweepCount();
+    }
+
+    private boolean awaitSweepsAbove(double sweeps) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_IN_MILLISECONDS;
+        while (System.currentTimeMillis() < deadline) {
+            if (sweepCount() > sweeps) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        return false;
+    }
+
+    private double sweepCount() {
+        return meterRegistry.get(NOTIFICATION_SWEEP_METRIC).counter().count();
+    }
+}
@@ -0,0 +1,11 @@
+CREATE OR REPLACE FUNCTION public.notify_pending_requests() RETURNS trigger AS $$
+BEGIN
+  PERFORM pg_notify('pending_requests', NEW.hearing_id::text);
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql
+@@
+DROP TRIGGER IF EXISTS pending_requests_notify ON public.pending_requests
+@@
+CREATE TRIGGER pending_requests_notify AFTER INSERT ON public.pending_requests
+  FOR EACH ROW EXECUTE FUNCTION public.notify_pending_requests()
@@ -0,0 +1,2 @@
+DROP TRIGGER IF EXISTS pending_requests_notify ON public.pending_requests;
+DROP FUNCTION IF EXISTS public.notify_pending_requests();
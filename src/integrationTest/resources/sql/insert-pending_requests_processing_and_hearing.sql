@@ -20,13 +20,14 @@ VALUES
  '2026-02-01 12:00:00', 1, 2000000000, false, 'Requester',
  '2026-02-02 00:00:00', '2026-02-03 00:00:00', 'Listing comments', '2026-02-01 12:00:00', null);
 
+-- last_tried_date_time is stamped with the time of the claim, so these claims are recent and still in progress
 INSERT INTO public.pending_requests
 (id, hearing_id, version_number, message_type, submitted_date_time,
  deployment_id, retry_count, last_tried_date_time, status, incident_flag,
  message)
 VALUES
 (1, 2000000000, 1, 'REQUEST_HEARING', now() - INTERVAL '20 minute',
- 'depId01', 0, now() - INTERVAL '20 minute', 'PROCESSING', false,
+ 'depId01', 0, now(), 'PROCESSING', false,
  '{"test":"request for existing hearing"}');
 
 INSERT INTO public.pending_requests
@@ -35,5 +36,5 @@ INSERT INTO public.pending_requests
  message)
 VALUES
 (2, 2000000001, 1, 'REQUEST_HEARING', now() - INTERVAL '20 minute',
- 'depId01', 0, now() - INTERVAL '20 minute', 'PROCESSING', false,
+ 'depId01', 0, now(), 'PROCESSING', false,
  '{"test":"request for non-existing hearing"}');
@@ -51,4 +51,223 @@ public class ApplicationParams {
 
     @Value("${azure.jms.servicebus.external-topic-name}")
     private String externalTopicName;
+
+    @Value("${azure.jms.servicebus.redelivery.enabled}")
+    private boolean redeliveryEnabled;
+
+    @Value("${azure.jms.servicebus.redelivery.max-delay-in-seconds}")
+    private long redeliveryMaxDelayInSeconds;
+
+    @Value("${azure.jms.servicebus.redelivery.jitter}")
+    private double redeliveryJitter;
+
+    @Value("${azure.jms.servicebus.consumer.partitions}")
+    private int consumerPartitions;
+
+    @Value("${azure.jms.servicebus.consumer.max-in-flight}")
+    private int consumerMaxInFlight;
+
+    @Value("${azure.jms.servicebus.consumer.max-auto-lock-renew-in-seconds}")
+    private long consumerMaxAutoLockRenewInSeconds;
+
+    @Value("${azure.jms.servicebus.consumer.shutdown-timeout-in-seconds}")
+    private long consumerShutdownTimeoutInSeconds;
+
+    @Value("${azure.jms.servicebus.sync-response-batch.enabled}")
+    private boolean syncResponseBatchEnabled;
+
+    @Value("${azure.jms.servicebus.sync-response-batch.max-messages}")
+    private int syncResponseBatchMaxMessages;
+
+    @Value("${azure.jms.servicebus.sync-response-batch.max-wait-in-milliseconds}")
+    private long syncResponseBatchMaxWaitInMilliseconds;
+
+    @Value("${azure.jms.servicebus.sync-response-batch.send-timeout-in-seconds}")
+    private long syncResponseBatchSendTimeoutInSeconds;
+
+    @Value("${azure.jms.servicebus.topic-publisher.async-enabled}")
+    private boolean topicPublisherAsyncEnabled;
+
+    @Value("${azure.jms.servicebus.topic-publisher.buffer-capacity}")
+    private int topicPublisherBufferCapacity;
+
+    @Value("${azure.jms.servicebus.topic-publisher.max-messages}")
+    private int topicPublisherMaxMessages;
+
+    @Value("${azure.jms.servicebus.topic-publisher.max-wait-in-milliseconds}")
+    private long topicPublisherMaxWaitInMilliseconds;
+
+    @Value("${azure.jms.servicebus.topic-publisher.enqueue-timeout-in-milliseconds}")
+    private long topicPublisherEnqueueTimeoutInMilliseconds;
+
+    @Value("${azure.jms.servicebus.topic-publisher.max-attempts}")
+    private int topicPublisherMaxAttempts;
+
+    @Value("${azure.jms.servicebus.topic-publisher.retry-delay-in-milliseconds}")
+    private long topicPublisherRetryDelayInMilliseconds;
+
+    @Value("${azure.jms.servicebus.topic-publisher.shutdown-timeout-in-seconds}")
+    private long topicPublisherShutdownTimeoutInSeconds;
+
+    @Value("${fh.ad.token-cache.enabled}")
+    private boolean tokenCacheEnabled;
+
+    @Value("${fh.ad.token-cache.refresh-ahead-in-seconds}")
+    private long tokenCacheRefreshAheadInSeconds;
+
+    @Value("${fh.ad.token-cache.expiry-margin-in-seconds}")
+    private long tokenCacheExpiryMarginInSeconds;
+
+    @Value("${fh.ad.http-client.connect-timeout-in-milliseconds}")
+    private long activeDirectoryConnectTimeoutInMilliseconds;
+
+    @Value("${fh.ad.http-client.read-timeout-in-milliseconds}")
+    private long activeDirectoryReadTimeoutInMilliseconds;
+
+    @Value("${fh.ad.http-client.call-timeout-in-milliseconds}")
+    private long activeDirectoryCallTimeoutInMilliseconds;
+
+    @Value("${fh.hmi.host}")
+    private String hearingManagementInterfaceHost;
+
+    @Value("${fh.hmi.async.callback-threads}")
+    private int asyncCallbackThreads;
+
+    @Value("${fh.hmi.payload-pass-through}")
+    private boolean payloadPassThrough;
+
+    @Value("${fh.hmi.health-check.refresh-interval-in-seconds}")
+    private long healthCheckRefreshIntervalInSeconds;
+
+    @Value("${fh.hmi.http-client.connect-timeout-in-milliseconds}")
+    private long hearingManagementInterfaceConnectTimeoutInMilliseconds;
+
+    @Value("${fh.hmi.http-client.read-timeout-in-milliseconds}")
+    private long hearingManagementInterfaceReadTimeoutInMilliseconds;
+
+    @Value("${fh.hmi.http-client.call-timeout-in-milliseconds}")
+    private long hearingManagementInterfaceCallTimeoutInMilliseconds;
+
+    @Value("${fh.hmi.bulkhead.max-concurrent-calls}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${fh.hmi.bulkhead.max-wait-in-milliseconds}")
+    private long bulkheadMaxWaitInMilliseconds;
+
+    @Value("${fh.hmi.concurrency-limit.enabled}")
+    private boolean concurrencyLimitEnabled;
+
+    @Value("${fh.hmi.concurrency-limit.initial-limit}")
+    private int concurrencyLimitInitialLimit;
+
+    @Value("${fh.hmi.concurrency-limit.min-limit}")
+    private int concurrencyLimitMinLimit;
+
+    @Value("${fh.hmi.concurrency-limit.max-limit}")
+    private int concurrencyLimitMaxLimit;
+
+    @Value("${fh.hmi.concurrency-limit.backoff-ratio}")
+    private double concurrencyLimitBackoffRatio;
+
+    @Value("${fh.hmi.concurrency-limit.latency-threshold-in-milliseconds}")
+    private long concurrencyLimitLatencyThresholdInMilliseconds;
+
+    @Value("${fh.hmi.concurrency-limit.max-wait-in-milliseconds}")
+    private long concurrencyLimitMaxWaitInMilliseconds;
+
+    @Value("${fh.http-client.max-idle-connections}")
+    private int httpClientMaxIdleConnections;
+
+    @Value("${fh.http-client.keep-alive-in-seconds}")
+    private long httpClientKeepAliveInSeconds;
+
+    @Value("${fh.http-client.http2-enabled}")
+    private boolean httpClientHttp2Enabled;
+
+    @Value("${fh.http-client.max-requests}")
+    private int httpClientMaxRequests;
+
+    @Value("${fh.http-client.max-requests-per-host}")
+    private int httpClientMaxRequestsPerHost;
+
+    @Value("${fh.circuit-breaker.enabled}")
+    private boolean circuitBreakerEnabled;
+
+    @Value("${fh.circuit-breaker.sliding-window-size}")
+    private int circuitBreakerSlidingWindowSize;
+
+    @Value("${fh.circuit-breaker.minimum-number-of-calls}")
+    private int circuitBreakerMinimumNumberOfCalls;
+
+    @Value("${fh.circuit-breaker.failure-rate-threshold}")
+    private int circuitBreakerFailureRateThreshold;
+
+    @Value("${fh.circuit-breaker.slow-call-duration-threshold-in-milliseconds}")
+    private long circuitBreakerSlowCallDurationThresholdInMilliseconds;
+
+    @Value("${fh.circuit-breaker.slow-call-rate-threshold}")
+    private int circuitBreakerSlowCallRateThreshold;
+
+    @Value("${fh.circuit-breaker.wait-duration-in-open-state-in-seconds}")
+    private long circuitBreakerWaitDurationInOpenStateInSeconds;
+
+    @Value("${fh.circuit-breaker.permitted-calls-in-half-open-state}")
+    private int circuitBreakerPermittedCallsInHalfOpenState;
+
+    @Value("${pending.request.workers}")
+    private int pendingRequestWorkers;
+
+    @Value("${pending.request.transaction-timeout-in-seconds}")
+    private int pendingRequestTransactionTimeoutInSeconds;
+
+    @Value("${pending.request.sweep-timeout-in-seconds}")
+    private long pendingRequestSweepTimeoutInSeconds;
+
+    @Value("${pending.request.notify.enabled}")
+    private boolean pendingRequestNotifyEnabled;
+
+    @Value("${pending.request.notify.channel}")
+    private String pendingRequestNotifyChannel;
+
+    @Value("${pending.request.notify.poll-timeout-in-milliseconds}")
+    private int pendingRequestNotifyPollTimeoutInMilliseconds;
+
+    @Value("${pending.request.notify.reconnect-delay-in-milliseconds}")
+    private long pendingRequestNotifyReconnectDelayInMilliseconds;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${threads.virtual.pinned-threshold-in-milliseconds}")
+    private long virtualThreadPinnedThresholdInMilliseconds;
+
+    @Value("${json.blackbird.enabled}")
+    private boolean blackbirdEnabled;
+
+    @Value("${payload-logging.max-length}")
+    private int payloadLoggingMaxLength;
+
+    @Value("${payload-logging.sample-rate}")
+    private int payloadLoggingSampleRate;
+
+    @Value("${warm-up.enabled}")
+    private boolean warmUpEnabled;
+
+    @Value("${warm-up.serialization-iterations}")
+    private int warmUpSerializationIterations;
+
+    @Value("${hearing-status-audit.write-behind.enabled}")
+    private boolean auditWriteBehindEnabled;
+
+    @Value("${hearing-status-audit.write-behind.buffer-capacity}")
+    private int auditWriteBehindBufferCapacity;
+
+    @Value("${hearing-status-audit.write-behind.max-batch-size}")
+    private int auditWriteBehindMaxBatchSize;
+
+    @Value("${hearing-status-audit.write-behind.max-wait-in-milliseconds}")
+    private long auditWriteBehindMaxWaitInMilliseconds;
+
+    @Value("${hearing-status-audit.write-behind.shutdown-timeout-in-seconds}")
+    private long auditWriteBehindShutdownTimeoutInSeconds;
 }
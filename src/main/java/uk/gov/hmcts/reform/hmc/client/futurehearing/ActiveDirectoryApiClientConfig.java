@@ -1,8 +1,16 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
+import feign.Request;
 import feign.Retryer;
+import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingHttpClientConfiguration.FUTURE_HEARING_HTTP_CLIENT;
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingResilienceConfiguration.ACTIVE_DIRECTORY_CIRCUIT_BREAKER;
 
 public class ActiveDirectoryApiClientConfig {
 
@@ -12,4 +20,26 @@ public class ActiveDirectoryApiClientConfig {
                                           @Value("${fh.ad.retryer.max-attempts}") int maxAttempts) {
         return new Retryer.Default(period, maxPeriod, maxAttempts);
     }
+
+    @Bean
+    public FutureHearingResilienceCapability activeDirectoryResilienceCapability(
+        @Qualifier(ACTIVE_DIRECTORY_CIRCUIT_BREAKER) FutureHearingCircuitBreaker circuitBreaker) {
+        return new FutureHearingResilienceCapability(circuitBreaker, null, null);
+    }
+
+    @Bean
+    public Request.Options activeDirectoryOptions(ApplicationParams applicationParams) {
+        return FutureHearingApiClientConfig.options(applicationParams.getActiveDirectoryConnectTimeoutInMilliseconds(),
+                                                    applicationParams.getActiveDirectoryReadTimeoutInMilliseconds());
+    }
+
+    @Bean
+    public OkHttpClient activeDirectoryHttpClient(
+        @Qualifier(FUTURE_HEARING_HTTP_CLIENT) okhttp3.OkHttpClient sharedClient,
+        MeterRegistry meterRegistry,
+        Request.Options options,
+        ApplicationParams applicationParams) {
+        return FutureHearingApiClientConfig.client(sharedClient, meterRegistry, "active-directory", options,
+                                                   applicationParams.getActiveDirectoryCallTimeoutInMilliseconds());
+    }
 }
@@ -0,0 +1,234 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the Active Directory access token used for HMI calls.
+ *
+ * <p>The token is kept until shortly before the {@code expires_in} returned by Active Directory and is refreshed in
+ * the background ahead of expiry. A background refresh that fails is retried with an increasing delay for as long
+ * as the cached token is still usable. Callers that miss the cache at the same time share a single token request.
+ * Tokens returned without an expiry are never cached.
+ */
+@Slf4j
+@Component
+public class ActiveDirectoryTokenCache {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+    private static final int MAX_RETRY_BACKOFF_SHIFT = 6;
+
+    private final ActiveDirectoryApiClient activeDirectoryApiClient;
+    private final ApplicationParams applicationParams;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration refreshAhead;
+    private final Duration expiryMargin;
+
+    private final AtomicReference<CachedToken> cachedToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRequest = new AtomicReference<>();
+    private final ScheduledExecutorService refreshScheduler;
+    private ScheduledFuture<?> scheduledRefresh;
+    private int failedRefreshes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer refreshTimer;
+
+    public ActiveDirectoryTokenCache(ActiveDirectoryApiClient activeDirectoryApiClient,
+                                     ApplicationParams applicationParams,
+                                     @Qualifier("utcClock") Clock clock,
+                                     MeterRegistry meterRegistry) {
+        this.activeDirectoryApiClient = activeDirectoryApiClient;
+        this.applicationParams = applicationParams;
+        this.clock = clock;
+        this.enabled = applicationParams.isTokenCacheEnabled();
+        this.refreshAhead = Duration.ofSeconds(applicationParams.getTokenCacheRefreshAheadInSeconds());
+        this.expiryMargin = Duration.ofSeconds(applicationParams.getTokenCacheExpiryMarginInSeconds());
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-ad-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.hitCounter = Counter.builder("hmc.outbound.ad.token.cache")
+            .description("Active Directory token cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("hmc.outbound.ad.token.cache")
+            .description("Active Directory token cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.refreshTimer = Timer.builder("hmc.outbound.ad.token.refresh")
+            .description("Time taken to obtain a token from Active Directory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns a valid access token, requesting a new one from Active Directory if the cached token is missing or
+     * about to expire.
+     */
+    public String getAccessToken() {
+        return getToken().value();
+    }
+
+    /**
+     * Returns a valid access token like {@link #getAccessToken()}, along with whether this call requested it from
+     * Active Directory rather than finding it in the cache or sharing another caller's request.
+     */
+    public AccessToken getToken() {
+        if (enabled) {
+            CachedToken token = cachedToken.get();
+            if (token != null && token.isUsableAt(clock.instant(), expiryMargin)) {
+                hitCounter.increment();
+                return new AccessToken(token.accessToken(), false);
+            }
+            missCounter.increment();
+        }
+        Refresh refresh = refresh();
+        return new AccessToken(await(refresh.request()).accessToken(), refresh.requested());
+    }
+
+    /**
+     * Discards the cached token, for example after HMI has rejected it.
+     */
+    public void invalidate() {
+        log.debug("Invalidating cached Active Directory token");
+        cachedToken.set(null);
+        cancelScheduledRefresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+    }
+
+    private CachedToken await(CompletableFuture<CachedToken> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private Refresh refresh() {
+        CompletableFuture<CachedToken> request;
+        while (true) {
+            CompletableFuture<CachedToken> existing = inFlightRequest.get();
+            if (existing != null) {
+                return new Refresh(existing, false);
+            }
+            request = new CompletableFuture<>();
+            if (inFlightRequest.compareAndSet(null, request)) {
+                break;
+            }
+        }
+
+        try {
+            CachedToken token = requestToken();
+            if (enabled && token.expiresAt() != null) {
+                cachedToken.set(token);
+                scheduleRefresh(token);
+            }
+            request.complete(token);
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+        } finally {
+            inFlightRequest.compareAndSet(request, null);
+        }
+        return new Refresh(request, true);
+    }
+
+    private CachedToken requestToken() {
+        AuthenticationResponse response = refreshTimer.record(() -> activeDirectoryApiClient.authenticate(
+            new AuthenticationRequest(
+                applicationParams.getGrantType(),
+                applicationParams.getClientId(), applicationParams.getScope(),
+                applicationParams.getClientSecret()
+            ).getRequest()));
+        Instant expiresAt = response.getExpiresIn() == null
+            ? null : clock.instant().plusSeconds(response.getExpiresIn());
+        return new CachedToken(response.getAccessToken(), expiresAt);
+    }
+
+    private synchronized void scheduleRefresh(CachedToken token) {
+        cancelScheduledRefresh();
+        failedRefreshes = 0;
+        Duration lifetime = Duration.between(clock.instant(), token.expiresAt());
+        Duration delay = lifetime.compareTo(refreshAhead.multipliedBy(2)) > 0
+            ? lifetime.minus(refreshAhead) : lifetime.dividedBy(2);
+        scheduledRefresh = refreshScheduler.schedule(this::backgroundRefresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        log.debug("Active Directory token expires at {}, refresh scheduled in {}", token.expiresAt(), delay);
+    }
+
+    private synchronized void cancelScheduledRefresh() {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+        }
+    }
+
+    private void backgroundRefresh() {
+        try {
+            refresh().request().join();
+            log.debug("Active Directory token refreshed in the background");
+        } catch (Exception e) {
+            log.warn("Background refresh of Active Directory token failed: {}", e.getMessage());
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Schedules another background refresh after a failed one, doubling the delay with each failure. The retry is
+     * never later than the point at which the cached token stops being usable; once it has, the next caller requests a
+     * token instead.
+     */
+    private synchronized void scheduleRetry() {
+        CachedToken token = cachedToken.get();
+        Instant now = clock.instant();
+        if (token == null || !token.isUsableAt(now, expiryMargin)) {
+            log.warn("Cached Active Directory token is no longer usable, a token will be requested on next use");
+            return;
+        }
+        failedRefreshes++;
+        Duration backoff = RETRY_DELAY.multipliedBy(1L << Math.min(failedRefreshes - 1, MAX_RETRY_BACKOFF_SHIFT));
+        Duration usableFor = Duration.between(now, token.expiresAt().minus(expiryMargin));
+        Duration delay = backoff.compareTo(usableFor) < 0 ? backoff : usableFor;
+        scheduledRefresh = refreshScheduler.schedule(this::backgroundRefresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Retrying background refresh of Active Directory token in {} (attempt {})", delay,
+                 failedRefreshes + 1);
+    }
+
+    public record AccessToken(String value, boolean requested) {
+    }
+
+    private record Refresh(CompletableFuture<CachedToken> request, boolean requested) {
+    }
+
+    record CachedToken(String accessToken, Instant expiresAt) {
+
+        boolean isUsableAt(Instant now, Duration expiryMargin) {
+            return expiresAt != null && now.isBefore(expiresAt.minus(expiryMargin));
+        }
+    }
+}
@@ -15,4 +15,7 @@ public class AuthenticationResponse {
     @JsonProperty("access_token")
     private String accessToken;
 
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+
 }
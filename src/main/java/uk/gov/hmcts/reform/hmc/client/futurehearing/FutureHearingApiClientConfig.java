@@ -1,19 +1,48 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
 import feign.codec.ErrorDecoder;
 import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 
+import java.util.concurrent.TimeUnit;
+
 public class FutureHearingApiClientConfig {
 
     @Bean
-    public ErrorDecoder errorDecoder() {
-        return new FutureHearingErrorDecoder();
+    public ErrorDecoder errorDecoder(ObjectMapper objectMapper) {
+        return new FutureHearingErrorDecoder(objectMapper);
     }
 
-    // Added to fix issue where 401 feign responses would omit body
-    @Bean
-    public OkHttpClient client() {
-        return new OkHttpClient();
+    public static Request.Options options(long connectTimeoutInMilliseconds, long readTimeoutInMilliseconds) {
+        return new Request.Options(connectTimeoutInMilliseconds, TimeUnit.MILLISECONDS,
+                                   readTimeoutInMilliseconds, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * Derives a client from the shared one, keeping its connection pool. OkHttp is used to fix an issue where 401
+     * Feign responses would omit the body. The timeouts match {@code options} so Feign does not derive yet another
+     * client per request.
+     */
+    static OkHttpClient client(okhttp3.OkHttpClient sharedClient, MeterRegistry meterRegistry, String name,
+                               Request.Options options, long callTimeoutInMilliseconds) {
+        return new OkHttpClient(httpClient(sharedClient, meterRegistry, name, options, callTimeoutInMilliseconds));
+    }
+
+    /**
+     * Derives an OkHttp client from the shared one with the given timeouts and metrics, for callers that use OkHttp
+     * directly rather than through Feign.
+     */
+    public static okhttp3.OkHttpClient httpClient(okhttp3.OkHttpClient sharedClient, MeterRegistry meterRegistry,
+                                                  String name, Request.Options options,
+                                                  long callTimeoutInMilliseconds) {
+        return sharedClient.newBuilder()
+            .connectTimeout(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .callTimeout(callTimeoutInMilliseconds, TimeUnit.MILLISECONDS)
+            .eventListenerFactory(new FutureHearingHttpMetrics(meterRegistry, name))
+            .build();
     }
 }
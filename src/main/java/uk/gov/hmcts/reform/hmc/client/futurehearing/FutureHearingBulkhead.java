@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of calls to a Future Hearings API in flight at once. A call that cannot get a permit within
+ * {@code max-wait} is rejected with {@link FutureHearingUnavailableException} rather than queued behind a slow API.
+ * A {@code max-concurrent-calls} of zero or less turns the limit off.
+ *
+ * <p>{@link #acquireAsync()} waits for a permit without holding the calling thread; a released permit is handed to a
+ * queued asynchronous caller before it is returned to the pool.
+ */
+@Slf4j
+public class FutureHearingBulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitInMilliseconds;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    public FutureHearingBulkhead(String name, MeterRegistry meterRegistry, int maxConcurrentCalls,
+                                 long maxWaitInMilliseconds) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitInMilliseconds = maxWaitInMilliseconds;
+        this.permits = new Semaphore(Math.max(maxConcurrentCalls, 0), true);
+        this.rejectedCounter = Counter.builder("hmc.outbound.bulkhead.rejected")
+            .description("Calls rejected because too many were already in flight")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("hmc.outbound.bulkhead.available", permits, Semaphore::availablePermits)
+            .description("Calls that can still be started before the bulkhead is full")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxConcurrentCalls > 0;
+    }
+
+    /**
+     * Takes a permit, throwing {@link FutureHearingUnavailableException} if none becomes free in time. Every permit
+     * taken must be handed back with {@link #release()}.
+     */
+    public void acquire() {
+        if (!isEnabled()) {
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitInMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw rejected();
+        }
+    }
+
+    /**
+     * Takes a permit without blocking the calling thread. The future completes once a permit is free, or fails with
+     * {@link FutureHearingUnavailableException} if none becomes free in time. Every permit taken must be handed back
+     * with {@link #release()}.
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        synchronized (waiters) {
+            if (permits.tryAcquire()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            waiters.add(permit);
+        }
+        CompletableFuture.delayedExecutor(maxWaitInMilliseconds, TimeUnit.MILLISECONDS).execute(() -> {
+            boolean waiting;
+            synchronized (waiters) {
+                waiting = waiters.remove(permit);
+            }
+            if (waiting) {
+                permit.completeExceptionally(rejected());
+            }
+        });
+        return permit;
+    }
+
+    public void release() {
+        if (!isEnabled()) {
+            return;
+        }
+        CompletableFuture<Void> waiter;
+        synchronized (waiters) {
+            waiter = waiters.poll();
+            if (waiter == null) {
+                permits.release();
+                return;
+            }
+        }
+        if (!waiter.complete(null)) {
+            release();
+        }
+    }
+
+    private FutureHearingUnavailableException rejected() {
+        rejectedCounter.increment();
+        log.warn("{} bulkhead is full, {} call(s) already in flight", name, maxConcurrentCalls);
+        return new FutureHearingUnavailableException(name + " bulkhead is full");
+    }
+}
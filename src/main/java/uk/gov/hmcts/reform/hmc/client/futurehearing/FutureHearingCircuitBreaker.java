@@ -0,0 +1,261 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stops calls to a Future Hearings API once too many of the recent ones have failed or been slow.
+ *
+ * <p>The outcome of the last {@code sliding-window-size} calls is kept. Once at least {@code minimum-number-of-calls}
+ * have been made, the breaker opens if the share of failed or slow calls reaches its threshold, and every call is then
+ * rejected with {@link FutureHearingUnavailableException} without being sent. After {@code wait-duration-in-open-state}
+ * the breaker lets {@code permitted-calls-in-half-open-state} probe calls through, and closes or opens again depending
+ * on how they do. Listeners are told of every change of state.
+ */
+@Slf4j
+public class FutureHearingCircuitBreaker implements AutoCloseable {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private static final String NAME_TAG = "name";
+
+    private final String name;
+    private final boolean enabled;
+    private final int minimumNumberOfCalls;
+    private final int failureRateThreshold;
+    private final long slowCallDurationThresholdInNanoseconds;
+    private final int slowCallRateThreshold;
+    private final Duration waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+    private final MeterRegistry meterRegistry;
+    private final List<Consumer<State>> stateListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int nextCall;
+    private int recordedCalls;
+    private int failedCallCount;
+    private int slowCallCount;
+
+    private volatile State state = State.CLOSED;
+    private int halfOpenPermits;
+    private int halfOpenCalls;
+    private int halfOpenFailedCalls;
+    private int halfOpenSlowCalls;
+
+    public FutureHearingCircuitBreaker(String name,
+                                       MeterRegistry meterRegistry,
+                                       boolean enabled,
+                                       int slidingWindowSize,
+                                       int minimumNumberOfCalls,
+                                       int failureRateThreshold,
+                                       Duration slowCallDurationThreshold,
+                                       int slowCallRateThreshold,
+                                       Duration waitDurationInOpenState,
+                                       int permittedCallsInHalfOpenState) {
+        this.name = name;
+        this.enabled = enabled;
+        this.failedCalls = new boolean[Math.max(slidingWindowSize, 1)];
+        this.slowCalls = new boolean[failedCalls.length];
+        this.minimumNumberOfCalls = Math.clamp(minimumNumberOfCalls, 1, failedCalls.length);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationThresholdInNanoseconds = slowCallDurationThreshold.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = Math.max(permittedCallsInHalfOpenState, 1);
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-circuit-breaker-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("hmc.outbound.circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+            .description("Circuit breaker state: 0 closed, 1 half open, 2 open")
+            .tag(NAME_TAG, name)
+            .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void addStateListener(Consumer<State> stateListener) {
+        stateListeners.add(stateListener);
+    }
+
+    /**
+     * Checks that a call may be made, throwing {@link FutureHearingUnavailableException} if not. Every permitted call
+     * must be followed by {@link #onResult(boolean, long)}.
+     */
+    public void acquirePermission() {
+        if (!enabled) {
+            return;
+        }
+        boolean permitted;
+        synchronized (this) {
+            permitted = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (halfOpenPermits > 0) {
+                        halfOpenPermits--;
+                        yield true;
+                    }
+                    yield false;
+                }
+            };
+        }
+        if (!permitted) {
+            callCounter("not_permitted").increment();
+            throw new FutureHearingUnavailableException(name + " circuit breaker is " + state);
+        }
+    }
+
+    public void onResult(boolean failed, long durationInNanoseconds) {
+        if (!enabled) {
+            return;
+        }
+        boolean slow = durationInNanoseconds >= slowCallDurationThresholdInNanoseconds;
+        if (failed) {
+            callCounter("failure").increment();
+        } else {
+            callCounter(slow ? "slow" : "success").increment();
+        }
+
+        State newState;
+        synchronized (this) {
+            newState = switch (state) {
+                case CLOSED -> recordClosedCall(failed, slow);
+                case HALF_OPEN -> recordHalfOpenCall(failed, slow);
+                case OPEN -> null;
+            };
+            if (newState != null) {
+                transitionTo(newState);
+            }
+        }
+        if (newState != null) {
+            notifyListeners(newState);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    void transitionToHalfOpen() {
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        notifyListeners(State.HALF_OPEN);
+    }
+
+    private State recordClosedCall(boolean failed, boolean slow) {
+        if (recordedCalls == failedCalls.length) {
+            failedCallCount -= failedCalls[nextCall] ? 1 : 0;
+            slowCallCount -= slowCalls[nextCall] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[nextCall] = failed;
+        slowCalls[nextCall] = slow;
+        failedCallCount += failed ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        nextCall = (nextCall + 1) % failedCalls.length;
+
+        if (recordedCalls >= minimumNumberOfCalls && thresholdReached(failedCallCount, slowCallCount, recordedCalls)) {
+            log.warn("{} circuit breaker opening: {} of the last {} call(s) failed and {} were slow", name,
+                     failedCallCount, recordedCalls, slowCallCount);
+            return State.OPEN;
+        }
+        return null;
+    }
+
+    private State recordHalfOpenCall(boolean failed, boolean slow) {
+        halfOpenCalls++;
+        halfOpenFailedCalls += failed ? 1 : 0;
+        halfOpenSlowCalls += slow ? 1 : 0;
+        if (halfOpenCalls < permittedCallsInHalfOpenState) {
+            return null;
+        }
+        if (thresholdReached(halfOpenFailedCalls, halfOpenSlowCalls, halfOpenCalls)) {
+            log.warn("{} circuit breaker opening again: {} of {} probe call(s) failed and {} were slow", name,
+                     halfOpenFailedCalls, halfOpenCalls, halfOpenSlowCalls);
+            return State.OPEN;
+        }
+        log.info("{} circuit breaker closing after {} successful probe call(s)", name, halfOpenCalls);
+        return State.CLOSED;
+    }
+
+    private boolean thresholdReached(int failed, int slow, int calls) {
+        return failed * 100 >= failureRateThreshold * calls || slow * 100 >= slowCallRateThreshold * calls;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        switch (newState) {
+            case CLOSED -> {
+                recordedCalls = 0;
+                nextCall = 0;
+                failedCallCount = 0;
+                slowCallCount = 0;
+            }
+            case HALF_OPEN -> {
+                halfOpenPermits = permittedCallsInHalfOpenState;
+                halfOpenCalls = 0;
+                halfOpenFailedCalls = 0;
+                halfOpenSlowCalls = 0;
+            }
+            case OPEN -> scheduler.schedule(this::transitionToHalfOpen, waitDurationInOpenState.toMillis(),
+                                            TimeUnit.MILLISECONDS);
+        }
+        Counter.builder("hmc.outbound.circuit.breaker.transition")
+            .description("Circuit breaker changes of state")
+            .tag(NAME_TAG, name)
+            .tag("state", newState.name())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void notifyListeners(State newState) {
+        for (Consumer<State> stateListener : stateListeners) {
+            try {
+                stateListener.accept(newState);
+            } catch (RuntimeException e) {
+                log.error("{} circuit breaker listener failed on {}: {}", name, newState, e.getMessage());
+            }
+        }
+    }
+
+    private Counter callCounter(String outcome) {
+        return Counter.builder("hmc.outbound.circuit.breaker.calls")
+            .description("Calls through the circuit breaker, by outcome")
+            .tag(NAME_TAG, name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
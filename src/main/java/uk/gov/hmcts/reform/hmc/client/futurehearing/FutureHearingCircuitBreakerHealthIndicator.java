@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.util.List;
+
+/**
+ * Reports the state of each Future Hearings circuit breaker. It is always up: an open breaker means Future Hearings
+ * is struggling, not this service, and taking the pod out of service would not help.
+ */
+public class FutureHearingCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final List<FutureHearingCircuitBreaker> circuitBreakers;
+
+    public FutureHearingCircuitBreakerHealthIndicator(List<FutureHearingCircuitBreaker> circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        circuitBreakers.forEach(circuitBreaker -> builder.withDetail(circuitBreaker.getName(),
+                                                                     circuitBreaker.getState().name()));
+        return builder.build();
+    }
+}
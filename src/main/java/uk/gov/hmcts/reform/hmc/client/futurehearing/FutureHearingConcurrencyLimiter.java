@@ -0,0 +1,234 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits how many hearings are sent to HMI at once, adjusting the limit to how the API responds.
+ *
+ * <p>The limit follows an additive increase, multiplicative decrease rule. Each call that succeeds within
+ * {@code latency-threshold} while at least half the limit is in use raises the limit by one, up to
+ * {@code max-limit}. Each call that fails with a 5xx or 429, fails to connect or is slower than the threshold cuts
+ * the limit by {@code backoff-ratio}, down to {@code min-limit}. A hearing that cannot get a permit within
+ * {@code max-wait} is rejected with {@link FutureHearingUnavailableException}.
+ *
+ * <p>{@link #acquire()} waits on the calling thread. {@link #acquireAsync()} does not: a caller that cannot get a
+ * permit straight away is queued and handed one as soon as it is released, so a thread that must not block can wait
+ * for a permit without being held.
+ */
+@Slf4j
+public class FutureHearingConcurrencyLimiter {
+
+    private static final Permit NO_PERMIT = () -> { };
+    private static final String NAME_TAG = "name";
+    private static final String NAME = "hmi";
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdInNanoseconds;
+    private final long maxWaitInNanoseconds;
+    private final Counter rejectedCounter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private volatile double limit;
+    private volatile int inFlight;
+
+    public FutureHearingConcurrencyLimiter(MeterRegistry meterRegistry, ApplicationParams applicationParams) {
+        this.enabled = applicationParams.isConcurrencyLimitEnabled();
+        this.minLimit = Math.max(applicationParams.getConcurrencyLimitMinLimit(), 1);
+        this.maxLimit = Math.max(applicationParams.getConcurrencyLimitMaxLimit(), this.minLimit);
+        this.backoffRatio = applicationParams.getConcurrencyLimitBackoffRatio();
+        this.latencyThresholdInNanoseconds =
+            TimeUnit.MILLISECONDS.toNanos(applicationParams.getConcurrencyLimitLatencyThresholdInMilliseconds());
+        this.maxWaitInNanoseconds =
+            TimeUnit.MILLISECONDS.toNanos(applicationParams.getConcurrencyLimitMaxWaitInMilliseconds());
+        this.limit = Math.clamp(applicationParams.getConcurrencyLimitInitialLimit(), this.minLimit, this.maxLimit);
+
+        Gauge.builder("hmc.outbound.concurrency.limit", this, FutureHearingConcurrencyLimiter::getLimit)
+            .description("Hearings that may be sent at once")
+            .tag(NAME_TAG, NAME)
+            .register(meterRegistry);
+        Gauge.builder("hmc.outbound.concurrency.in.flight", this, FutureHearingConcurrencyLimiter::getInFlight)
+            .description("Hearings being sent now")
+            .tag(NAME_TAG, NAME)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("hmc.outbound.concurrency.rejected")
+            .description("Hearings rejected because no permit became free in time")
+            .tag(NAME_TAG, NAME)
+            .register(meterRegistry);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Waits for a permit to send a hearing, throwing {@link FutureHearingUnavailableException} if none becomes free
+     * in time. The permit is handed back by closing it.
+     */
+    public Permit acquire() {
+        if (!enabled) {
+            return NO_PERMIT;
+        }
+        boolean acquired = false;
+        lock.lock();
+        try {
+            long remaining = maxWaitInNanoseconds;
+            while (inFlight >= getLimit() && remaining > 0L) {
+                remaining = permitAvailable.awaitNanos(remaining);
+            }
+            if (inFlight < getLimit()) {
+                inFlight++;
+                acquired = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("{} concurrency limit of {} reached, hearing not sent", NAME, getLimit());
+            throw new FutureHearingUnavailableException(NAME + " concurrency limit reached");
+        }
+        return this::release;
+    }
+
+    /**
+     * Returns a permit to send a hearing without blocking the calling thread. The future completes once a permit is
+     * free, or fails with {@link FutureHearingUnavailableException} if none becomes free in time.
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(NO_PERMIT);
+        }
+        CompletableFuture<Permit> permit = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < getLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(this::release);
+            }
+            if (maxWaitInNanoseconds > 0L) {
+                waiters.add(permit);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (maxWaitInNanoseconds > 0L) {
+            CompletableFuture.delayedExecutor(maxWaitInNanoseconds, TimeUnit.NANOSECONDS)
+                .execute(() -> expire(permit));
+        } else {
+            reject(permit);
+        }
+        return permit;
+    }
+
+    /**
+     * Adjusts the limit after a call to the API.
+     *
+     * @param dropped               whether the call failed in a way that suggests the API is overloaded
+     * @param durationInNanoseconds how long the call took
+     */
+    public void onSample(boolean dropped, long durationInNanoseconds) {
+        if (!enabled) {
+            return;
+        }
+        List<CompletableFuture<Permit>> handedOff;
+        lock.lock();
+        try {
+            if (dropped || durationInNanoseconds > latencyThresholdInNanoseconds) {
+                limit = Math.max(limit * backoffRatio, minLimit);
+            } else if (inFlight * 2 >= getLimit() && limit < maxLimit) {
+                limit = Math.min(limit + 1, maxLimit);
+                permitAvailable.signalAll();
+            }
+            handedOff = takeWaiters();
+        } finally {
+            lock.unlock();
+        }
+        handOff(handedOff);
+    }
+
+    private void release() {
+        List<CompletableFuture<Permit>> handedOff;
+        lock.lock();
+        try {
+            inFlight--;
+            handedOff = takeWaiters();
+            if (handedOff.isEmpty()) {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        handOff(handedOff);
+    }
+
+    /**
+     * Takes a permit for each queued waiter that can have one now. Must be called holding the lock; the waiters are
+     * completed by {@link #handOff} once it has been released, so their callbacks do not run under the lock.
+     */
+    private List<CompletableFuture<Permit>> takeWaiters() {
+        List<CompletableFuture<Permit>> handedOff = new ArrayList<>();
+        while (!waiters.isEmpty() && inFlight < getLimit()) {
+            inFlight++;
+            handedOff.add(waiters.poll());
+        }
+        return handedOff;
+    }
+
+    private void handOff(List<CompletableFuture<Permit>> handedOff) {
+        for (CompletableFuture<Permit> waiter : handedOff) {
+            if (!waiter.complete(this::release)) {
+                release();
+            }
+        }
+    }
+
+    private void expire(CompletableFuture<Permit> permit) {
+        boolean waiting;
+        lock.lock();
+        try {
+            waiting = waiters.remove(permit);
+        } finally {
+            lock.unlock();
+        }
+        if (waiting) {
+            reject(permit);
+        }
+    }
+
+    private void reject(CompletableFuture<Permit> permit) {
+        rejectedCounter.increment();
+        log.warn("{} concurrency limit of {} reached, hearing not sent", NAME, getLimit());
+        permit.completeExceptionally(new FutureHearingUnavailableException(NAME + " concurrency limit reached"));
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
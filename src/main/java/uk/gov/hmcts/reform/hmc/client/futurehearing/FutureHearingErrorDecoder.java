@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import feign.Request;
 import feign.Response;
 import feign.codec.ErrorDecoder;
@@ -14,7 +15,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,6 +27,13 @@ public class FutureHearingErrorDecoder implements ErrorDecoder {
     public static final String SERVER_ERROR = "Server error";
     public static final String REQUEST_NOT_FOUND = "Hearing request could not be found";
 
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public FutureHearingErrorDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     @Override
     public Exception decode(String methodKey, Response response) {
         ErrorDetails errorDetails = getResponseBody(response, ErrorDetails.class)
@@ -79,7 +89,7 @@ public class FutureHearingErrorDecoder implements ErrorDecoder {
                 bodyJson = new BufferedReader(new InputStreamReader(response.body().asInputStream()))
                     .lines().parallel().collect(Collectors.joining("\n"));
             }
-            return Optional.ofNullable(new ObjectMapper().readValue(bodyJson, klass));
+            return Optional.ofNullable(readers.computeIfAbsent(klass, objectMapper::readerFor).readValue(bodyJson));
         } catch (IOException e) {
             log.error("Response from FH failed with error code {}, error message {}", response.status(), bodyJson);
             return Optional.empty();
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of each HTTP call made by a Future Hearings client: DNS lookup, connecting, the TLS handshake,
+ * time to first byte and the whole call. DNS, connect and TLS are only recorded when a new connection is opened, so a
+ * drop in their counts relative to calls shows connections being reused from the pool.
+ */
+public class FutureHearingHttpMetrics implements EventListener.Factory {
+
+    private static final String CLIENT_TAG = "client";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String CONNECT = "hmc.outbound.http.client.connect";
+    private static final String CONNECT_DESCRIPTION = "New connections, including the TLS handshake";
+    private static final String CALL = "hmc.outbound.http.client.call";
+    private static final String CALL_DESCRIPTION = "Whole calls, from start to the response body being read";
+
+    private final Timer dnsTimer;
+    private final Timer connectTimer;
+    private final Timer connectFailedTimer;
+    private final Timer tlsTimer;
+    private final Timer firstByteTimer;
+    private final Timer callTimer;
+    private final Timer callFailedTimer;
+
+    public FutureHearingHttpMetrics(MeterRegistry meterRegistry, String client) {
+        Tags tags = Tags.of(CLIENT_TAG, client);
+        Tags success = tags.and(OUTCOME_TAG, "success");
+        Tags failure = tags.and(OUTCOME_TAG, "failure");
+        this.dnsTimer = timer(meterRegistry, "hmc.outbound.http.client.dns", "DNS lookups", tags);
+        this.connectTimer = timer(meterRegistry, CONNECT, CONNECT_DESCRIPTION, success);
+        this.connectFailedTimer = timer(meterRegistry, CONNECT, CONNECT_DESCRIPTION, failure);
+        this.tlsTimer = timer(meterRegistry, "hmc.outbound.http.client.tls", "TLS handshakes", tags);
+        this.firstByteTimer = timer(meterRegistry, "hmc.outbound.http.client.first.byte",
+                                    "Time from the start of a call to the first byte of the response", tags);
+        this.callTimer = timer(meterRegistry, CALL, CALL_DESCRIPTION, success);
+        this.callFailedTimer = timer(meterRegistry, CALL, CALL_DESCRIPTION, failure);
+    }
+
+    @Override
+    public EventListener create(Call call) {
+        return new Listener();
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long start) {
+        if (start != 0L) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Created per call, so the start times need no synchronisation.
+     */
+    private class Listener extends EventListener {
+
+        private long callStart;
+        private long dnsStart;
+        private long connectStart;
+        private long tlsStart;
+        private boolean firstByteRecorded;
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            record(dnsTimer, dnsStart);
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            tlsStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            record(tlsTimer, tlsStart);
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            record(connectTimer, connectStart);
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                                  IOException ioe) {
+            record(connectFailedTimer, connectStart);
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            // a follow-up request after a redirect or auth challenge starts a second response
+            if (!firstByteRecorded) {
+                firstByteRecorded = true;
+                record(firstByteTimer, callStart);
+            }
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            record(callTimer, callStart);
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            record(callFailedTimer, callStart);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Runs every request made by a Feign client through a {@link FutureHearingCircuitBreaker} and, optionally, a
+ * {@link FutureHearingBulkhead}, and reports how each call went to an optional
+ * {@link FutureHearingConcurrencyLimiter}.
+ *
+ * <p>The breaker sits around the HTTP client, so it sees each attempt made by a {@link feign.Retryer}. Connection
+ * failures and 5xx responses count as failures; 4xx responses are the caller's fault and count as successes. A call
+ * that is not permitted throws {@link uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException}, which
+ * Feign passes straight back to the caller without retrying. The limiter also treats a 429 as a sign of overload.
+ */
+public class FutureHearingResilienceCapability implements Capability {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final FutureHearingCircuitBreaker circuitBreaker;
+    private final FutureHearingBulkhead bulkhead;
+    private final FutureHearingConcurrencyLimiter concurrencyLimiter;
+
+    public FutureHearingResilienceCapability(FutureHearingCircuitBreaker circuitBreaker,
+                                             FutureHearingBulkhead bulkhead,
+                                             FutureHearingConcurrencyLimiter concurrencyLimiter) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        if (bulkhead != null) {
+            bulkhead.acquire();
+        }
+        try {
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                long duration = System.nanoTime() - start;
+                circuitBreaker.onResult(response.status() >= 500, duration);
+                onSample(response.status() >= 500 || response.status() == TOO_MANY_REQUESTS, duration);
+                return response;
+            } catch (IOException | RuntimeException e) {
+                long duration = System.nanoTime() - start;
+                circuitBreaker.onResult(true, duration);
+                onSample(true, duration);
+                throw e;
+            }
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private void onSample(boolean dropped, long durationInNanoseconds) {
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.onSample(dropped, durationInNanoseconds);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
+import feign.Request;
+import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 
 import java.time.Clock;
 
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingHttpClientConfiguration.FUTURE_HEARING_HTTP_CLIENT;
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingResilienceConfiguration.HMI_BULKHEAD;
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingResilienceConfiguration.HMI_CIRCUIT_BREAKER;
+
 public class HearingManagementInterfaceApiClientConfig {
 
     @Bean
@@ -13,4 +20,37 @@ public class HearingManagementInterfaceApiClientConfig {
         ApplicationParams applicationParams, @Qualifier("utcClock") Clock clock) {
         return new HearingManagementInterfaceRequestInterceptor(applicationParams, clock);
     }
+
+    @Bean
+    public FutureHearingResilienceCapability hearingManagementInterfaceResilienceCapability(
+        @Qualifier(HMI_CIRCUIT_BREAKER) FutureHearingCircuitBreaker circuitBreaker,
+        @Qualifier(HMI_BULKHEAD) FutureHearingBulkhead bulkhead,
+        FutureHearingConcurrencyLimiter concurrencyLimiter) {
+        return new FutureHearingResilienceCapability(circuitBreaker, bulkhead, concurrencyLimiter);
+    }
+
+    @Bean
+    public Request.Options hearingManagementInterfaceOptions(ApplicationParams applicationParams) {
+        return options(applicationParams);
+    }
+
+    @Bean
+    public OkHttpClient hearingManagementInterfaceHttpClient(
+        @Qualifier(FUTURE_HEARING_HTTP_CLIENT) okhttp3.OkHttpClient sharedClient,
+        MeterRegistry meterRegistry,
+        Request.Options options,
+        ApplicationParams applicationParams) {
+        return FutureHearingApiClientConfig.client(
+            sharedClient, meterRegistry, "hmi", options,
+            applicationParams.getHearingManagementInterfaceCallTimeoutInMilliseconds());
+    }
+
+    /**
+     * Returns the HMI connect and read timeouts, shared by the Feign client and the non-blocking client.
+     */
+    public static Request.Options options(ApplicationParams applicationParams) {
+        return FutureHearingApiClientConfig.options(
+            applicationParams.getHearingManagementInterfaceConnectTimeoutInMilliseconds(),
+            applicationParams.getHearingManagementInterfaceReadTimeoutInMilliseconds());
+    }
 }
@@ -0,0 +1,267 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Sends create, amend and delete hearing requests to HMI without blocking the caller, using OkHttp's asynchronous
+ * API. It mirrors {@link HearingManagementInterfaceApiClient}: the same headers are added by
+ * {@link HearingManagementInterfaceRequestInterceptor}, error responses are turned into exceptions by
+ * {@link FutureHearingErrorDecoder}, and each call goes through the HMI circuit breaker and bulkhead and is reported
+ * to the concurrency limiter as the Feign client's calls are.
+ *
+ * <p>The returned futures are completed on a small pool of callback threads rather than OkHttp's, as whatever
+ * follows, such as settling the Service Bus message, blocks.
+ *
+ * <p>A call's duration, reported to the breaker and limiter, is timed from when OkHttp's dispatcher starts running it
+ * rather than from when it was enqueued, so time spent waiting in the dispatcher is not taken as HMI being slow.
+ */
+@Slf4j
+public class HearingManagementInterfaceAsyncClient {
+
+    private static final MediaType JSON = MediaType.get(APPLICATION_JSON_VALUE);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String HEARINGS_PATH = "hearings";
+
+    private final OkHttpClient httpClient;
+    private final HttpUrl baseUrl;
+    private final HearingManagementInterfaceRequestInterceptor requestInterceptor;
+    private final ObjectWriter requestWriter;
+    private final ObjectReader responseReader;
+    private final FutureHearingErrorDecoder errorDecoder;
+    private final FutureHearingCircuitBreaker circuitBreaker;
+    private final FutureHearingBulkhead bulkhead;
+    private final FutureHearingConcurrencyLimiter concurrencyLimiter;
+    private final ExecutorService callbackExecutor;
+
+    public HearingManagementInterfaceAsyncClient(OkHttpClient httpClient,
+                                                 String baseUrl,
+                                                 HearingManagementInterfaceRequestInterceptor requestInterceptor,
+                                                 ObjectMapper objectMapper,
+                                                 FutureHearingCircuitBreaker circuitBreaker,
+                                                 FutureHearingBulkhead bulkhead,
+                                                 FutureHearingConcurrencyLimiter concurrencyLimiter,
+                                                 int callbackThreads) {
+        this.httpClient = httpClient.newBuilder()
+            .addInterceptor(HearingManagementInterfaceAsyncClient::startTimer)
+            .build();
+        this.baseUrl = HttpUrl.get(baseUrl);
+        this.requestInterceptor = requestInterceptor;
+        this.requestWriter = objectMapper.writer();
+        this.responseReader = objectMapper.readerFor(HearingManagementInterfaceResponse.class);
+        this.errorDecoder = new FutureHearingErrorDecoder(objectMapper);
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.concurrencyLimiter = concurrencyLimiter;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.callbackExecutor = new ThreadPoolExecutor(
+            Math.max(callbackThreads, 1), Math.max(callbackThreads, 1), 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "hmc-hmi-callback-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public CompletableFuture<HearingManagementInterfaceResponse> requestHearing(String token, JsonNode data) {
+        return send(Request.HttpMethod.POST, baseUrl.newBuilder().addPathSegment(HEARINGS_PATH).build(), token,
+                    data);
+    }
+
+    public CompletableFuture<HearingManagementInterfaceResponse> amendHearing(String caseListingRequestId,
+                                                                              String token, JsonNode data) {
+        return send(Request.HttpMethod.PUT, hearingUrl(caseListingRequestId), token, data);
+    }
+
+    public CompletableFuture<HearingManagementInterfaceResponse> deleteHearing(String caseListingRequestId,
+                                                                               String token, JsonNode data) {
+        return send(Request.HttpMethod.DELETE, hearingUrl(caseListingRequestId), token, data);
+    }
+
+    public void shutdown() {
+        callbackExecutor.shutdown();
+    }
+
+    private HttpUrl hearingUrl(String caseListingRequestId) {
+        return baseUrl.newBuilder().addPathSegment(HEARINGS_PATH).addPathSegment(caseListingRequestId).build();
+    }
+
+    /**
+     * Starts the call once the bulkhead has a permit for it, waiting for one without holding the calling thread. Throws
+     * straight away if the request cannot be serialised; a call that cannot be started, for example because the breaker
+     * is open, fails the returned future.
+     */
+    private CompletableFuture<HearingManagementInterfaceResponse> send(Request.HttpMethod method, HttpUrl url,
+                                                                       String token, JsonNode data) {
+        byte[] body;
+        try {
+            body = requestWriter.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialise hearing request", e);
+        }
+        Map<String, Collection<String>> headers = headers(token);
+        CompletableFuture<Void> permit = bulkhead == null
+            ? CompletableFuture.completedFuture(null) : bulkhead.acquireAsync();
+        return permit.thenCompose(ignored -> start(method, url, headers, body));
+    }
+
+    private CompletableFuture<HearingManagementInterfaceResponse> start(Request.HttpMethod method, HttpUrl url,
+                                                                        Map<String, Collection<String>> headers,
+                                                                        byte[] body) {
+        Request feignRequest = Request.create(method, url.toString(), headers, body, StandardCharsets.UTF_8, null);
+
+        CallTimer timer = new CallTimer();
+        okhttp3.Request.Builder requestBuilder = new okhttp3.Request.Builder()
+            .url(url)
+            .method(method.name(), RequestBody.create(body, JSON))
+            .tag(CallTimer.class, timer);
+        headers.forEach((name, values) -> values.forEach(value -> requestBuilder.addHeader(name, value)));
+
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (RuntimeException e) {
+            releaseBulkhead();
+            throw e;
+        }
+
+        CompletableFuture<HearingManagementInterfaceResponse> result = new CompletableFuture<>();
+        httpClient.newCall(requestBuilder.build()).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                onResult(true, true, timer);
+                complete(result, null, new RetryableException(-1, e.getMessage(), method, e, (Long) null,
+                                                              feignRequest));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                onResult(response.code() >= 500, response.code() >= 500 || response.code() == TOO_MANY_REQUESTS,
+                         timer);
+                try (response) {
+                    HearingManagementInterfaceResponse decoded = decode(response, feignRequest, method);
+                    complete(result, decoded, null);
+                } catch (Exception e) {
+                    complete(result, null, e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Collection<String>> headers(String token) {
+        RequestTemplate template = new RequestTemplate();
+        requestInterceptor.apply(template);
+        Map<String, Collection<String>> headers = new HashMap<>(template.headers());
+        headers.put(AUTHORIZATION, List.of(token));
+        headers.put(ACCEPT, List.of(APPLICATION_JSON_VALUE));
+        return headers;
+    }
+
+    private HearingManagementInterfaceResponse decode(Response response, Request feignRequest,
+                                                      Request.HttpMethod method) throws Exception {
+        ResponseBody responseBody = response.body();
+        byte[] body = responseBody == null ? new byte[0] : responseBody.bytes();
+        if (response.isSuccessful()) {
+            return body.length == 0 ? null : responseReader.readValue(body);
+        }
+        feign.Response feignResponse = feign.Response.builder()
+            .status(response.code())
+            .reason(response.message())
+            .headers(new HashMap<String, Collection<String>>(response.headers().toMultimap()))
+            .body(body)
+            .request(feignRequest)
+            .build();
+        throw errorDecoder.decode(HearingManagementInterfaceAsyncClient.class.getSimpleName() + "#" + method,
+                                  feignResponse);
+    }
+
+    private static Response startTimer(Interceptor.Chain chain) throws IOException {
+        CallTimer timer = chain.request().tag(CallTimer.class);
+        if (timer != null) {
+            timer.start();
+        }
+        return chain.proceed(chain.request());
+    }
+
+    private void onResult(boolean failed, boolean dropped, CallTimer timer) {
+        long duration = timer.elapsed();
+        releaseBulkhead();
+        circuitBreaker.onResult(failed, duration);
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.onSample(dropped, duration);
+        }
+    }
+
+    private void releaseBulkhead() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    private void complete(CompletableFuture<HearingManagementInterfaceResponse> result,
+                          HearingManagementInterfaceResponse response, Exception failure) {
+        Runnable completion = () -> {
+            if (failure == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        };
+        try {
+            callbackExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            log.debug("HMI callback pool is shut down, completing on the OkHttp thread");
+            completion.run();
+        }
+    }
+
+    /**
+     * Holds when a call started running, or when it was enqueued if it never ran.
+     */
+    private static final class CallTimer {
+        private volatile long start = System.nanoTime();
+
+        private void start() {
+            start = System.nanoTime();
+        }
+
+        private long elapsed() {
+            return System.nanoTime() - start;
+        }
+    }
+}
@@ -7,21 +7,86 @@ import org.springframework.boot.actuate.health.HealthIndicator;
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckException;
 import uk.gov.hmcts.reform.hmc.repository.FutureHearingRepository;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Reports the health of HMI, as returned by its private health endpoint.
+ *
+ * <p>With a refresh interval set, HMI is checked on a thread of its own every interval and {@link #health()} returns
+ * the last result along with its age, so health requests neither wait on HMI nor add load to it and Active Directory.
+ * With no interval, each health request checks HMI itself.
+ */
 @Slf4j
 public class HearingManagementInterfaceHealthIndicator implements HealthIndicator {
 
     private final FutureHearingRepository futureHearingRepository;
+    private final Clock clock;
+    private final ScheduledExecutorService refreshScheduler;
+    private final AtomicReference<CheckedHealth> lastCheck = new AtomicReference<>();
 
-    @Autowired
     public HearingManagementInterfaceHealthIndicator(FutureHearingRepository futureHearingRepository) {
+        this(futureHearingRepository, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    @Autowired
+    public HearingManagementInterfaceHealthIndicator(FutureHearingRepository futureHearingRepository, Clock clock,
+                                                     Duration refreshInterval) {
+        this(futureHearingRepository, clock, refreshInterval,
+             refreshInterval.isZero() || refreshInterval.isNegative() ? null
+                 : Executors.newSingleThreadScheduledExecutor(runnable -> {
+                     Thread thread = new Thread(runnable, "hmc-hmi-health-check");
+                     thread.setDaemon(true);
+                     return thread;
+                 }));
+    }
+
+    HearingManagementInterfaceHealthIndicator(FutureHearingRepository futureHearingRepository, Clock clock,
+                                              Duration refreshInterval, ScheduledExecutorService refreshScheduler) {
         this.futureHearingRepository = futureHearingRepository;
+        this.clock = clock;
+        this.refreshScheduler = refreshScheduler;
+        if (refreshScheduler != null) {
+            refreshScheduler.scheduleWithFixedDelay(this::refresh, 0L, refreshInterval.toMillis(),
+                                                    TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public Health health() {
+        if (refreshScheduler == null) {
+            return check();
+        }
+        CheckedHealth checkedHealth = lastCheck.get();
+        if (checkedHealth == null) {
+            return Health.unknown().withDetail("message", "HMI health has not been checked yet").build();
+        }
+        return Health.status(checkedHealth.health().getStatus())
+            .withDetails(checkedHealth.health().getDetails())
+            .withDetail("checkedAt", checkedHealth.checkedAt().toString())
+            .withDetail("ageInSeconds", Duration.between(checkedHealth.checkedAt(), clock.instant()).toSeconds())
+            .build();
+    }
+
+    public void shutdown() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+    }
+
+    void refresh() {
+        Health health = check();
+        lastCheck.set(new CheckedHealth(health, clock.instant()));
+    }
+
+    private Health check() {
         try {
             log.debug("Checking HMI health");
             HealthCheckResponse response = futureHearingRepository.privateHealthCheck();
@@ -70,4 +135,7 @@ public class HearingManagementInterfaceHealthIndicator implements HealthIndicato
             .withDetails(details)
             .build();
     }
+
+    private record CheckedHealth(Health health, Instant checkedAt) {
+    }
 }
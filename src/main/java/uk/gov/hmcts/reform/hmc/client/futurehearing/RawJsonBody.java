@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A JSON document kept as the UTF-8 bytes it was received as. Wrapped in a {@link JsonNode} by {@link #asJsonNode},
+ * it can be passed wherever a hearing payload is expected; Jackson writes the bytes to its output unchanged, without
+ * parsing them or building a tree, when the payload is sent to HMI.
+ *
+ * <p>The bytes are only decoded to a {@code String} if the payload is written as characters, for example when it is
+ * logged.
+ */
+public final class RawJsonBody implements SerializableString {
+
+    private final byte[] utf8;
+    private volatile String value;
+
+    private RawJsonBody(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    /**
+     * Wraps the bytes without copying them, so the caller must not change them afterwards.
+     */
+    public static JsonNode asJsonNode(byte[] utf8) {
+        return JsonNodeFactory.instance.rawValueNode(new RawValue(new RawJsonBody(utf8)));
+    }
+
+    @Override
+    public String getValue() {
+        String decoded = value;
+        if (decoded == null) {
+            decoded = new String(utf8, StandardCharsets.UTF_8);
+            value = decoded;
+        }
+        return decoded;
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return JsonStringEncoder.getInstance().quoteAsString(getValue());
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return utf8;
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return append(asQuotedUTF8(), buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        char[] quoted = asQuotedChars();
+        if (offset + quoted.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+        return quoted.length;
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        return append(utf8, buffer, offset);
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String decoded = getValue();
+        if (offset + decoded.length() > buffer.length) {
+            return -1;
+        }
+        decoded.getChars(0, decoded.length(), buffer, offset);
+        return decoded.length();
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        byte[] quoted = asQuotedUTF8();
+        out.write(quoted);
+        return quoted.length;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) {
+        return put(asQuotedUTF8(), buffer);
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        return put(utf8, buffer);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RawJsonBody body && Arrays.equals(utf8, body.utf8);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(utf8);
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private static int append(byte[] bytes, byte[] buffer, int offset) {
+        if (offset + bytes.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+        return bytes.length;
+    }
+
+    private static int put(byte[] bytes, ByteBuffer buffer) {
+        if (bytes.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(bytes);
+        return bytes.length;
+    }
+}
@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryTokenCache;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceApiClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Pays the cold-start costs of the outbound path before the first message is received, so the first messages after a
+ * deployment are not slowed by them. It fills the database pool, fetches an Active Directory token, opens a
+ * connection to HMI through its health endpoint, opens the Service Bus send links and runs sample messages through
+ * Jackson so the hot paths are compiled.
+ *
+ * <p>Each step is best effort. A step that fails is logged and the warm-up carries on, as the same work is retried
+ * when the first message needs it.
+ */
+@Slf4j
+@Component
+public class ApplicationWarmUp {
+
+    private static final String BEARER = "Bearer ";
+    private static final Duration LINK_TIMEOUT = Duration.ofSeconds(30);
+    private static final String SAMPLE_MESSAGE = """
+        {"hearingRequest":{"_case":{"caseIdHMCTS":"1111222233334444","caseListingRequestId":"2000000000",
+        "caseTitle":"Warm up","caseCourt":{"locationId":"1"},"caseJurisdiction":"AB"},
+        "listing":{"listingDuration":60,"listingJohs":[{"johCode":"1"}],"listingWelshHearingFlag":false}}}
+        """;
+
+    private final DataSource dataSource;
+    private final ActiveDirectoryTokenCache activeDirectoryTokenCache;
+    private final HearingManagementInterfaceApiClient hmiClient;
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int serializationIterations;
+
+    public ApplicationWarmUp(DataSource dataSource,
+                             ActiveDirectoryTokenCache activeDirectoryTokenCache,
+                             HearingManagementInterfaceApiClient hmiClient,
+                             ServiceBusSenderRegistry senderRegistry,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             ApplicationParams applicationParams) {
+        this.dataSource = dataSource;
+        this.activeDirectoryTokenCache = activeDirectoryTokenCache;
+        this.hmiClient = hmiClient;
+        this.senderRegistry = senderRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = applicationParams.isWarmUpEnabled();
+        this.serializationIterations = applicationParams.getWarmUpSerializationIterations();
+    }
+
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        log.info("Warming up before receiving messages");
+        runStep("database", this::warmUpDatabase);
+        runStep("active-directory", activeDirectoryTokenCache::getAccessToken);
+        runStep("hmi", () -> hmiClient.privateHealthCheck(BEARER + activeDirectoryTokenCache.getAccessToken()));
+        runStep("service-bus", this::warmUpServiceBus);
+        runStep("serialization", this::warmUpSerialization);
+        log.info("Warm-up completed in {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void runStep(String step, Runnable warmUpStep) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            warmUpStep.run();
+        } catch (Exception e) {
+            outcome = "failure";
+            log.warn("Warm-up of {} failed, carrying on: {}", step, e.getMessage());
+        } finally {
+            long duration = System.nanoTime() - start;
+            Timer.builder("hmc.outbound.warm.up")
+                .description("Time taken by each warm-up step at startup")
+                .tag("step", step)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+            log.debug("Warm-up of {} took {}ms", step, TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+    }
+
+    /**
+     * Holds as many connections as the pool keeps idle at once, so all of them are opened now.
+     */
+    private void warmUpDatabase() {
+        int connectionCount = 1;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                connectionCount = Math.max(dataSource.unwrap(HikariDataSource.class).getMinimumIdle(), 1);
+            }
+            List<Connection> connections = new ArrayList<>(connectionCount);
+            try {
+                for (int i = 0; i < connectionCount; i++) {
+                    Connection connection = dataSource.getConnection();
+                    connections.add(connection);
+                    connection.isValid(5);
+                }
+            } finally {
+                for (Connection connection : connections) {
+                    connection.close();
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Opens the send links used while processing messages. Creating a batch needs the link, to learn the maximum
+     * message size. The receive link can only be opened by starting the processor, so it is not warmed up here.
+     */
+    private void warmUpServiceBus() {
+        senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE);
+        senderRegistry.createMessageBatch(ServiceBusDestination.OUTBOUND_QUEUE);
+        senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC).createMessageBatch().block(LINK_TIMEOUT);
+    }
+
+    /**
+     * Reads the sample message from bytes through a JsonNode reader, as messages from the queue are read.
+     */
+    private void warmUpSerialization() {
+        ObjectReader jsonReader = objectMapper.readerFor(JsonNode.class);
+        byte[] sampleMessage = SAMPLE_MESSAGE.getBytes(StandardCharsets.UTF_8);
+        try {
+            for (int i = 0; i < serializationIterations; i++) {
+                JsonNode message = jsonReader.readTree(sampleMessage);
+                objectMapper.writeValueAsString(message);
+                objectMapper.writeValueAsString(SyncMessage.builder().listAssistHttpStatus(202).build());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the one OkHttp client shared by the HMI and Active Directory Feign clients. Each Feign client derives its
+ * own client from it with {@link OkHttpClient#newBuilder()} to set its timeouts and metrics, which keeps the
+ * connection pool and dispatcher shared.
+ *
+ * <p>The dispatcher only limits asynchronous calls. OkHttp's default of five calls per host would leave async HMI
+ * requests that already hold a bulkhead permit waiting in its queue, so its limits are raised to at least the number
+ * of messages the consumer can have in flight and the bulkhead size.
+ */
+@Slf4j
+@Configuration
+public class FutureHearingHttpClientConfiguration {
+
+    public static final String FUTURE_HEARING_HTTP_CLIENT = "futureHearingHttpClient";
+
+    @Bean(FUTURE_HEARING_HTTP_CLIENT)
+    public OkHttpClient futureHearingHttpClient(
+        MeterRegistry meterRegistry, ApplicationParams applicationParams) {
+        ConnectionPool connectionPool = new ConnectionPool(applicationParams.getHttpClientMaxIdleConnections(),
+                                                           applicationParams.getHttpClientKeepAliveInSeconds(),
+                                                           TimeUnit.SECONDS);
+        Gauge.builder("hmc.outbound.http.client.connections", connectionPool, ConnectionPool::connectionCount)
+            .description("Connections open in the Future Hearings connection pool")
+            .register(meterRegistry);
+        Gauge.builder("hmc.outbound.http.client.connections.idle", connectionPool, ConnectionPool::idleConnectionCount)
+            .description("Idle connections in the Future Hearings connection pool")
+            .register(meterRegistry);
+        // HTTP/2 is only used where the server offers it during the TLS handshake. OkHttp's HTTP/2 writer holds a
+        // monitor while writing to the socket, which pins a virtual thread to its carrier, so it is not used with
+        // virtual threads
+        boolean http2Enabled = applicationParams.isHttpClientHttp2Enabled();
+        boolean virtualThreads = applicationParams.isVirtualThreadsEnabled();
+        if (http2Enabled && virtualThreads) {
+            log.info("HTTP/2 disabled for the Future Hearings clients as virtual threads are enabled");
+        }
+        List<Protocol> protocols = http2Enabled && !virtualThreads
+            ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1);
+        return new OkHttpClient.Builder()
+            .connectionPool(connectionPool)
+            .dispatcher(dispatcher(applicationParams))
+            .protocols(protocols)
+            .build();
+    }
+
+    static Dispatcher dispatcher(ApplicationParams applicationParams) {
+        int required = Math.max(Math.max(applicationParams.getConsumerMaxInFlight(),
+                                         applicationParams.getBulkheadMaxConcurrentCalls()), 1);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(Math.max(applicationParams.getHttpClientMaxRequestsPerHost(), required));
+        dispatcher.setMaxRequests(Math.max(applicationParams.getHttpClientMaxRequests(),
+                                           dispatcher.getMaxRequestsPerHost()));
+        return dispatcher;
+    }
+}
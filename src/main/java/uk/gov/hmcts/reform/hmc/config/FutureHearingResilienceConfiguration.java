@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingBulkhead;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
+
+import java.time.Duration;
+
+/**
+ * Creates the circuit breakers for the HMI and Active Directory clients, which share one set of thresholds, and the
+ * bulkhead and concurrency limiter for HMI. They are attached to the Feign clients by
+ * {@code HearingManagementInterfaceApiClientConfig} and {@code ActiveDirectoryApiClientConfig}.
+ */
+@Configuration
+public class FutureHearingResilienceConfiguration {
+
+    public static final String HMI_CIRCUIT_BREAKER = "hmiCircuitBreaker";
+    public static final String ACTIVE_DIRECTORY_CIRCUIT_BREAKER = "activeDirectoryCircuitBreaker";
+    public static final String HMI_BULKHEAD = "hmiBulkhead";
+
+    private final MeterRegistry meterRegistry;
+    private final ApplicationParams applicationParams;
+
+    public FutureHearingResilienceConfiguration(MeterRegistry meterRegistry, ApplicationParams applicationParams) {
+        this.meterRegistry = meterRegistry;
+        this.applicationParams = applicationParams;
+    }
+
+    @Bean(HMI_CIRCUIT_BREAKER)
+    public FutureHearingCircuitBreaker hmiCircuitBreaker() {
+        return circuitBreaker("hmi");
+    }
+
+    @Bean(ACTIVE_DIRECTORY_CIRCUIT_BREAKER)
+    public FutureHearingCircuitBreaker activeDirectoryCircuitBreaker() {
+        return circuitBreaker("active-directory");
+    }
+
+    @Bean(HMI_BULKHEAD)
+    public FutureHearingBulkhead hmiBulkhead() {
+        return new FutureHearingBulkhead("hmi", meterRegistry, applicationParams.getBulkheadMaxConcurrentCalls(),
+                                         applicationParams.getBulkheadMaxWaitInMilliseconds());
+    }
+
+    @Bean
+    public FutureHearingConcurrencyLimiter hmiConcurrencyLimiter() {
+        return new FutureHearingConcurrencyLimiter(meterRegistry, applicationParams);
+    }
+
+    private FutureHearingCircuitBreaker circuitBreaker(String name) {
+        return new FutureHearingCircuitBreaker(
+            name, meterRegistry, applicationParams.isCircuitBreakerEnabled(),
+            applicationParams.getCircuitBreakerSlidingWindowSize(),
+            applicationParams.getCircuitBreakerMinimumNumberOfCalls(),
+            applicationParams.getCircuitBreakerFailureRateThreshold(),
+            Duration.ofMillis(applicationParams.getCircuitBreakerSlowCallDurationThresholdInMilliseconds()),
+            applicationParams.getCircuitBreakerSlowCallRateThreshold(),
+            Duration.ofSeconds(applicationParams.getCircuitBreakerWaitDurationInOpenStateInSeconds()),
+            applicationParams.getCircuitBreakerPermittedCallsInHalfOpenState());
+    }
+}
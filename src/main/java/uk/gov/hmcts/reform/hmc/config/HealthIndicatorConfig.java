@@ -1,16 +1,33 @@
 package uk.gov.hmcts.reform.hmc.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreakerHealthIndicator;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceHealthIndicator;
 import uk.gov.hmcts.reform.hmc.repository.FutureHearingRepository;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class HealthIndicatorConfig {
 
     @Bean
     public HearingManagementInterfaceHealthIndicator hearingManagementInterfaceHealthIndicator(
-        FutureHearingRepository futureHearingRepository) {
-        return new HearingManagementInterfaceHealthIndicator(futureHearingRepository);
+        FutureHearingRepository futureHearingRepository,
+        @Qualifier("utcClock") Clock clock,
+        ApplicationParams applicationParams) {
+        Duration refreshInterval = Duration.ofSeconds(applicationParams.getHealthCheckRefreshIntervalInSeconds());
+        return new HearingManagementInterfaceHealthIndicator(futureHearingRepository, clock, refreshInterval);
+    }
+
+    @Bean
+    public FutureHearingCircuitBreakerHealthIndicator circuitBreakersHealthIndicator(
+        List<FutureHearingCircuitBreaker> circuitBreakers) {
+        return new FutureHearingCircuitBreakerHealthIndicator(circuitBreakers);
     }
 }
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingApiClientConfig;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingBulkhead;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceApiClientConfig;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceAsyncClient;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceRequestInterceptor;
+
+import java.time.Clock;
+
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingHttpClientConfiguration.FUTURE_HEARING_HTTP_CLIENT;
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingResilienceConfiguration.HMI_BULKHEAD;
+import static uk.gov.hmcts.reform.hmc.config.FutureHearingResilienceConfiguration.HMI_CIRCUIT_BREAKER;
+
+/**
+ * Creates the non-blocking HMI client when {@code fh.hmi.client-mode} is {@code async}. It uses the same timeouts,
+ * connection pool and resilience settings as the Feign client, which is still used for the health check and
+ * pending requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "fh.hmi.client-mode", havingValue = "async")
+public class HearingManagementInterfaceAsyncClientConfiguration {
+
+    @Bean
+    public HearingManagementInterfaceAsyncClient hearingManagementInterfaceAsyncClient(
+        @Qualifier(FUTURE_HEARING_HTTP_CLIENT) OkHttpClient sharedClient,
+        MeterRegistry meterRegistry,
+        ApplicationParams applicationParams,
+        @Qualifier("utcClock") Clock clock,
+        ObjectMapper objectMapper,
+        @Qualifier(HMI_CIRCUIT_BREAKER) FutureHearingCircuitBreaker circuitBreaker,
+        @Qualifier(HMI_BULKHEAD) FutureHearingBulkhead bulkhead,
+        FutureHearingConcurrencyLimiter concurrencyLimiter) {
+        OkHttpClient httpClient = FutureHearingApiClientConfig.httpClient(
+            sharedClient, meterRegistry, "hmi", HearingManagementInterfaceApiClientConfig.options(applicationParams),
+            applicationParams.getHearingManagementInterfaceCallTimeoutInMilliseconds());
+        return new HearingManagementInterfaceAsyncClient(
+            httpClient, applicationParams.getHearingManagementInterfaceHost(),
+            new HearingManagementInterfaceRequestInterceptor(applicationParams, clock), objectMapper,
+            circuitBreaker, bulkhead, concurrencyLimiter, applicationParams.getAsyncCallbackThreads());
+    }
+}
@@ -0,0 +1,294 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Publishes hearing status messages to the CFT topic asynchronously, in batches.
+ *
+ * <p>Messages are buffered in a bounded queue and sent as {@link ServiceBusMessageBatch}es on a shared
+ * {@link ServiceBusSenderAsyncClient}, so callers do not wait on topic latency. When the buffer is full callers
+ * block for up to the enqueue timeout.
+ *
+ * <p>Only one batch is sent at a time, in the order the messages were buffered, and a failed batch is retried in place
+ * with an increasing delay before anything behind it is sent, so the messages for a hearing reach the topic in the
+ * order they were published. Each call to {@link #publish} returns the outcome for that hearing; once a batch has run
+ * out of retries its messages fail, as do the later messages for the same hearings in the same flush.
+ */
+@Slf4j
+@Component
+public class HearingStatusTopicPublisher {
+
+    private static final long IDLE_POLL_MILLISECONDS = 1000L;
+    private static final String OUTCOME = "outcome";
+
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxMessages;
+    private final long maxWaitInMilliseconds;
+    private final long enqueueTimeoutInMilliseconds;
+    private final int maxAttempts;
+    private final long retryDelayInMilliseconds;
+    private final long shutdownTimeoutInSeconds;
+
+    private final BlockingQueue<PendingPublish> buffer;
+    private final List<PendingPublish> unsent = Collections.synchronizedList(new ArrayList<>());
+    private final DistributionSummary batchSizeSummary;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public HearingStatusTopicPublisher(ServiceBusSenderRegistry senderRegistry,
+                                       MeterRegistry meterRegistry,
+                                       ApplicationParams applicationParams) {
+        this.senderRegistry = senderRegistry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = applicationParams.isTopicPublisherAsyncEnabled();
+        this.maxMessages = Math.max(applicationParams.getTopicPublisherMaxMessages(), 1);
+        this.maxWaitInMilliseconds = applicationParams.getTopicPublisherMaxWaitInMilliseconds();
+        this.enqueueTimeoutInMilliseconds = applicationParams.getTopicPublisherEnqueueTimeoutInMilliseconds();
+        this.maxAttempts = Math.max(applicationParams.getTopicPublisherMaxAttempts(), 1);
+        this.retryDelayInMilliseconds = applicationParams.getTopicPublisherRetryDelayInMilliseconds();
+        this.shutdownTimeoutInSeconds = applicationParams.getTopicPublisherShutdownTimeoutInSeconds();
+        int bufferCapacity = Math.max(applicationParams.getTopicPublisherBufferCapacity(), 1);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        Gauge.builder("hmc.outbound.topic.publish.buffered", buffer, BlockingQueue::size)
+            .description("Hearing status messages waiting to be published to the CFT topic")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("hmc.outbound.topic.publish.batch.size")
+            .description("Hearing status messages sent per CFT topic batch")
+            .register(meterRegistry);
+
+        if (enabled) {
+            running = true;
+            flusher = new Thread(this::run, "hmc-topic-publisher");
+            flusher.setDaemon(true);
+            flusher.start();
+            log.info("Asynchronous topic publishing enabled, buffer of {}, max {} message(s) or {}ms per batch",
+                     bufferCapacity, this.maxMessages, this.maxWaitInMilliseconds);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers the message for publishing, blocking while the buffer is full. The returned future completes once the
+     * message has been sent, or fails once it has been rejected or has run out of retries.
+     */
+    public CompletableFuture<Void> publish(String hearingId, ServiceBusMessage message) {
+        PendingPublish pendingPublish = new PendingPublish(hearingId, message, new CompletableFuture<>());
+        if (!running) {
+            reject(pendingPublish, "topic publisher is not running");
+            return pendingPublish.result();
+        }
+        try {
+            if (!buffer.offer(pendingPublish, enqueueTimeoutInMilliseconds, TimeUnit.MILLISECONDS)) {
+                reject(pendingPublish, "topic publish buffer is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(pendingPublish, "interrupted waiting for space in the topic publish buffer");
+        }
+        return pendingPublish.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutInSeconds));
+            List<PendingPublish> remaining = takeUnsent();
+            buffer.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                log.info("Publishing {} buffered hearing status message(s) on shutdown", remaining.size());
+                flush(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        takeUnsent().forEach(pendingPublish -> fail(pendingPublish,
+                                                    new IllegalStateException("topic publisher shut down")));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingPublish> messages = collect();
+                if (!messages.isEmpty()) {
+                    flush(messages);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error publishing to topic", e);
+            }
+        }
+    }
+
+    private List<PendingPublish> collect() throws InterruptedException {
+        List<PendingPublish> messages = new ArrayList<>();
+        PendingPublish first = buffer.poll(IDLE_POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return messages;
+        }
+        messages.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitInMilliseconds);
+        try {
+            while (messages.size() < maxMessages) {
+                long remaining = deadline - System.nanoTime();
+                PendingPublish next = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : buffer.poll();
+                if (next == null) {
+                    break;
+                }
+                messages.add(next);
+            }
+        } catch (InterruptedException e) {
+            unsent.addAll(messages);
+            throw e;
+        }
+        return messages;
+    }
+
+    /**
+     * Sends the messages in order, one batch at a time. If interrupted, the messages not yet sent are kept for
+     * {@link #shutdown()} to send ahead of anything still buffered.
+     */
+    private void flush(List<PendingPublish> messages) throws InterruptedException {
+        ServiceBusSenderAsyncClient sender = senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC);
+        Set<String> failedHearings = new HashSet<>();
+        List<PendingPublish> inBatch = new ArrayList<>();
+        ServiceBusMessageBatch batch = null;
+        int next = 0;
+        try {
+            while (next < messages.size()) {
+                PendingPublish pendingPublish = messages.get(next);
+                if (failedHearings.contains(pendingPublish.hearingId())) {
+                    fail(pendingPublish,
+                         new IllegalStateException("An earlier message for the hearing was not published"));
+                    next++;
+                } else if (batch == null) {
+                    batch = retryInPlace(messages.size() - next, () -> sender.createMessageBatch().block());
+                } else if (batch.tryAddMessage(pendingPublish.message())) {
+                    inBatch.add(pendingPublish);
+                    next++;
+                } else if (inBatch.isEmpty()) {
+                    fail(pendingPublish,
+                         new IllegalArgumentException("Message is larger than the maximum batch size"));
+                    failedHearings.add(pendingPublish.hearingId());
+                    next++;
+                } else {
+                    sendBatch(sender, batch, inBatch, failedHearings);
+                    inBatch = new ArrayList<>();
+                    batch = null;
+                }
+            }
+            if (!inBatch.isEmpty()) {
+                sendBatch(sender, batch, inBatch, failedHearings);
+            }
+        } catch (InterruptedException e) {
+            unsent.addAll(inBatch);
+            unsent.addAll(messages.subList(next, messages.size()));
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Failed to create a batch for {} message(s) to topic: {}", messages.size() - next,
+                      e.getMessage());
+            messages.subList(next, messages.size()).forEach(pendingPublish -> fail(pendingPublish, e));
+        }
+    }
+
+    private void sendBatch(ServiceBusSenderAsyncClient sender, ServiceBusMessageBatch batch,
+                           List<PendingPublish> inBatch, Set<String> failedHearings) throws InterruptedException {
+        try {
+            retryInPlace(inBatch.size(), () -> sender.sendMessages(batch).block());
+        } catch (RuntimeException e) {
+            log.error("Failed to publish batch of {} message(s) to topic: {}", inBatch.size(), e.getMessage());
+            inBatch.forEach(pendingPublish -> {
+                failedHearings.add(pendingPublish.hearingId());
+                fail(pendingPublish, e);
+            });
+            return;
+        }
+        batchSizeSummary.record(inBatch.size());
+        inBatch.forEach(this::succeed);
+    }
+
+    /**
+     * Runs the action, retrying it with an increasing delay until it succeeds or runs out of attempts. Nothing behind
+     * the messages is sent meanwhile. Once shutting down a failure is not retried, so shutdown is not held up.
+     */
+    private <T> T retryInPlace(int messageCount, Supplier<T> action) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !running) {
+                    throw e;
+                }
+                long delay = retryDelayInMilliseconds * attempt;
+                log.warn("Failed to publish {} message(s) to topic, retrying in {}ms (attempt {} of {}): {}",
+                         messageCount, delay, attempt + 1, maxAttempts, e.getMessage());
+                meterRegistry.counter("hmc.outbound.topic.publish", OUTCOME, "retried").increment(messageCount);
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private List<PendingPublish> takeUnsent() {
+        synchronized (unsent) {
+            List<PendingPublish> taken = new ArrayList<>(unsent);
+            unsent.clear();
+            return taken;
+        }
+    }
+
+    private void succeed(PendingPublish pendingPublish) {
+        outcomeCounter("sent");
+        pendingPublish.result().complete(null);
+    }
+
+    private void fail(PendingPublish pendingPublish, Throwable error) {
+        outcomeCounter("failed");
+        pendingPublish.result().completeExceptionally(error);
+    }
+
+    private void reject(PendingPublish pendingPublish, String reason) {
+        outcomeCounter("rejected");
+        pendingPublish.result().completeExceptionally(new IllegalStateException(reason));
+    }
+
+    private void outcomeCounter(String outcome) {
+        meterRegistry.counter("hmc.outbound.topic.publish", OUTCOME, outcome).increment();
+    }
+
+    private record PendingPublish(String hearingId, ServiceBusMessage message, CompletableFuture<Void> result) {
+    }
+}
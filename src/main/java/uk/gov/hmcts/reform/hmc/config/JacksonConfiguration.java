@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes the application's shared {@code ObjectMapper}, which Spring Boot builds from the {@code spring.jackson}
+ * properties and every {@link Module} bean. The same mapper is used by the Feign clients, the message processing, the
+ * error decoder and the JSON column converter, so its serializer and deserializer caches are filled once.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Replaces reflection with generated lambdas for reading and writing bean properties.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -1,10 +1,11 @@
 package uk.gov.hmcts.reform.hmc.config;
 
 import com.azure.messaging.servicebus.ServiceBusProcessorClient;
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
 
 @AutoConfigureAfter(QueueClientConfig.class)
@@ -14,13 +15,21 @@ import org.springframework.context.annotation.Configuration;
 public class MessageReceiverConfiguration {
 
     private ServiceBusProcessorClient processedMessagesQueueClient;
+    private ApplicationWarmUp applicationWarmUp;
 
-    MessageReceiverConfiguration(ServiceBusProcessorClient processedMessagesQueueClient) {
+    MessageReceiverConfiguration(ServiceBusProcessorClient processedMessagesQueueClient,
+                                 ApplicationWarmUp applicationWarmUp) {
         this.processedMessagesQueueClient = processedMessagesQueueClient;
+        this.applicationWarmUp = applicationWarmUp;
     }
 
-    @PostConstruct()
+    /**
+     * Starts receiving once the application is ready and warmed up. Readiness is only reported once this returns,
+     * so an instance does not take traffic until it has warmed up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
     public void registerMessageHandlers() {
+        applicationWarmUp.warmUp();
         log.info("Registering service bus processor client");
         processedMessagesQueueClient.start();
     }
@@ -1,16 +1,15 @@
 package uk.gov.hmcts.reform.hmc.config;
 
 
-import com.azure.core.util.ConfigurationBuilder;
-import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusMessage;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.errorhandling.SyncResponseSendException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
-import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE;
-import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE_VALUE;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.ERROR_PROCESSING_MESSAGE;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_FROM_HMI;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_HMI_OUTBOUND_ADAPTER;
@@ -21,40 +20,71 @@ import static uk.gov.hmcts.reform.hmc.constants.Constants.WRITE;
 public class MessageSenderConfiguration {
 
     private final ApplicationParams applicationParams;
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final SyncResponseBatchPublisher batchPublisher;
 
     private static final String MESSAGE_TYPE = "message_type";
     private static final String HEARING_ID = "hearing_id";
 
-    public MessageSenderConfiguration(ApplicationParams applicationParams) {
+    public MessageSenderConfiguration(ApplicationParams applicationParams,
+                                      ServiceBusSenderRegistry senderRegistry,
+                                      SyncResponseBatchPublisher batchPublisher) {
         this.applicationParams = applicationParams;
+        this.senderRegistry = senderRegistry;
+        this.batchPublisher = batchPublisher;
     }
 
-    public void sendMessage(String message, String messageType, String hearingId) {
+    /**
+     * Sends the message to the inbound queue. When sync responses are batched, a failure to send the batch holding the
+     * message is thrown as a {@link SyncResponseSendException}, so the outbound message is retried rather than
+     * completed; otherwise send failures are logged.
+     */
+    public void sendMessage(byte[] message, String messageType, String hearingId) {
+        ServiceBusMessage serviceBusMessage = new ServiceBusMessage(message);
+        serviceBusMessage.getApplicationProperties().put(MESSAGE_TYPE, messageType);
+        serviceBusMessage.getApplicationProperties().put(HEARING_ID, hearingId);
+        if (batchPublisher.isEnabled()) {
+            sendInBatch(serviceBusMessage, messageType, hearingId);
+            return;
+        }
         try {
-            ServiceBusMessage serviceBusMessage = new ServiceBusMessage(message);
-            serviceBusMessage.getApplicationProperties().put(MESSAGE_TYPE, messageType);
-            serviceBusMessage.getApplicationProperties().put(HEARING_ID, hearingId);
-            ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(applicationParams.getInboundConnectionString())
-                .configuration(new ConfigurationBuilder()
-                                   .putProperty(AMQP_CACHE, AMQP_CACHE_VALUE)
-                                   .build())
-                .sender()
-                .queueName(applicationParams.getInboundQueueName())
-                .buildClient();
-            log.debug("Connected to Queue {}", applicationParams.getOutboundQueueName());
-            senderClient.sendMessage(serviceBusMessage);
-            log.debug("Message has been sent to the Queue {}, hearingId {}, messageType {}",
-                      applicationParams.getOutboundQueueName(), hearingId, messageType);
+            senderRegistry.send(ServiceBusDestination.INBOUND_QUEUE, serviceBusMessage);
+            logSent(messageType, hearingId);
         } catch (Exception e) {
-            log.error("Error while sending the message to queue:{}", e.getMessage());
-            log.error(
-                ERROR_PROCESSING_MESSAGE,
-                HMC_HMI_OUTBOUND_ADAPTER,
-                HMC_FROM_HMI,
-                WRITE,
-                hearingId
-            );
+            logSendError(e, hearingId);
+        }
+    }
+
+    private void sendInBatch(ServiceBusMessage serviceBusMessage, String messageType, String hearingId) {
+        try {
+            batchPublisher.send(serviceBusMessage);
+            logSent(messageType, hearingId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logSendError(e, hearingId);
+            throw new SyncResponseSendException("Interrupted sending message to queue", e);
+        } catch (ExecutionException e) {
+            logSendError(e, hearingId);
+            throw new SyncResponseSendException("Error while sending the message to queue", e.getCause());
+        } catch (TimeoutException e) {
+            logSendError(e, hearingId);
+            throw new SyncResponseSendException("Timed out waiting to send the message to queue", e);
         }
     }
+
+    private void logSent(String messageType, String hearingId) {
+        log.debug("Message has been sent to the Queue {}, hearingId {}, messageType {}",
+                  applicationParams.getInboundQueueName(), hearingId, messageType);
+    }
+
+    private void logSendError(Exception e, String hearingId) {
+        log.error("Error while sending the message to queue:{}", e.getMessage());
+        log.error(
+            ERROR_PROCESSING_MESSAGE,
+            HMC_HMI_OUTBOUND_ADAPTER,
+            HMC_FROM_HMI,
+            WRITE,
+            hearingId
+        );
+    }
 }
@@ -1,16 +1,13 @@
 package uk.gov.hmcts.reform.hmc.config;
 
-import com.azure.core.util.ConfigurationBuilder;
-import com.azure.messaging.servicebus.ServiceBusClientBuilder;
 import com.azure.messaging.servicebus.ServiceBusMessage;
-import com.azure.messaging.servicebus.ServiceBusSenderClient;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 
-import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE;
-import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE_VALUE;
+import java.util.concurrent.CompletableFuture;
+
 import static uk.gov.hmcts.reform.hmc.constants.Constants.ERROR_SENDING_MESSAGE;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_ID;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMCTS_DEPLOYMENT_ID;
@@ -23,41 +20,57 @@ import static uk.gov.hmcts.reform.hmc.constants.Constants.WRITE;
 @Component
 public class MessageSenderToTopicConfiguration {
     private final ApplicationParams applicationParams;
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final HearingStatusTopicPublisher topicPublisher;
 
-    public MessageSenderToTopicConfiguration(ApplicationParams applicationParams) {
+    public MessageSenderToTopicConfiguration(ApplicationParams applicationParams,
+                                             ServiceBusSenderRegistry senderRegistry,
+                                             HearingStatusTopicPublisher topicPublisher) {
         this.applicationParams = applicationParams;
+        this.senderRegistry = senderRegistry;
+        this.topicPublisher = topicPublisher;
     }
 
-    public void sendMessage(String message, String hmctsServiceId, String hearingId, String deploymentId) {
+    /**
+     * Sends the hearing status message to the CFT topic. The returned future completes once the message has been
+     * sent, or fails, after the error has been logged, if it could not be sent.
+     */
+    public CompletableFuture<Void> sendMessage(byte[] message, String hmctsServiceId, String hearingId,
+                                               String deploymentId) {
         try {
-            final ServiceBusSenderClient senderClient = new ServiceBusClientBuilder()
-                .connectionString(applicationParams.getExternalConnectionString())
-                .configuration(new ConfigurationBuilder()
-                                   .putProperty(AMQP_CACHE, AMQP_CACHE_VALUE)
-                                   .build())
-                .sender()
-                .topicName(applicationParams.getExternalTopicName())
-                .buildClient();
-
-            log.debug("Connected to Topic {}", applicationParams.getExternalTopicName());
             ServiceBusMessage serviceBusMessage = new ServiceBusMessage(message);
             serviceBusMessage.getApplicationProperties().put(HMCTS_SERVICE_ID, hmctsServiceId);
             serviceBusMessage.getApplicationProperties().put(HEARING_ID, hearingId);
             if (!StringUtils.isEmpty(deploymentId)) {
                 serviceBusMessage.getApplicationProperties().put(HMCTS_DEPLOYMENT_ID, deploymentId);
             }
-            log.debug("Sending request for hmctsServiceCode  :{} , {} , {} ",hmctsServiceId, message);
-            senderClient.sendMessage(serviceBusMessage);
+            log.debug("Sending request for hmctsServiceCode  :{} , hearingId {} ", hmctsServiceId, hearingId);
+            if (topicPublisher.isEnabled()) {
+                return topicPublisher.publish(hearingId, serviceBusMessage).whenComplete((unused, error) -> {
+                    if (error != null) {
+                        logSendFailure(hearingId, error);
+                    } else {
+                        log.debug("Message has been sent to the topic {}", applicationParams.getExternalTopicName());
+                    }
+                });
+            }
+            senderRegistry.send(ServiceBusDestination.EXTERNAL_TOPIC, serviceBusMessage);
             log.debug("Message has been sent to the topic {}", applicationParams.getExternalTopicName());
+            return CompletableFuture.completedFuture(null);
         } catch (Exception e) {
-            log.error("Error while sending the message to topic:{}", e.getMessage());
-            log.error(
-                ERROR_SENDING_MESSAGE,
-                HMC_HMI_OUTBOUND_ADAPTER,
-                TOPIC_HMC_TO_CFT,
-                WRITE,
-                hearingId
-            );
+            logSendFailure(hearingId, e);
+            return CompletableFuture.failedFuture(e);
         }
     }
+
+    private void logSendFailure(String hearingId, Throwable error) {
+        log.error("Error while sending the message to topic:{}", error.getMessage());
+        log.error(
+            ERROR_SENDING_MESSAGE,
+            HMC_HMI_OUTBOUND_ADAPTER,
+            TOPIC_HMC_TO_CFT,
+            WRITE,
+            hearingId
+        );
+    }
 }
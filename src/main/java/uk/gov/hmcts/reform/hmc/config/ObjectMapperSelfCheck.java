@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks at start-up that the application has one shared {@link ObjectMapper}, configured as expected. Each mapper
+ * builds its own serializer and deserializer caches, so a second mapper bean pays for them again, and is likely to
+ * miss the {@code spring.jackson} settings. Problems are logged as warnings rather than stopping the application.
+ */
+@Slf4j
+@Component
+public class ObjectMapperSelfCheck {
+
+    private final Map<String, ObjectMapper> objectMappers;
+    private final ObjectMapper objectMapper;
+    private final boolean blackbirdEnabled;
+
+    public ObjectMapperSelfCheck(Map<String, ObjectMapper> objectMappers,
+                                 ObjectMapper objectMapper,
+                                 ApplicationParams applicationParams) {
+        this.objectMappers = objectMappers;
+        this.objectMapper = objectMapper;
+        this.blackbirdEnabled = applicationParams.isBlackbirdEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        problems().forEach(problem -> log.warn("ObjectMapper self-check: {}", problem));
+    }
+
+    List<String> problems() {
+        List<String> problems = new ArrayList<>();
+        objectMappers.forEach((name, mapper) -> {
+            if (mapper != objectMapper) {
+                problems.add("bean '" + name + "' is a separate ObjectMapper; use the shared one instead");
+            }
+        });
+        if (blackbirdEnabled && !objectMapper.getRegisteredModuleIds().contains(BlackbirdModule.class.getName())) {
+            problems.add("the shared ObjectMapper does not have the Blackbird module registered");
+        }
+        return problems;
+    }
+}
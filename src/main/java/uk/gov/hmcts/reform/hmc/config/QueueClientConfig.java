@@ -8,6 +8,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 import uk.gov.hmcts.reform.hmc.service.MessageProcessor;
+import uk.gov.hmcts.reform.hmc.service.PartitionedMessageDispatcher;
+
+import java.time.Duration;
 
 @Slf4j
 @Configuration
@@ -21,7 +24,8 @@ public class QueueClientConfig {
 
     @Bean("processed-messages-client")
     public ServiceBusProcessorClient processedMessageQueueClient(
-            MessageProcessor messageHandler) {
+            MessageProcessor messageHandler,
+            PartitionedMessageDispatcher messageDispatcher) {
         log.info("Creating & returning new service bus processor client.");
         log.debug("Connected to outboundConnection {}", applicationParams.getOutboundConnectionString());
         return new ServiceBusClientBuilder()
@@ -30,7 +34,10 @@ public class QueueClientConfig {
             .queueName(applicationParams.getOutboundQueueName())
             .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
             .disableAutoComplete()
-            .processMessage(messageHandler::processMessage)
+            // a single receive callback keeps messages in queue order; concurrency comes from the dispatcher
+            .maxConcurrentCalls(1)
+            .maxAutoLockRenewDuration(Duration.ofSeconds(applicationParams.getConsumerMaxAutoLockRenewInSeconds()))
+            .processMessage(messageDispatcher::dispatch)
             .processError(messageHandler::processException)
             .buildProcessorClient();
     }
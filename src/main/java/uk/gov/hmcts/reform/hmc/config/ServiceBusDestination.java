@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+public enum ServiceBusDestination {
+    INBOUND_QUEUE,
+    OUTBOUND_QUEUE,
+    EXTERNAL_TOPIC
+}
@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverAsyncClient;
+import com.azure.messaging.servicebus.models.ServiceBusReceiveMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renews the lock of outbound queue messages that have been handed over by the processor's receive callback but not
+ * yet settled.
+ *
+ * <p>The processor only renews a message's lock while its receive callback is running. Once
+ * {@code PartitionedMessageDispatcher} has queued a message on a partition the callback returns, and a message still
+ * waiting behind others for the same partition or hearing would otherwise lose its lock and be redelivered while it
+ * is being processed. Each renewal is made halfway through the time left on the lock, until the message is settled or
+ * {@code max-auto-lock-renew-in-seconds} has passed since it was dispatched. Renewals go through a receiver of their
+ * own that never receives messages; a value of zero or less turns renewal off.
+ */
+@Slf4j
+@Component
+public class ServiceBusMessageLockRenewer {
+
+    private static final Renewal NO_RENEWAL = () -> { };
+
+    private final ServiceBusReceiverAsyncClient receiver;
+    private final long maxRenewInNanoseconds;
+    private final ScheduledExecutorService scheduler;
+    private final Counter renewedCounter;
+    private final Counter failedCounter;
+
+    @Autowired
+    public ServiceBusMessageLockRenewer(ApplicationParams applicationParams, MeterRegistry meterRegistry) {
+        this(applicationParams.getConsumerMaxAutoLockRenewInSeconds() > 0
+                 ? new ServiceBusClientBuilder()
+                     .connectionString(applicationParams.getOutboundConnectionString())
+                     .receiver()
+                     .queueName(applicationParams.getOutboundQueueName())
+                     .receiveMode(ServiceBusReceiveMode.PEEK_LOCK)
+                     .disableAutoComplete()
+                     .buildAsyncClient()
+                 : null,
+             Duration.ofSeconds(applicationParams.getConsumerMaxAutoLockRenewInSeconds()),
+             meterRegistry);
+    }
+
+    ServiceBusMessageLockRenewer(ServiceBusReceiverAsyncClient receiver, Duration maxRenew,
+                                 MeterRegistry meterRegistry) {
+        this.receiver = receiver;
+        this.maxRenewInNanoseconds = maxRenew.toNanos();
+        this.scheduler = receiver == null ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-outbound-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.renewedCounter = Counter.builder("hmc.outbound.consumer.lock.renewal")
+            .description("Outbound queue message locks renewed while waiting on a partition")
+            .tag("outcome", "renewed")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("hmc.outbound.consumer.lock.renewal")
+            .description("Outbound queue message locks renewed while waiting on a partition")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Starts renewing the message's lock. Renewal stops once the returned renewal is closed, which must be done when
+     * the message has been settled.
+     */
+    public Renewal renew(ServiceBusReceivedMessage message) {
+        if (receiver == null) {
+            return NO_RENEWAL;
+        }
+        MessageRenewal renewal = new MessageRenewal(message, System.nanoTime() + maxRenewInNanoseconds);
+        renewal.scheduleBefore(message.getLockedUntil());
+        return renewal;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (receiver == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        receiver.close();
+    }
+
+    @FunctionalInterface
+    public interface Renewal extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final class MessageRenewal implements Renewal {
+        private final ServiceBusReceivedMessage message;
+        private final long deadline;
+        private volatile boolean closed;
+        private volatile ScheduledFuture<?> next;
+
+        private MessageRenewal(ServiceBusReceivedMessage message, long deadline) {
+            this.message = message;
+            this.deadline = deadline;
+        }
+
+        private void scheduleBefore(OffsetDateTime lockedUntil) {
+            if (closed || lockedUntil == null) {
+                return;
+            }
+            long remaining = Duration.between(OffsetDateTime.now(), lockedUntil).toMillis();
+            long delay = Math.max(remaining / 2, 0L);
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) > deadline) {
+                return;
+            }
+            try {
+                next = scheduler.schedule(this::renewNow, delay, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                log.debug("Lock renewal for message with id '{}' not scheduled: {}", message.getMessageId(),
+                          e.getMessage());
+            }
+        }
+
+        private void renewNow() {
+            if (closed) {
+                return;
+            }
+            receiver.renewMessageLock(message).subscribe(
+                lockedUntil -> {
+                    renewedCounter.increment();
+                    scheduleBefore(lockedUntil);
+                },
+                error -> {
+                    failedCounter.increment();
+                    log.warn("Could not renew lock for message with id '{}': {}", message.getMessageId(),
+                             error.getMessage());
+                }
+            );
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            ScheduledFuture<?> scheduled = next;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
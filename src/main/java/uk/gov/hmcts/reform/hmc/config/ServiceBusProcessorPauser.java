@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusProcessorClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Stops taking messages off the outbound queue while any Future Hearings circuit breaker is open, so they wait on the
+ * queue instead of being received only to fail. Receiving starts again once the breaker goes half open, letting the
+ * next messages through as its probe calls.
+ *
+ * <p>The processor is stopped and started on a thread of its own, as a breaker may change state on a receive thread.
+ */
+@Slf4j
+@Component
+public class ServiceBusProcessorPauser {
+
+    private final ServiceBusProcessorClient processorClient;
+    private final List<FutureHearingCircuitBreaker> circuitBreakers;
+    private final ExecutorService executor;
+    private volatile boolean shuttingDown;
+
+    public ServiceBusProcessorPauser(@Qualifier("processed-messages-client") ServiceBusProcessorClient processorClient,
+                                     List<FutureHearingCircuitBreaker> circuitBreakers) {
+        this.processorClient = processorClient;
+        this.circuitBreakers = circuitBreakers;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-service-bus-pauser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        circuitBreakers.forEach(circuitBreaker -> circuitBreaker.addStateListener(state -> onStateChange()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+
+    private void onStateChange() {
+        try {
+            executor.execute(this::update);
+        } catch (RejectedExecutionException e) {
+            log.debug("Ignoring circuit breaker state change during shutdown");
+        }
+    }
+
+    void update() {
+        if (shuttingDown) {
+            return;
+        }
+        boolean open = circuitBreakers.stream()
+            .anyMatch(circuitBreaker -> circuitBreaker.getState() == FutureHearingCircuitBreaker.State.OPEN);
+        if (open && processorClient.isRunning()) {
+            log.warn("Future Hearings circuit breaker is open, pausing the outbound queue processor");
+            processorClient.stop();
+        } else if (!open && !processorClient.isRunning()) {
+            log.info("Future Hearings circuit breakers are no longer open, resuming the outbound queue processor");
+            processorClient.start();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.core.util.ConfigurationBuilder;
+import com.azure.messaging.servicebus.ServiceBusClientBuilder;
+import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE;
+import static uk.gov.hmcts.reform.hmc.constants.Constants.AMQP_CACHE_VALUE;
+
+/**
+ * Keeps one long-lived {@link ServiceBusSenderClient}, and where asked for one {@link ServiceBusSenderAsyncClient},
+ * per destination.
+ *
+ * <p>A sender is created the first time its destination is used and reused for every message after that. A sender
+ * may be in use by several threads at once, so it is never closed while the application runs; the client recovers
+ * its own connection and link after a failure. A send that fails with a transient {@link ServiceBusException} is
+ * retried once on the same sender, and any other failure is passed to the caller. All senders are closed when the
+ * application shuts down.
+ */
+@Slf4j
+@Component
+public class ServiceBusSenderRegistry {
+
+    private static final String DESTINATION_TAG = "destination";
+    private static final String SYNC_CLIENT = "sync";
+    private static final String ASYNC_CLIENT = "async";
+
+    private final Function<ServiceBusDestination, ServiceBusSenderClient> senderFactory;
+    private final Function<ServiceBusDestination, ServiceBusSenderAsyncClient> asyncSenderFactory;
+    private final Map<ServiceBusDestination, ServiceBusSenderClient> senders = new ConcurrentHashMap<>();
+    private final Map<ServiceBusDestination, ServiceBusSenderAsyncClient> asyncSenders = new ConcurrentHashMap<>();
+    private final Map<ServiceBusDestination, DestinationMeters> meters = new EnumMap<>(ServiceBusDestination.class);
+
+    @Autowired
+    public ServiceBusSenderRegistry(ApplicationParams applicationParams, MeterRegistry meterRegistry) {
+        this(destination -> senderBuilder(applicationParams, destination).buildClient(),
+             destination -> senderBuilder(applicationParams, destination).buildAsyncClient(),
+             meterRegistry);
+    }
+
+    ServiceBusSenderRegistry(Function<ServiceBusDestination, ServiceBusSenderClient> senderFactory,
+                             Function<ServiceBusDestination, ServiceBusSenderAsyncClient> asyncSenderFactory,
+                             MeterRegistry meterRegistry) {
+        this.senderFactory = senderFactory;
+        this.asyncSenderFactory = asyncSenderFactory;
+        for (ServiceBusDestination destination : ServiceBusDestination.values()) {
+            meters.put(destination, DestinationMeters.register(destination, meterRegistry));
+        }
+    }
+
+    public void send(ServiceBusDestination destination, ServiceBusMessage message) {
+        execute(destination, sender -> sender.sendMessage(message));
+    }
+
+    /**
+     * Creates an empty batch sized for the destination's sender. Send it with
+     * {@link #sendBatch(ServiceBusDestination, ServiceBusMessageBatch)}.
+     */
+    public ServiceBusMessageBatch createMessageBatch(ServiceBusDestination destination) {
+        return getSender(destination).createMessageBatch();
+    }
+
+    public void sendBatch(ServiceBusDestination destination, ServiceBusMessageBatch batch) {
+        execute(destination, sender -> sender.sendMessages(batch));
+    }
+
+    /**
+     * Returns the shared asynchronous sender for the destination, creating it if needed. Callers handle their own
+     * retries; like the synchronous senders it recovers its own connection, so it is kept after a failed send.
+     */
+    public ServiceBusSenderAsyncClient getAsyncSender(ServiceBusDestination destination) {
+        ServiceBusSenderAsyncClient sender = asyncSenders.get(destination);
+        if (sender != null) {
+            meters.get(destination).asyncReused().increment();
+            return sender;
+        }
+        return asyncSenders.computeIfAbsent(destination, key -> {
+            log.debug("Creating asynchronous Service Bus sender for {}", key);
+            meters.get(key).asyncCreated().increment();
+            return asyncSenderFactory.apply(key);
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        senders.forEach((destination, sender) -> closeQuietly(destination, sender::close));
+        senders.clear();
+        asyncSenders.forEach((destination, sender) -> closeQuietly(destination, sender::close));
+        asyncSenders.clear();
+    }
+
+    private void execute(ServiceBusDestination destination, Consumer<ServiceBusSenderClient> operation) {
+        long start = System.nanoTime();
+        DestinationMeters destinationMeters = meters.get(destination);
+        try {
+            executeWithRetry(destination, operation);
+            destinationMeters.sendSucceeded().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            destinationMeters.sendFailed().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private void executeWithRetry(ServiceBusDestination destination, Consumer<ServiceBusSenderClient> operation) {
+        ServiceBusSenderClient sender = getSender(destination);
+        try {
+            operation.accept(sender);
+        } catch (ServiceBusException e) {
+            if (!e.isTransient()) {
+                throw e;
+            }
+            log.warn("Send to {} failed with a transient error, retrying: {}", destination, e.getMessage());
+            operation.accept(sender);
+        }
+    }
+
+    private ServiceBusSenderClient getSender(ServiceBusDestination destination) {
+        ServiceBusSenderClient sender = senders.get(destination);
+        if (sender != null) {
+            meters.get(destination).syncReused().increment();
+            return sender;
+        }
+        return senders.computeIfAbsent(destination, key -> {
+            log.debug("Creating Service Bus sender for {}", key);
+            meters.get(key).syncCreated().increment();
+            return senderFactory.apply(key);
+        });
+    }
+
+
+    private static void closeQuietly(ServiceBusDestination destination, Runnable close) {
+        try {
+            close.run();
+        } catch (Exception e) {
+            log.warn("Failed to close Service Bus sender for {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private static ServiceBusClientBuilder.ServiceBusSenderClientBuilder senderBuilder(
+        ApplicationParams applicationParams, ServiceBusDestination destination) {
+        String connectionString = switch (destination) {
+            case INBOUND_QUEUE -> applicationParams.getInboundConnectionString();
+            case OUTBOUND_QUEUE -> applicationParams.getOutboundConnectionString();
+            case EXTERNAL_TOPIC -> applicationParams.getExternalConnectionString();
+        };
+        ServiceBusClientBuilder.ServiceBusSenderClientBuilder builder = new ServiceBusClientBuilder()
+            .connectionString(connectionString)
+            .configuration(new ConfigurationBuilder()
+                               .putProperty(AMQP_CACHE, AMQP_CACHE_VALUE)
+                               .build())
+            .sender();
+        return switch (destination) {
+            case INBOUND_QUEUE -> builder.queueName(applicationParams.getInboundQueueName());
+            case OUTBOUND_QUEUE -> builder.queueName(applicationParams.getOutboundQueueName());
+            case EXTERNAL_TOPIC -> builder.topicName(applicationParams.getExternalTopicName());
+        };
+    }
+
+    private record DestinationMeters(Timer sendSucceeded, Timer sendFailed, Counter syncCreated, Counter syncReused,
+                                     Counter asyncCreated, Counter asyncReused) {
+
+        static DestinationMeters register(ServiceBusDestination destination, MeterRegistry meterRegistry) {
+            return new DestinationMeters(sendTimer(destination, "success", meterRegistry),
+                                         sendTimer(destination, "failure", meterRegistry),
+                                         senderCounter(destination, SYNC_CLIENT, "created", meterRegistry),
+                                         senderCounter(destination, SYNC_CLIENT, "reused", meterRegistry),
+                                         senderCounter(destination, ASYNC_CLIENT, "created", meterRegistry),
+                                         senderCounter(destination, ASYNC_CLIENT, "reused", meterRegistry));
+        }
+
+        private static Timer sendTimer(ServiceBusDestination destination, String outcome,
+                                       MeterRegistry meterRegistry) {
+            return Timer.builder("hmc.outbound.servicebus.send")
+                .description("Time taken to send a message or batch to Service Bus")
+                .tag(DESTINATION_TAG, destination.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+        }
+
+        private static Counter senderCounter(ServiceBusDestination destination, String client, String result,
+                                             MeterRegistry meterRegistry) {
+            return Counter.builder("hmc.outbound.servicebus.sender")
+                .description("Service Bus sender lookups, by whether a sender was reused or created")
+                .tag(DESTINATION_TAG, destination.name())
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes LA_SYNC_HEARING_RESPONSE messages to the inbound queue in micro-batches.
+ *
+ * <p>Messages handed to {@link #send(ServiceBusMessage)} are collected for up to the configured wait time or message
+ * count and sent together as one or more {@link ServiceBusMessageBatch}es, split where the size limit requires it.
+ * {@code send} blocks until the batch holding the message has been accepted by Service Bus, so the caller only
+ * completes its own message once the response has been sent, and only gives up waiting on a message that has not
+ * yet been put in a batch. Batching is disabled by default.
+ */
+@Slf4j
+@Component
+public class SyncResponseBatchPublisher {
+
+    private static final long IDLE_POLL_MILLISECONDS = 1000L;
+
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final boolean enabled;
+    private final int maxMessages;
+    private final long maxWaitInMilliseconds;
+    private final long sendTimeoutInSeconds;
+    private final DistributionSummary batchSizeSummary;
+
+    private final BlockingQueue<PendingMessage> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public SyncResponseBatchPublisher(ServiceBusSenderRegistry senderRegistry,
+                                      MeterRegistry meterRegistry,
+                                      ApplicationParams applicationParams) {
+        this.senderRegistry = senderRegistry;
+        this.enabled = applicationParams.isSyncResponseBatchEnabled();
+        this.maxMessages = Math.max(applicationParams.getSyncResponseBatchMaxMessages(), 1);
+        this.maxWaitInMilliseconds = applicationParams.getSyncResponseBatchMaxWaitInMilliseconds();
+        this.sendTimeoutInSeconds = applicationParams.getSyncResponseBatchSendTimeoutInSeconds();
+        this.batchSizeSummary = DistributionSummary.builder("hmc.outbound.sync.response.batch.size")
+            .description("LA_SYNC_HEARING_RESPONSE messages sent per Service Bus batch")
+            .register(meterRegistry);
+
+        if (enabled) {
+            running = true;
+            flusher = new Thread(this::run, "hmc-sync-response-publisher");
+            flusher.setDaemon(true);
+            flusher.start();
+            log.info("Sync response batching enabled, max {} message(s) or {}ms per batch",
+                     this.maxMessages, this.maxWaitInMilliseconds);
+        } else {
+            flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the message for the next batch and waits until that batch has been sent. A {@link TimeoutException} means
+     * the message was taken off the queue unsent; once it is in a batch being sent the outcome of that batch is
+     * awaited instead, so a caller that retries after a timeout does not send the response twice.
+     */
+    public void send(ServiceBusMessage message) throws InterruptedException, ExecutionException, TimeoutException {
+        PendingMessage pendingMessage = enqueue(message);
+        try {
+            pendingMessage.result().get(sendTimeoutInSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pendingMessage)) {
+                throw e;
+            }
+            log.warn("Sync response still being sent after {} seconds, waiting for its batch", sendTimeoutInSeconds);
+            pendingMessage.result().get();
+        }
+    }
+
+    CompletableFuture<Void> publish(ServiceBusMessage message) {
+        return enqueue(message).result();
+    }
+
+    private PendingMessage enqueue(ServiceBusMessage message) {
+        PendingMessage pendingMessage = new PendingMessage(message, new CompletableFuture<>());
+        if (!running) {
+            pendingMessage.result().completeExceptionally(
+                new IllegalStateException("Sync response batch publisher is not running"));
+            return pendingMessage;
+        }
+        queue.add(pendingMessage);
+        return pendingMessage;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(sendTimeoutInSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} sync response(s) on shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingMessage> messages = collect();
+                if (!messages.isEmpty()) {
+                    flush(messages);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error publishing sync responses", e);
+            }
+        }
+    }
+
+    private List<PendingMessage> collect() throws InterruptedException {
+        List<PendingMessage> messages = new ArrayList<>();
+        PendingMessage first = queue.poll(IDLE_POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return messages;
+        }
+        messages.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitInMilliseconds);
+        while (messages.size() < maxMessages) {
+            long remaining = deadline - System.nanoTime();
+            PendingMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                break;
+            }
+            messages.add(next);
+        }
+        return messages;
+    }
+
+    private void flush(List<PendingMessage> messages) {
+        List<PendingMessage> inBatch = new ArrayList<>();
+        ServiceBusMessageBatch batch = null;
+        try {
+            for (PendingMessage pendingMessage : messages) {
+                if (batch == null) {
+                    batch = senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE);
+                }
+                if (batch.tryAddMessage(pendingMessage.message())) {
+                    inBatch.add(pendingMessage);
+                    continue;
+                }
+                if (inBatch.isEmpty()) {
+                    pendingMessage.result().completeExceptionally(new IllegalArgumentException(
+                        "Sync response is larger than the maximum batch size"));
+                    continue;
+                }
+                sendBatch(batch, inBatch);
+                inBatch = new ArrayList<>();
+                batch = senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE);
+                if (batch.tryAddMessage(pendingMessage.message())) {
+                    inBatch.add(pendingMessage);
+                } else {
+                    pendingMessage.result().completeExceptionally(new IllegalArgumentException(
+                        "Sync response is larger than the maximum batch size"));
+                }
+            }
+            if (!inBatch.isEmpty()) {
+                sendBatch(batch, inBatch);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while sending sync responses to queue:{}", e.getMessage());
+            messages.forEach(pendingMessage -> pendingMessage.result().completeExceptionally(e));
+        }
+    }
+
+    private void sendBatch(ServiceBusMessageBatch batch, List<PendingMessage> inBatch) {
+        try {
+            senderRegistry.sendBatch(ServiceBusDestination.INBOUND_QUEUE, batch);
+            batchSizeSummary.record(inBatch.size());
+            log.debug("Sent batch of {} sync response(s) to the inbound queue", inBatch.size());
+            inBatch.forEach(pendingMessage -> pendingMessage.result().complete(null));
+        } catch (RuntimeException e) {
+            log.error("Error while sending batch of {} sync response(s) to queue:{}", inBatch.size(), e.getMessage());
+            inBatch.forEach(pendingMessage -> pendingMessage.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingMessage(ServiceBusMessage message, CompletableFuture<Void> result) {
+    }
+}
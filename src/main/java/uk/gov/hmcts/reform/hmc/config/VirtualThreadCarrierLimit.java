@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Caps the number of carrier threads that run virtual threads at {@code threads.virtual.max-carriers} when virtual
+ * threads are enabled. The JDK reads the cap once, when the first virtual thread starts, so it is set as a system
+ * property before any bean is created. A cap already given on the command line is left alone.
+ *
+ * <p>On Java 21 a virtual thread that blocks inside {@code synchronized} code keeps its carrier. At most one message
+ * per partition and one pending request per worker run at a time, so a warning is logged when the cap leaves no
+ * carrier free if all of them were pinned.
+ *
+ * <p>It runs before the application's beans exist, so it reads the settings from the environment rather than from
+ * {@code ApplicationParams}; their defaults are in {@code application.yaml} as for every other setting.
+ */
+public class VirtualThreadCarrierLimit implements EnvironmentPostProcessor {
+
+    static final String PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+    static final String MAX_POOL_SIZE = "jdk.virtualThreadScheduler.maxPoolSize";
+
+    private final Log log;
+
+    public VirtualThreadCarrierLimit(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(VirtualThreadCarrierLimit.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getRequiredProperty("spring.threads.virtual.enabled", Boolean.class)) {
+            return;
+        }
+        int maxCarriers = environment.getRequiredProperty("threads.virtual.max-carriers", Integer.class);
+        if (maxCarriers <= 0 || System.getProperty(PARALLELISM) != null) {
+            return;
+        }
+        System.setProperty(PARALLELISM, String.valueOf(maxCarriers));
+        System.setProperty(MAX_POOL_SIZE, String.valueOf(maxCarriers));
+
+        int partitions = environment.getRequiredProperty("azure.jms.servicebus.consumer.partitions", Integer.class);
+        int workers = environment.getRequiredProperty("pending.request.workers", Integer.class);
+        if (maxCarriers <= partitions + workers) {
+            log.warn(String.format("Virtual threads are limited to %d carrier(s), which %d partition(s) and %d "
+                                       + "pending request worker(s) could all pin", maxCarriers, partitions, workers));
+        }
+    }
+}
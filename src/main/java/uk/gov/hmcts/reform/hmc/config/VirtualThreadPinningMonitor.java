@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier, from the JDK's {@code jdk.VirtualThreadPinned} flight recorder
+ * event. A virtual thread is pinned when it blocks inside {@code synchronized} code or a native frame, typically in a
+ * library, and holds an OS thread for as long as it blocks. Pins longer than the threshold are timed as
+ * {@code hmc.outbound.virtual.thread.pinned} and logged with the frames where they happened.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Timer pinnedTimer;
+    private final RecordingStream recordingStream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, ApplicationParams applicationParams) {
+        this(meterRegistry, applicationParams.getVirtualThreadPinnedThresholdInMilliseconds());
+    }
+
+    VirtualThreadPinningMonitor(MeterRegistry meterRegistry, long thresholdInMilliseconds) {
+        this.pinnedTimer = Timer.builder("hmc.outbound.virtual.thread.pinned")
+            .description("Time virtual threads spent pinned to their carrier")
+            .register(meterRegistry);
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdInMilliseconds)).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recordingStream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned to its carrier for {}ms at {}", event.getDuration().toMillis(),
+                 topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::describe)
+            .collect(Collectors.joining(" <- "));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+            + frame.getLineNumber();
+    }
+}
@@ -6,6 +6,7 @@ public final class Constants {
     }
 
     public static final String HEARING_ID = "hearing_id";
+    public static final String HEARING_REQUEST_ACCEPTED = "hearing_request_accepted";
     public static final String  HMC_HMI_OUTBOUND_ADAPTER = "<Hmc hmi outbound adapter>";
     public static final String WRITE = "<WRITE>";
     public static final String READ = "<READ>";
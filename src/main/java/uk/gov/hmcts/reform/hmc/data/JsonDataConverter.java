@@ -1,19 +1,24 @@
 package uk.gov.hmcts.reform.hmc.data;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
 import java.io.IOException;
 
+/**
+ * Converts JSON columns to and from {@link JsonNode}. Hibernate creates the converter through Spring, so it reads
+ * with the application's shared {@link ObjectMapper} rather than one of its own.
+ */
 @Converter(autoApply = true)
 public class JsonDataConverter implements AttributeConverter<JsonNode, String> {
-    private static ObjectMapper mapper = new ObjectMapper();
 
-    static {
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final ObjectReader jsonReader;
+
+    public JsonDataConverter(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(JsonNode.class);
     }
 
     @Override
@@ -24,7 +29,7 @@ public class JsonDataConverter implements AttributeConverter<JsonNode, String> {
     @Override
     public JsonNode convertToEntityAttribute(final String dataValue) {
         try {
-            return (null == dataValue ? null : mapper.readTree(dataValue));
+            return (null == dataValue ? null : jsonReader.readTree(dataValue));
         } catch (IOException e) {
             throw new RuntimeException("Unable to deserialize to json field", e);
         }
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.hmc.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A claimed pending request without its message, used to page through the queue. The full
+ * {@link PendingRequestEntity} is only loaded when the request is processed.
+ */
+public interface QueuedPendingRequest {
+
+    Long getId();
+
+    Long getHearingId();
+
+    LocalDateTime getSubmittedDateTime();
+
+    /**
+     * When the request was last tried before it was claimed. Claiming a request stamps its last tried date time with
+     * the time of the claim, so a claim that is never released can be recognised as stranded.
+     */
+    LocalDateTime getLastTriedDateTime();
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+/**
+ * Thrown instead of calling Future Hearings while its circuit breaker is open, its bulkhead is full or the HMI
+ * concurrency limit is reached. The request was never sent, so it is always safe to retry.
+ */
+public class FutureHearingUnavailableException extends RuntimeException {
+
+    public FutureHearingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps, per hearing, the order of the messages scheduled back onto the outbound queue by
+ * {@link MessageRedeliveryScheduler}, so that a later message for the hearing cannot overtake one that is waiting to
+ * be redelivered.
+ *
+ * <p>A hearing is only tracked while it has copies outstanding. The copy at the head of a hearing's queue may be
+ * processed; any other message for the hearing is deferred until after the last copy. A copy that has not arrived
+ * {@link #STALE_AFTER} after its scheduled time, for instance because another instance received it, is dropped so the
+ * rest of the hearing's messages are not held back for good. The order is held in memory, so it is only kept for
+ * messages received by this instance.
+ */
+@Slf4j
+class HearingRedeliveryQueue {
+
+    static final Duration STALE_AFTER = Duration.ofMinutes(5);
+    static final Duration DEFER_GAP = Duration.ofSeconds(1);
+
+    private final Map<String, Redeliveries> redeliveriesByHearing = new HashMap<>();
+
+    /**
+     * Returns when the message should be redelivered if it must wait behind the hearing's outstanding copies, or
+     * empty if it can be processed now. A copy at the head of the queue is taken off it, as it is about to be
+     * processed.
+     */
+    synchronized Optional<OffsetDateTime> deferUntil(String hearingId, String messageId, OffsetDateTime now) {
+        Redeliveries redeliveries = redeliveriesByHearing.get(hearingId);
+        if (redeliveries == null) {
+            return Optional.empty();
+        }
+        redeliveries.dropStale(hearingId, now);
+        if (redeliveries.copies.isEmpty()) {
+            redeliveriesByHearing.remove(hearingId);
+            return Optional.empty();
+        }
+        if (redeliveries.copies.peekFirst().messageId().equals(messageId)) {
+            redeliveries.copies.removeFirst();
+            if (redeliveries.copies.isEmpty()) {
+                redeliveriesByHearing.remove(hearingId);
+            } else {
+                redeliveries.inProgress = messageId;
+            }
+            return Optional.empty();
+        }
+        OffsetDateTime last = redeliveries.lastEnqueueTime();
+        return Optional.of((last.isAfter(now) ? last : now).plus(DEFER_GAP));
+    }
+
+    /**
+     * Records a copy scheduled in place of a message. The copy of the message being processed goes back to the head of
+     * its hearing's queue, the copy of a deferred message keeps its place, and any other copy joins the end. Hearings
+     * left with only stale copies are forgotten.
+     */
+    synchronized void scheduled(String hearingId, String messageId, String copyMessageId, OffsetDateTime enqueueTime,
+                                OffsetDateTime now) {
+        redeliveriesByHearing.entrySet().removeIf(entry -> {
+            entry.getValue().dropStale(entry.getKey(), now);
+            return entry.getValue().copies.isEmpty();
+        });
+        Redeliveries redeliveries = redeliveriesByHearing.computeIfAbsent(hearingId, id -> new Redeliveries());
+        Copy copy = new Copy(copyMessageId, enqueueTime);
+        if (messageId.equals(redeliveries.inProgress)) {
+            redeliveries.inProgress = null;
+            redeliveries.copies.addFirst(copy);
+            return;
+        }
+        Deque<Copy> copies = new ArrayDeque<>(redeliveries.copies.size() + 1);
+        boolean replaced = false;
+        for (Copy existing : redeliveries.copies) {
+            if (existing.messageId().equals(messageId)) {
+                copies.addLast(copy);
+                replaced = true;
+            } else {
+                copies.addLast(existing);
+            }
+        }
+        if (!replaced) {
+            copies.addLast(copy);
+        }
+        redeliveries.copies = copies;
+    }
+
+    private static final class Redeliveries {
+        private Deque<Copy> copies = new ArrayDeque<>();
+        private String inProgress;
+
+        private void dropStale(String hearingId, OffsetDateTime now) {
+            Iterator<Copy> iterator = copies.iterator();
+            while (iterator.hasNext()) {
+                Copy copy = iterator.next();
+                if (copy.enqueueTime().plus(STALE_AFTER).isBefore(now)) {
+                    log.warn("Message with id '{}' for hearing {} was due at {} and has not arrived, no longer "
+                                 + "holding back later messages for it", copy.messageId(), hearingId,
+                             copy.enqueueTime());
+                    iterator.remove();
+                }
+            }
+        }
+
+        private OffsetDateTime lastEnqueueTime() {
+            OffsetDateTime last = copies.peekFirst().enqueueTime();
+            for (Copy copy : copies) {
+                if (copy.enqueueTime().isAfter(last)) {
+                    last = copy.enqueueTime();
+                }
+            }
+            return last;
+        }
+    }
+
+    private record Copy(String messageId, OffsetDateTime enqueueTime) {
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+/**
+ * Thrown when a hearing status message could not be published to the CFT topic, so the pending request's
+ * transaction is rolled back and the request is picked up again by a later sweep.
+ */
+public class HearingStatusPublishException extends RuntimeException {
+
+    public HearingStatusPublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,185 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusDestination;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusSenderRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_ID;
+
+/**
+ * Redelivers a failed message after an exponentially growing delay, instead of abandoning it for immediate
+ * redelivery.
+ *
+ * <p>A copy of the message is scheduled on the outbound queue with its {@code scheduledEnqueueTime} set
+ * {@code exponential-multiplier ^ n} seconds ahead, where {@code n} is the number of redeliveries so far including
+ * this one, capped and spread by the configured jitter. The copy carries the redelivery count in the
+ * {@value #REDELIVERY_COUNT} application property, as Service Bus starts a new message's delivery count again. The
+ * caller completes the original once the copy has been scheduled.
+ *
+ * <p>A message that was rejected before being sent to Future Hearings, by a circuit breaker, bulkhead or concurrency
+ * limit, is rescheduled without counting as a redelivery. Its copy keeps the redelivery count and records the
+ * rejection in {@value #REJECTED_COUNT} instead.
+ *
+ * <p>Messages for a hearing must reach HMI in the order they were received, so while a hearing has a copy waiting to
+ * be redelivered, later messages for it are deferred behind that copy rather than processed; see
+ * {@link HearingRedeliveryQueue}.
+ */
+@Slf4j
+@Component
+public class MessageRedeliveryScheduler {
+
+    public static final String REDELIVERY_COUNT = "redelivery_count";
+    public static final String REJECTED_COUNT = "rejected_count";
+    static final String ORIGINAL_MESSAGE_ID = "original_message_id";
+    static final String COPY_COUNT = "copy_count";
+
+    private final ServiceBusSenderRegistry senderRegistry;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long exponentialMultiplier;
+    private final long maxDelayInSeconds;
+    private final double jitter;
+    private final HearingRedeliveryQueue redeliveryQueue = new HearingRedeliveryQueue();
+
+    public MessageRedeliveryScheduler(ServiceBusSenderRegistry senderRegistry,
+                                      ApplicationParams applicationParams,
+                                      @Qualifier("utcClock") Clock clock,
+                                      MeterRegistry meterRegistry) {
+        this.senderRegistry = senderRegistry;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.enabled = applicationParams.isRedeliveryEnabled();
+        this.exponentialMultiplier = Math.max(Long.parseLong(applicationParams.getExponentialMultiplier().trim()), 1L);
+        this.maxDelayInSeconds = Math.max(applicationParams.getRedeliveryMaxDelayInSeconds(), 1L);
+        this.jitter = Math.clamp(applicationParams.getRedeliveryJitter(), 0.0, 1.0);
+    }
+
+    /**
+     * Returns how many times the message has already been redelivered by this scheduler.
+     */
+    public static int getRedeliveryCount(ServiceBusReceivedMessage message) {
+        return getCount(message, REDELIVERY_COUNT);
+    }
+
+    /**
+     * Schedules a delayed copy of the message. Returns {@code false}, leaving the original untouched, if the
+     * scheduler is disabled or the copy could not be sent.
+     */
+    public boolean scheduleRedelivery(ServiceBusReceivedMessage message) {
+        if (!enabled) {
+            return false;
+        }
+        int redeliveryCount = getRedeliveryCount(message) + 1;
+        return schedule(message, redeliveryCount, getCount(message, REJECTED_COUNT), delayed(redeliveryCount),
+                        "scheduled");
+    }
+
+    /**
+     * Schedules a delayed copy of a message that was rejected without being sent to Future Hearings, keeping its
+     * redelivery count. Returns {@code false}, leaving the original untouched, if the scheduler is disabled or the copy
+     * could not be sent.
+     */
+    public boolean scheduleRejectedRedelivery(ServiceBusReceivedMessage message) {
+        if (!enabled) {
+            return false;
+        }
+        int redeliveryCount = getRedeliveryCount(message);
+        return schedule(message, redeliveryCount, getCount(message, REJECTED_COUNT) + 1, delayed(redeliveryCount + 1),
+                        "scheduled");
+    }
+
+    /**
+     * Schedules a copy of the message behind the copies already waiting to be redelivered for its hearing, keeping its
+     * counts. Returns {@code false} if the message can be processed now, or if the copy could not be sent, in which
+     * case the message is processed out of order rather than held back.
+     */
+    public boolean deferBehindRedelivery(ServiceBusReceivedMessage message) {
+        Object hearingId = message.getApplicationProperties().get(HEARING_ID);
+        if (!enabled || hearingId == null) {
+            return false;
+        }
+        Optional<OffsetDateTime> deferUntil =
+            redeliveryQueue.deferUntil(hearingId.toString(), message.getMessageId(), OffsetDateTime.now(clock));
+        return deferUntil.isPresent()
+            && schedule(message, getRedeliveryCount(message), getCount(message, REJECTED_COUNT), deferUntil.get(),
+                        "deferred");
+    }
+
+    private OffsetDateTime delayed(int attempt) {
+        return OffsetDateTime.now(clock).plus(getDelay(attempt, ThreadLocalRandom.current().nextDouble()));
+    }
+
+    private boolean schedule(ServiceBusReceivedMessage message, int redeliveryCount, int rejectedCount,
+                             OffsetDateTime enqueueTime, String outcome) {
+        try {
+            String originalMessageId = String.valueOf(
+                message.getApplicationProperties().getOrDefault(ORIGINAL_MESSAGE_ID, message.getMessageId()));
+            int copyCount = getCount(message, COPY_COUNT) + 1;
+            ServiceBusMessage redelivery = new ServiceBusMessage(message);
+            // a new id, so that duplicate detection on the queue does not drop the copy
+            redelivery.setMessageId(originalMessageId + "-" + copyCount);
+            redelivery.getApplicationProperties().put(ORIGINAL_MESSAGE_ID, originalMessageId);
+            redelivery.getApplicationProperties().put(COPY_COUNT, copyCount);
+            redelivery.getApplicationProperties().put(REDELIVERY_COUNT, redeliveryCount);
+            redelivery.getApplicationProperties().put(REJECTED_COUNT, rejectedCount);
+            redelivery.setScheduledEnqueueTime(enqueueTime);
+            senderRegistry.send(ServiceBusDestination.OUTBOUND_QUEUE, redelivery);
+            log.debug("Message with id '{}' {} for redelivery {} at {}", message.getMessageId(), outcome,
+                      redeliveryCount, enqueueTime);
+            Object hearingId = message.getApplicationProperties().get(HEARING_ID);
+            if (hearingId != null) {
+                redeliveryQueue.scheduled(hearingId.toString(), message.getMessageId(), redelivery.getMessageId(),
+                                          enqueueTime, OffsetDateTime.now(clock));
+            }
+            redeliveryCounter(outcome).increment();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to schedule redelivery of message with id '{}': {}", message.getMessageId(),
+                      e.getMessage());
+            redeliveryCounter("failed").increment();
+            return false;
+        }
+    }
+
+    private static int getCount(ServiceBusReceivedMessage message, String property) {
+        Object count = message.getApplicationProperties().get(property);
+        if (count instanceof Number number) {
+            return number.intValue();
+        }
+        if (count != null) {
+            try {
+                return Integer.parseInt(count.toString());
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid {} '{}' on message with id '{}'", property, count, message.getMessageId());
+            }
+        }
+        return 0;
+    }
+
+    Duration getDelay(int redeliveryCount, double random) {
+        double delayInSeconds = Math.min(Math.pow(exponentialMultiplier, redeliveryCount), maxDelayInSeconds);
+        double spread = 1.0 + jitter * (2.0 * random - 1.0);
+        return Duration.ofMillis(Math.round(delayInSeconds * spread * 1000));
+    }
+
+    private Counter redeliveryCounter(String outcome) {
+        return Counter.builder("hmc.outbound.message.redelivery")
+            .description("Failed messages scheduled for delayed redelivery, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -2,17 +2,17 @@ package uk.gov.hmcts.reform.hmc.errorhandling;
 
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import com.azure.messaging.servicebus.models.AbandonOptions;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.SneakyThrows;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
-import uk.gov.hmcts.reform.hmc.data.HearingEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
-import uk.gov.hmcts.reform.hmc.repository.HearingRepository;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 import uk.gov.hmcts.reform.hmc.service.HearingStatusAuditService;
 
 import java.util.Map;
@@ -21,6 +21,7 @@ import java.util.Optional;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.ERROR_PROCESSING_MESSAGE;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.FAILURE_STATUS;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_ID;
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_REQUEST_ACCEPTED;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_HMI_OUTBOUND_ADAPTER;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_TO_HMI;
@@ -36,23 +37,29 @@ public class ServiceBusMessageErrorHandler {
     private final ApplicationParams applicationParams;
     private final DeadLetterService deadLetterService;
     private final HearingStatusAuditService hearingStatusAuditService;
-    private final HearingRepository hearingRepository;
+    private final HearingLookupCache hearingLookupCache;
+    private final MessageRedeliveryScheduler redeliveryScheduler;
     public static final String MESSAGE_PARSE_ERROR = "Unable to parse incoming message with id '{}'";
     public static final String APPLICATION_ERROR = "Unable to process incoming message with id '{}";
     public static final String MESSAGE_DEAD_LETTERED = "Message with id '{}' was dead lettered";
     public static final String NO_EXCEPTION_MESSAGE = "Exception message not found";
     public static final String RETRY_MESSAGE = "Retrying message with id '{}'";
+    public static final String DEFERRED_MESSAGE = "Message with id '{}' deferred behind a message being redelivered";
+    public static final String SYNC_RESPONSE_RETRY = "Retrying sync response for message with id '{}'";
+    public static final String REJECTED_MESSAGE = "Message with id '{}' was not sent and will be retried: {}";
     public static final String RETRIES_EXCEEDED = "Max delivery count reached. Message with id '{}' was dead lettered";
 
     @Autowired
     public ServiceBusMessageErrorHandler(DeadLetterService deadLetterService,
                                          ApplicationParams applicationParams,
                                          HearingStatusAuditService hearingStatusAuditService,
-                                         HearingRepository hearingRepository) {
+                                         HearingLookupCache hearingLookupCache,
+                                         MessageRedeliveryScheduler redeliveryScheduler) {
         this.deadLetterService = deadLetterService;
         this.applicationParams = applicationParams;
         this.hearingStatusAuditService = hearingStatusAuditService;
-        this.hearingRepository = hearingRepository;
+        this.hearingLookupCache = hearingLookupCache;
+        this.redeliveryScheduler = redeliveryScheduler;
     }
 
     public void handleJsonError(ServiceBusReceivedMessageContext messageContext,
@@ -63,16 +70,56 @@ public class ServiceBusMessageErrorHandler {
         log.warn(MESSAGE_DEAD_LETTERED, messageContext.getMessage().getMessageId());
     }
 
-    public void handleApplicationError(ServiceBusReceivedMessageContext messageContext,
-                                       Exception exception) {
+    /**
+     * Defers a message for a hearing that still has an earlier message waiting to be redelivered, so the hearing's
+     * messages are sent in the order they were received.
+     *
+     * @return {@code true} if a copy was scheduled behind the earlier message, and so the message must be completed
+     *     without being processed
+     */
+    public boolean deferBehindRedelivery(ServiceBusReceivedMessageContext messageContext) {
+        if (!redeliveryScheduler.deferBehindRedelivery(messageContext.getMessage())) {
+            return false;
+        }
+        log.info(DEFERRED_MESSAGE, messageContext.getMessage().getMessageId());
+        return true;
+    }
+
+    /**
+     * Dead letters the message once it has been tried {@code max-retry-attempts} times, counting both Service Bus
+     * deliveries and redeliveries scheduled by {@link MessageRedeliveryScheduler}. Otherwise a delayed copy is
+     * scheduled and the original is left to be completed by the caller, falling back to abandoning the original for
+     * immediate redelivery if the copy cannot be scheduled. A {@link FutureHearingUnavailableException} means the
+     * message was rejected without being sent, so it is rescheduled without counting as a try. A
+     * {@link SyncResponseSendException} means HMI accepted the request and only the sync response failed, so the
+     * message is abandoned marked with {@code hearing_request_accepted} and its retry only resends the response.
+     *
+     * @return {@code true} if the message was dead lettered or abandoned, and so must not be completed
+     */
+    public boolean handleApplicationError(ServiceBusReceivedMessageContext messageContext,
+                                          Exception exception) {
+        if (exception instanceof FutureHearingUnavailableException) {
+            return handleRejection(messageContext, exception);
+        }
         final Long deliveryCount = messageContext.getMessage().getRawAmqpMessage().getHeader().getDeliveryCount();
-        if (deliveryCount >= applicationParams.getMaxRetryAttempts()) {
+        final int redeliveryCount = MessageRedeliveryScheduler.getRedeliveryCount(messageContext.getMessage());
+        if (deliveryCount + redeliveryCount >= applicationParams.getMaxRetryAttempts()) {
             log.error(APPLICATION_ERROR, messageContext.getMessage().getMessageId(), exception);
             messageContext.deadLetter(deadLetterService.handleApplicationError(exception.getMessage()));
             logHearingAuditDetails(messageContext.getMessage(), exception.getMessage());
             log.warn(RETRIES_EXCEEDED, messageContext.getMessage().getMessageId());
+            return true;
+        } else if (exception instanceof SyncResponseSendException) {
+            messageContext.abandon(new AbandonOptions()
+                                       .setPropertiesToModify(Map.of(HEARING_REQUEST_ACCEPTED, true)));
+            log.warn(SYNC_RESPONSE_RETRY, messageContext.getMessage().getMessageId());
+            return true;
         } else {
-            messageContext.abandon();
+            boolean abandoned = false;
+            if (!redeliveryScheduler.scheduleRedelivery(messageContext.getMessage())) {
+                messageContext.abandon();
+                abandoned = true;
+            }
             log.warn(RETRY_MESSAGE, messageContext.getMessage().getMessageId());
             log.error(
                 ERROR_PROCESSING_MESSAGE,
@@ -81,7 +128,17 @@ public class ServiceBusMessageErrorHandler {
                 READ,
                 messageContext.getMessage().getApplicationProperties().getOrDefault(HEARING_ID, NOT_DEFINED)
             );
+            return abandoned;
+        }
+    }
+
+    private boolean handleRejection(ServiceBusReceivedMessageContext messageContext, Exception exception) {
+        log.debug(REJECTED_MESSAGE, messageContext.getMessage().getMessageId(), exception.getMessage());
+        if (!redeliveryScheduler.scheduleRejectedRedelivery(messageContext.getMessage())) {
+            messageContext.abandon();
+            return true;
         }
+        return false;
     }
 
     public void handleGenericError(ServiceBusReceivedMessageContext messageContext,
@@ -97,17 +154,16 @@ public class ServiceBusMessageErrorHandler {
         log.warn(MESSAGE_DEAD_LETTERED, messageContext.getMessage().getMessageId());
     }
 
-    @SneakyThrows
     private void logHearingAuditDetails(ServiceBusReceivedMessage messageContextMessage, String exceptionMessage) {
         Map<String, Object> applicationProperties = messageContextMessage.getApplicationProperties();
         String hearingId = applicationProperties.get(HEARING_ID).toString();
-        JsonNode errorDetails = new ObjectMapper().readTree("{\"deadLetterReason\": \""
-                                                                + exceptionMessage + "\"}");
-        Optional<HearingEntity> hearingEntity = hearingRepository.findById(Long.valueOf(hearingId));
-        if (hearingEntity.isPresent()) {
+        JsonNode errorDetails = JsonNodeFactory.instance.objectNode().put("deadLetterReason", exceptionMessage);
+        Optional<HearingAuditDetails> hearingAuditDetails =
+            hearingLookupCache.findHearingAuditDetails(Long.valueOf(hearingId));
+        if (hearingAuditDetails.isPresent()) {
             HearingStatusAuditContext hearingStatusAuditContext =
                 HearingStatusAuditContext.builder()
-                    .hearingEntity(hearingEntity.get())
+                    .hearingAuditDetails(hearingAuditDetails.get())
                     .hearingEvent(HMC_TO_HMI_AUTH)
                     .httpStatus(FAILURE_STATUS)
                     .source(HMC)
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+/**
+ * Thrown when a batched LA_SYNC_HEARING_RESPONSE could not be sent to the inbound queue, so the outbound message is
+ * retried rather than completed without its response.
+ */
+public class SyncResponseSendException extends RuntimeException {
+
+    public SyncResponseSendException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
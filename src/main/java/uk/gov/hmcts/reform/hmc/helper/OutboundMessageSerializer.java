@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.hmc.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.config.SyncMessage;
+import uk.gov.hmcts.reform.hmc.model.HmcHearingResponse;
+
+/**
+ * Serialises the messages the adapter sends to Service Bus straight to UTF-8 bytes, without building a JSON tree or
+ * a {@code String} first. The writers are created once for their type, so the serializer for each message type is
+ * looked up when the application starts rather than for every message.
+ */
+@Component
+public class OutboundMessageSerializer {
+
+    private final ObjectWriter hearingResponseWriter;
+    private final ObjectWriter syncMessageWriter;
+
+    public OutboundMessageSerializer(ObjectMapper objectMapper) {
+        this.hearingResponseWriter = objectMapper.writerFor(HmcHearingResponse.class);
+        this.syncMessageWriter = objectMapper.writerFor(SyncMessage.class);
+    }
+
+    /**
+     * Serialises a hearing response for the hmc-to-cft topic. As with {@link ObjectMapper#convertValue}, which this
+     * replaces, a response that cannot be serialised is reported with an {@link IllegalArgumentException}.
+     */
+    public byte[] serialize(HmcHearingResponse hearingResponse) {
+        try {
+            return hearingResponseWriter.writeValueAsBytes(hearingResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    public byte[] serialize(SyncMessage syncMessage) throws JsonProcessingException {
+        return syncMessageWriter.writeValueAsBytes(syncMessage);
+    }
+}
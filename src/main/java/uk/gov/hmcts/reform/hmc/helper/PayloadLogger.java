@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.hmc.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Formats hearing payloads for debug logging. {@link #payload(JsonNode)} returns a log argument that is only written
+ * out if the log statement is, so nothing is serialised while debug logging is off. Payloads are cut off at
+ * {@code payload-logging.max-length} characters, without serialising the rest of the payload, and only one in every
+ * {@code payload-logging.sample-rate} is written at all; the others are logged as a placeholder.
+ */
+@Component
+public class PayloadLogger {
+
+    static final String NOT_SAMPLED = "<payload not sampled>";
+    static final String TRUNCATED = "...<truncated>";
+
+    private final ObjectWriter writer;
+    private final int maxLength;
+    private final int sampleRate;
+    private final AtomicLong rendered = new AtomicLong();
+
+    @Autowired
+    public PayloadLogger(ObjectMapper objectMapper, ApplicationParams applicationParams) {
+        this(objectMapper, applicationParams.getPayloadLoggingMaxLength(),
+             applicationParams.getPayloadLoggingSampleRate());
+    }
+
+    public PayloadLogger(ObjectMapper objectMapper, int maxLength, int sampleRate) {
+        this.writer = objectMapper.writer();
+        this.maxLength = Math.max(maxLength, 0);
+        this.sampleRate = Math.max(sampleRate, 1);
+    }
+
+    public Object payload(JsonNode payload) {
+        return new LazyPayload(payload);
+    }
+
+    private String render(JsonNode payload) {
+        if (payload == null) {
+            return "null";
+        }
+        if (sampleRate > 1 && rendered.getAndIncrement() % sampleRate != 0) {
+            return NOT_SAMPLED;
+        }
+        CappedWriter out = new CappedWriter(maxLength);
+        try {
+            writer.writeValue(out, payload);
+        } catch (IOException e) {
+            if (!out.isFull()) {
+                return "<payload could not be written: " + e.getMessage() + ">";
+            }
+        }
+        return out.isFull() ? out + TRUNCATED : out.toString();
+    }
+
+    private final class LazyPayload {
+
+        private final JsonNode payload;
+        private String rendering;
+
+        private LazyPayload(JsonNode payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public String toString() {
+            if (rendering == null) {
+                rendering = render(payload);
+            }
+            return rendering;
+        }
+    }
+
+    /**
+     * Keeps the first {@code maxLength} characters written and then fails, which stops the serialisation.
+     */
+    private static final class CappedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxLength;
+        private boolean full;
+
+        private CappedWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int space = maxLength - buffer.length();
+            if (length > space) {
+                buffer.append(chars, offset, space);
+                full = true;
+                throw new IOException("Payload is longer than " + maxLength + " characters");
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+            // nothing is buffered
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        boolean isFull() {
+            return full;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
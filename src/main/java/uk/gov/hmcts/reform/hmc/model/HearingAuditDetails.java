@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.hmc.model;
+
+import uk.gov.hmcts.reform.hmc.data.CaseHearingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.HearingEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a hearing and its latest case hearing request needed to write a hearing status audit row.
+ */
+public record HearingAuditDetails(Long hearingId,
+                                  String status,
+                                  LocalDateTime createdDateTime,
+                                  LocalDateTime updatedDateTime,
+                                  String hmctsServiceCode,
+                                  Integer versionNumber) {
+
+    public static HearingAuditDetails from(HearingEntity hearingEntity) {
+        CaseHearingRequestEntity latestRequest = hearingEntity.getLatestCaseHearingRequest();
+        return new HearingAuditDetails(hearingEntity.getId(),
+                                       hearingEntity.getStatus(),
+                                       hearingEntity.getCreatedDateTime(),
+                                       hearingEntity.getUpdatedDateTime(),
+                                       latestRequest.getHmctsServiceCode(),
+                                       latestRequest.getVersionNumber());
+    }
+}
@@ -9,6 +9,7 @@ import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 @Data
 public class HearingStatusAuditContext {
     private HearingEntity hearingEntity;
+    private HearingAuditDetails hearingAuditDetails;
     private String hearingEvent;
     private String httpStatus;
     private String source;
@@ -10,24 +10,31 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryApiClient;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryTokenCache;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.AuthenticationRequest;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.AuthenticationResponse;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.ErrorDetails;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingErrorDecoder;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HealthCheckResponse;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceApiClient;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceAsyncClient;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceResponse;
-import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.errorhandling.AuthenticationException;
 import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckActiveDirectoryException;
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckHmiException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
+import uk.gov.hmcts.reform.hmc.helper.PayloadLogger;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
 import uk.gov.hmcts.reform.hmc.service.HearingStatusAuditService;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_TO_HMI_AUTH_REQUEST;
@@ -40,25 +47,34 @@ import static uk.gov.hmcts.reform.hmc.constants.Constants.HMI_TO_HMC_AUTH_SUCCES
 public class DefaultFutureHearingRepository implements FutureHearingRepository {
 
     private final HearingManagementInterfaceApiClient hmiClient;
+    private final Optional<HearingManagementInterfaceAsyncClient> hmiAsyncClient;
     private final ActiveDirectoryApiClient activeDirectoryApiClient;
-    private final HearingRepository hearingRepository;
+    private final ActiveDirectoryTokenCache activeDirectoryTokenCache;
+    private final HearingLookupCache hearingLookupCache;
     private final HearingStatusAuditService hearingStatusAuditService;
     private final ApplicationParams applicationParams;
     private static final String BEARER = "Bearer ";
     private final ObjectMapper objectMapper;
+    private final PayloadLogger payloadLogger;
 
     public DefaultFutureHearingRepository(ActiveDirectoryApiClient activeDirectoryApiClient,
                                           ApplicationParams applicationParams,
                                           HearingManagementInterfaceApiClient hmiClient,
-                                          HearingRepository hearingRepository,
+                                          HearingLookupCache hearingLookupCache,
                                           HearingStatusAuditService hearingStatusAuditService,
-                                          ObjectMapper objectMapper) {
+                                          ObjectMapper objectMapper,
+                                          ActiveDirectoryTokenCache activeDirectoryTokenCache,
+                                          Optional<HearingManagementInterfaceAsyncClient> hmiAsyncClient,
+                                          PayloadLogger payloadLogger) {
         this.activeDirectoryApiClient = activeDirectoryApiClient;
+        this.hmiAsyncClient = hmiAsyncClient;
+        this.activeDirectoryTokenCache = activeDirectoryTokenCache;
         this.applicationParams = applicationParams;
         this.hmiClient = hmiClient;
-        this.hearingRepository = hearingRepository;
+        this.hearingLookupCache = hearingLookupCache;
         this.hearingStatusAuditService = hearingStatusAuditService;
         this.objectMapper = objectMapper;
+        this.payloadLogger = payloadLogger;
     }
 
     public AuthenticationResponse retrieveAuthToken() {
@@ -76,7 +92,7 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
 
         try {
             log.debug("Retrieving authorization token for HMI private health check");
-            authorization = retrieveAuthToken().getAccessToken();
+            authorization = activeDirectoryTokenCache.getAccessToken();
             log.debug("Authorization token retrieved successfully for HMI private health check");
         } catch (BadFutureHearingRequestException e) {
             logDebugHealthCheckActiveDirectoryException(e.getClass().getSimpleName());
@@ -120,31 +136,106 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
                 caseListingRequestId, BEARER + authorization, requestData));
     }
 
+    /**
+     * Whether hearing requests can be sent without blocking, through {@link #createHearingRequestAsync} and the
+     * other asynchronous methods. Only when {@code fh.hmi.client-mode} is {@code async}.
+     */
+    public boolean isAsyncEnabled() {
+        return hmiAsyncClient.isPresent();
+    }
+
+    /**
+     * Sends the request to HMI without waiting for the response. Looking up the hearing and getting a token are
+     * done on the calling thread and fail by throwing; the HMI call fails through the returned future.
+     */
+    public CompletableFuture<HearingManagementInterfaceResponse> createHearingRequestAsync(JsonNode data,
+                                                                                          String caseListingRequestId) {
+        return processHearingRequestAsync(
+            data, caseListingRequestId, "createHearingRequest",
+            (authorization, requestData) -> hmiAsyncClient.orElseThrow().requestHearing(
+                BEARER + authorization, requestData));
+    }
+
+    public CompletableFuture<HearingManagementInterfaceResponse> amendHearingRequestAsync(JsonNode data,
+                                                                                         String caseListingRequestId) {
+        return processHearingRequestAsync(
+            data, caseListingRequestId, "amendHearingRequest",
+            (authorization, requestData) -> hmiAsyncClient.orElseThrow().amendHearing(
+                caseListingRequestId, BEARER + authorization, requestData));
+    }
+
+    public CompletableFuture<HearingManagementInterfaceResponse> deleteHearingRequestAsync(JsonNode data,
+                                                                                          String caseListingRequestId) {
+        return processHearingRequestAsync(
+            data, caseListingRequestId, "deleteHearingRequest",
+            (authorization, requestData) -> hmiAsyncClient.orElseThrow().deleteHearing(
+                caseListingRequestId, BEARER + authorization, requestData));
+    }
+
     private HearingManagementInterfaceResponse processHearingRequest(JsonNode data, String caseListingRequestId,
                                                                      String operation,
                                                                      HearingRequestProcessor processor) {
-        log.debug("In {} process: {}", operation, data.toString());
-        Optional<HearingEntity> hearingEntityOpt = getHearingEntity(caseListingRequestId);
-        HearingEntity hearingEntity = hearingEntityOpt.get();
-        String authorization = getAuthToken(caseListingRequestId, operation, hearingEntity);
-        log.debug("{} sending to FH: {}", operation, data.toString());
-        return processor.process(authorization, data);
+        String authorization = prepareHearingRequest(data, caseListingRequestId, operation);
+        try {
+            return processor.process(authorization, data);
+        } catch (AuthenticationException e) {
+            onAuthenticationFailure(e, caseListingRequestId, operation);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<HearingManagementInterfaceResponse> processHearingRequestAsync(
+        JsonNode data, String caseListingRequestId, String operation, AsyncHearingRequestProcessor processor) {
+        String authorization = prepareHearingRequest(data, caseListingRequestId, operation);
+        return processor.process(authorization, data).whenComplete((response, failure) -> {
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            if (cause instanceof AuthenticationException e) {
+                onAuthenticationFailure(e, caseListingRequestId, operation);
+            }
+        });
+    }
+
+    private String prepareHearingRequest(JsonNode data, String caseListingRequestId, String operation) {
+        log.debug("In {} process: {}", operation, payloadLogger.payload(data));
+        HearingAuditDetails hearingAuditDetails = getHearingAuditDetails(caseListingRequestId).get();
+        String authorization = getAuthToken(caseListingRequestId, operation, hearingAuditDetails);
+        log.debug("{} sending to FH for hearingId: {}", operation, caseListingRequestId);
+        return authorization;
     }
 
-    private String getAuthToken(String caseListingRequestId, String operation, HearingEntity hearingEntity) {
+    private void onAuthenticationFailure(AuthenticationException e, String caseListingRequestId, String operation) {
+        if (FutureHearingErrorDecoder.INVALID_SECRET.equals(e.getMessage())) {
+            log.debug("HMI rejected authorization token for operation: {} hearingId: {}", operation,
+                      caseListingRequestId);
+            activeDirectoryTokenCache.invalidate();
+        }
+    }
+
+    private String getAuthToken(String caseListingRequestId, String operation,
+                                HearingAuditDetails hearingAuditDetails) {
         String authorization;
         try {
             log.debug("Retrieving authorization token for operation: {} hearingId: {}", operation,
                       caseListingRequestId);
-            saveAuditAuthRequest(hearingEntity);
-            authorization = retrieveAuthToken().getAccessToken();
+            ActiveDirectoryTokenCache.AccessToken token = activeDirectoryTokenCache.getToken();
+            authorization = token.value();
             log.debug("Authorization token retrieved successfully for operation: {} hearingId: {}", operation,
                       caseListingRequestId);
-            saveAuditAuthSuccess(hearingEntity);
+            // Only a token fetched from Active Directory is audited, not one found in the cache
+            if (token.requested()) {
+                saveAuditAuthRequest(hearingAuditDetails);
+                saveAuditAuthSuccess(hearingAuditDetails);
+            }
+        } catch (FutureHearingUnavailableException ex) {
+            log.warn("Authorization token not requested for hearingId: {}: {}", caseListingRequestId,
+                     ex.getMessage());
+            saveAuditAuthFail(hearingAuditDetails, ex);
+            throw ex;
         } catch (Exception ex) {
             log.error("Failed to retrieve authorization token for hearingId: {} with exception {}",
                       caseListingRequestId, ex.getMessage());
-            saveAuditAuthFail(hearingEntity, ex);
+            saveAuditAuthRequest(hearingAuditDetails);
+            saveAuditAuthFail(hearingAuditDetails, ex);
             throw new AuthenticationException("Failed to retrieve authorization token for operation: " + operation
                                               + " hearingId: " + caseListingRequestId);
         }
@@ -152,8 +243,8 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
     }
 
     @NotNull
-    private Optional<HearingEntity> getHearingEntity(String caseListingRequestId) {
-        return hearingRepository.findById(Long.valueOf(caseListingRequestId));
+    private Optional<HearingAuditDetails> getHearingAuditDetails(String caseListingRequestId) {
+        return hearingLookupCache.findHearingAuditDetails(Long.valueOf(caseListingRequestId));
     }
 
     @FunctionalInterface
@@ -161,6 +252,11 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
         HearingManagementInterfaceResponse process(String authorization, JsonNode data);
     }
 
+    @FunctionalInterface
+    private interface AsyncHearingRequestProcessor {
+        CompletableFuture<HearingManagementInterfaceResponse> process(String authorization, JsonNode data);
+    }
+
     private HealthCheckResponse getPrivateHealthCheck(String authorization) {
         try {
             log.debug("Calling HMI private health check");
@@ -169,6 +265,9 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
             logDebugHealthCheckHmiException(e);
             throw createHealthCheckHmiException(e);
         } catch (AuthenticationException e) {
+            if (FutureHearingErrorDecoder.INVALID_SECRET.equals(e.getMessage())) {
+                activeDirectoryTokenCache.invalidate();
+            }
             logDebugHealthCheckHmiException(e);
             throw createHealthCheckHmiException(e);
         } catch (ResourceNotFoundException e) {
@@ -266,10 +365,10 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
         return authErrorCodes != null && !authErrorCodes.isEmpty() ? authErrorCodes.getFirst() : null;
     }
 
-    private void saveAuditAuthSuccess(HearingEntity hearingEntity) {
+    private void saveAuditAuthSuccess(HearingAuditDetails hearingAuditDetails) {
         HearingStatusAuditContext hearingStatusAuditContext =
             HearingStatusAuditContext.builder()
-                .hearingEntity(hearingEntity)
+                .hearingAuditDetails(hearingAuditDetails)
                 .hearingEvent(HMI_TO_HMC_AUTH_SUCCESS)
                 .httpStatus(String.valueOf(HttpStatus.OK.value()))
                 .source(HMI)
@@ -278,10 +377,10 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
         hearingStatusAuditService.saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(hearingStatusAuditContext);
     }
 
-    private void saveAuditAuthRequest(HearingEntity hearingEntity) {
+    private void saveAuditAuthRequest(HearingAuditDetails hearingAuditDetails) {
         HearingStatusAuditContext hearingStatusAuditContext =
             HearingStatusAuditContext.builder()
-                .hearingEntity(hearingEntity)
+                .hearingAuditDetails(hearingAuditDetails)
                 .hearingEvent(HMC_TO_HMI_AUTH_REQUEST)
                 .source(HMC)
                 .target(HMI)
@@ -289,11 +388,11 @@ public class DefaultFutureHearingRepository implements FutureHearingRepository {
         hearingStatusAuditService.saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(hearingStatusAuditContext);
     }
 
-    private void saveAuditAuthFail(HearingEntity hearingEntity, Exception ex) {
+    private void saveAuditAuthFail(HearingAuditDetails hearingAuditDetails, Exception ex) {
         JsonNode errorDescription = objectMapper.convertValue(ex.getMessage(), JsonNode.class);
         HearingStatusAuditContext hearingStatusAuditContext =
             HearingStatusAuditContext.builder()
-                .hearingEntity(hearingEntity)
+                .hearingAuditDetails(hearingAuditDetails)
                 .hearingEvent(HMI_TO_HMC_AUTH_FAIL)
                 .httpStatus(String.valueOf(HttpStatus.UNAUTHORIZED.value()))
                 .source(HMI)
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.hmc.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.data.HearingEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the hearings looked up while a single message or pending request is being processed, so that the
+ * processing, error handling and dead lettering of that message share one database lookup per hearing.
+ *
+ * <p>Lookups are only remembered inside a scope opened with {@link #openScope()} on the processing thread; outside a
+ * scope every call goes straight to {@link HearingRepository}. A message whose processing moves between threads uses a
+ * {@link MessageScope} instead, entered on each thread in turn, so its lookups are kept until it has been settled.
+ * Audit details are served from a full hearing when one has already been loaded, but a full hearing is always loaded
+ * on first request as it is about to be updated.
+ */
+@Slf4j
+@Component
+public class HearingLookupCache {
+
+    private static final Scope NESTED_SCOPE = () -> { };
+
+    private final HearingRepository hearingRepository;
+    private final Counter savedLookupCounter;
+    private final ThreadLocal<Lookups> currentLookups = new ThreadLocal<>();
+
+    public HearingLookupCache(HearingRepository hearingRepository, MeterRegistry meterRegistry) {
+        this.hearingRepository = hearingRepository;
+        this.savedLookupCounter = Counter.builder("hmc.outbound.hearing.lookup.saved")
+            .description("Hearing lookups answered from the message scoped cache instead of the database")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a lookup scope for the current thread. A scope opened while another is already open on the same thread
+     * joins the outer one and closing it has no effect.
+     */
+    public Scope openScope() {
+        if (currentLookups.get() != null) {
+            return NESTED_SCOPE;
+        }
+        currentLookups.set(new Lookups());
+        return currentLookups::remove;
+    }
+
+    /**
+     * Opens a lookup scope that is not tied to a thread, for a message processed across several threads. Its lookups
+     * last until the scope is dropped.
+     */
+    public MessageScope openMessageScope() {
+        return new MessageScope();
+    }
+
+    public Optional<HearingAuditDetails> findHearingAuditDetails(Long hearingId) {
+        Lookups lookups = currentLookups.get();
+        if (lookups == null) {
+            return hearingRepository.findHearingAuditDetails(hearingId);
+        }
+        Optional<HearingAuditDetails> auditDetails = lookups.auditDetails.get(hearingId);
+        if (auditDetails == null) {
+            Optional<HearingEntity> hearing = lookups.hearings.get(hearingId);
+            if (hearing == null) {
+                auditDetails = hearingRepository.findHearingAuditDetails(hearingId);
+            } else {
+                auditDetails = hearing.map(HearingAuditDetails::from);
+                savedLookup(hearingId);
+            }
+            lookups.auditDetails.put(hearingId, auditDetails);
+        } else {
+            savedLookup(hearingId);
+        }
+        return auditDetails;
+    }
+
+    public Optional<HearingEntity> findHearing(Long hearingId) {
+        Lookups lookups = currentLookups.get();
+        if (lookups == null) {
+            return hearingRepository.findById(hearingId);
+        }
+        Optional<HearingEntity> hearing = lookups.hearings.get(hearingId);
+        if (hearing == null) {
+            hearing = hearingRepository.findById(hearingId);
+            lookups.hearings.put(hearingId, hearing);
+            lookups.auditDetails.put(hearingId, hearing.map(HearingAuditDetails::from));
+        } else {
+            savedLookup(hearingId);
+        }
+        return hearing;
+    }
+
+    private void savedLookup(Long hearingId) {
+        log.debug("Hearing {} served from message scoped cache", hearingId);
+        savedLookupCounter.increment();
+    }
+
+    /**
+     * A lookup scope, closed once the message has been processed.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Lookups for one message, shared by each thread that enters the scope while working on it. The threads must take
+     * turns, each entering once the previous one has finished with the message.
+     */
+    public final class MessageScope {
+        private final Lookups lookups = new Lookups();
+
+        private MessageScope() {
+        }
+
+        /**
+         * Makes the message's lookups current on this thread until the returned scope is closed. Joins any scope
+         * already open on the thread instead.
+         */
+        public Scope enter() {
+            if (currentLookups.get() != null) {
+                return NESTED_SCOPE;
+            }
+            currentLookups.set(lookups);
+            return currentLookups::remove;
+        }
+    }
+
+    private static final class Lookups {
+        private final Map<Long, Optional<HearingEntity>> hearings = new HashMap<>();
+        private final Map<Long, Optional<HearingAuditDetails>> auditDetails = new HashMap<>();
+    }
+}
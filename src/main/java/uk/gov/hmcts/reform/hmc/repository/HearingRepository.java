@@ -1,13 +1,29 @@
 package uk.gov.hmcts.reform.hmc.repository;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
+
+import java.util.Optional;
 
 @Transactional(propagation = Propagation.REQUIRED)
 @Repository
 public interface HearingRepository extends CrudRepository<HearingEntity, Long> {
 
+    /**
+     * Loads only what is needed to audit a hearing, without the case hearing request and hearing response
+     * collections that {@link #findById} fetches eagerly.
+     */
+    @Query("SELECT new uk.gov.hmcts.reform.hmc.model.HearingAuditDetails(h.id, h.status, h.createdDateTime, "
+        + "h.updatedDateTime, chr.hmctsServiceCode, chr.versionNumber) "
+        + "FROM HearingEntity h JOIN h.caseHearingRequests chr "
+        + "WHERE h.id = :hearingId "
+        + "AND chr.versionNumber = (SELECT MAX(chr2.versionNumber) FROM CaseHearingRequestEntity chr2 "
+        + "                         WHERE chr2.hearing.id = h.id)")
+    Optional<HearingAuditDetails> findHearingAuditDetails(@Param("hearingId") Long hearingId);
 }
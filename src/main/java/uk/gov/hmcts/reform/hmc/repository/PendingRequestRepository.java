@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,6 +18,34 @@ import java.util.List;
 @Repository("pendingRequestRepository")
 public interface PendingRequestRepository extends CrudRepository<PendingRequestEntity, Long> {
 
+    String CLAIM_QUEUED_UPDATE =
+        "UPDATE public.pending_requests pr SET status = 'PROCESSING', last_tried_date_time = NOW() "
+        + "FROM ( "
+        + "   SELECT pr1.id, pr1.last_tried_date_time FROM public.pending_requests pr1 "
+        + "   WHERE pr1.status = 'PENDING' ";
+    String CLAIM_QUEUED_READY =
+        "   AND (pr1.last_tried_date_time IS NULL "
+        + "   OR pr1.last_tried_date_time < NOW() "
+        + "      - CAST(:pendingWaitValue || ' ' || :pendingWaitInterval AS INTERVAL)) "
+        + "   AND (pr1.message_type = 'REQUEST_HEARING' "
+        + "      OR (pr1.message_type IN ('AMEND_HEARING','DELETE_HEARING') "
+        + "          AND NOT EXISTS ( "
+        + "              SELECT 1 "
+        + "              FROM public.pending_requests pr2 "
+        + "              WHERE pr2.status != 'COMPLETED' "
+        + "                AND pr2.hearing_id = pr1.hearing_id "
+        + "                AND pr2.submitted_date_time < pr1.submitted_date_time "
+        + "          )) "
+        + "      ) ";
+    String CLAIM_QUEUED_PAGE_AND_RETURN =
+        "   ORDER BY pr1.submitted_date_time ASC, pr1.id ASC "
+        + "   LIMIT :pageSize "
+        + "   FOR UPDATE SKIP LOCKED "
+        + ") claimed "
+        + "WHERE pr.id = claimed.id "
+        + "RETURNING pr.id AS \"id\", pr.hearing_id AS \"hearingId\", "
+        + "pr.submitted_date_time AS \"submittedDateTime\", claimed.last_tried_date_time AS \"lastTriedDateTime\"";
+
     @Query(value = "SELECT * FROM public.pending_requests ORDER BY submitted_date_time DESC LIMIT 1",
         nativeQuery = true)
     PendingRequestEntity findLatestRecord();
@@ -40,6 +69,64 @@ public interface PendingRequestRepository extends CrudRepository<PendingRequestE
         @Param("pendingWaitValue") Long pendingWaitValue,
         @Param("pendingWaitInterval") String pendingWaitInterval);
 
+    /**
+     * Moves the next page of up to {@code pageSize} requests that {@link #findQueuedPendingRequestsForProcessing}
+     * would return to PROCESSING in a single statement, and returns them without their message. Pages are keyed on
+     * submitted date time and id, starting after the given request, so a sweep reads the queue one page at a time and
+     * never revisits a row. Rows locked by another worker are skipped rather than waited on, so several instances can
+     * claim from the table at the same time.
+     *
+     * <p>The last tried date time of each claimed row is set to the time of the claim, so that
+     * {@link #releaseExpiredClaims} can recognise a claim that was never released; the previous value is returned.
+     */
+    @Query(value = CLAIM_QUEUED_UPDATE
+        + "   AND (pr1.submitted_date_time, pr1.id) > (:afterSubmittedDateTime, :afterId) "
+        + CLAIM_QUEUED_READY
+        + CLAIM_QUEUED_PAGE_AND_RETURN,
+        nativeQuery = true)
+    List<QueuedPendingRequest> claimQueuedPendingRequests(
+        @Param("pendingWaitValue") Long pendingWaitValue,
+        @Param("pendingWaitInterval") String pendingWaitInterval,
+        @Param("afterSubmittedDateTime") LocalDateTime afterSubmittedDateTime,
+        @Param("afterId") Long afterId,
+        @Param("pageSize") int pageSize);
+
+    /**
+     * Claims queued requests like {@link #claimQueuedPendingRequests}, but only those for the given hearing.
+     */
+    @Query(value = CLAIM_QUEUED_UPDATE
+        + "   AND pr1.hearing_id = :hearingId "
+        + "   AND (pr1.submitted_date_time, pr1.id) > (:afterSubmittedDateTime, :afterId) "
+        + CLAIM_QUEUED_READY
+        + CLAIM_QUEUED_PAGE_AND_RETURN,
+        nativeQuery = true)
+    List<QueuedPendingRequest> claimQueuedPendingRequestsForHearing(
+        @Param("pendingWaitValue") Long pendingWaitValue,
+        @Param("pendingWaitInterval") String pendingWaitInterval,
+        @Param("hearingId") Long hearingId,
+        @Param("afterSubmittedDateTime") LocalDateTime afterSubmittedDateTime,
+        @Param("afterId") Long afterId,
+        @Param("pageSize") int pageSize);
+
+    @Modifying
+    @Query("UPDATE PendingRequestEntity pr SET pr.status = 'PENDING', pr.lastTriedDateTime = :lastTriedDateTime "
+        + "WHERE pr.id = :id and pr.status = 'PROCESSING'")
+    int releaseClaim(Long id, LocalDateTime lastTriedDateTime);
+
+    /**
+     * Returns requests that were claimed more than {@code claimTimeoutInSeconds} ago, and so can no longer be in
+     * progress, to PENDING. These are claims stranded by an instance that stopped while processing them.
+     */
+    @Modifying
+    @Query(value = "UPDATE public.pending_requests SET status = 'PENDING' "
+        + "WHERE id IN ( "
+        + "   SELECT id FROM public.pending_requests "
+        + "   WHERE status = 'PROCESSING' "
+        + "   AND last_tried_date_time < NOW() - CAST(:claimTimeoutInSeconds || ' SECONDS' AS INTERVAL) "
+        + "   FOR UPDATE SKIP LOCKED "
+        + ")", nativeQuery = true)
+    int releaseExpiredClaims(@Param("claimTimeoutInSeconds") Long claimTimeoutInSeconds);
+
     @Modifying
     @Query("UPDATE PendingRequestEntity pr SET pr.status = :status WHERE pr.id = :id")
     void markRequestWithGivenStatus(Long id, String status);
@@ -4,10 +4,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
-import uk.gov.hmcts.reform.hmc.repository.HearingStatusAuditRepository;
 
 import java.time.LocalDateTime;
 
@@ -16,49 +15,58 @@ import java.time.LocalDateTime;
 @Slf4j
 public class HearingStatusAuditServiceImpl implements HearingStatusAuditService {
 
-    private final HearingStatusAuditRepository hearingStatusAuditRepository;
+    private final HearingStatusAuditWriter hearingStatusAuditWriter;
 
     @Autowired
-    public HearingStatusAuditServiceImpl(HearingStatusAuditRepository hearingStatusAuditRepository) {
-        this.hearingStatusAuditRepository = hearingStatusAuditRepository;
+    public HearingStatusAuditServiceImpl(HearingStatusAuditWriter hearingStatusAuditWriter) {
+        this.hearingStatusAuditWriter = hearingStatusAuditWriter;
     }
 
     @Override
     public void saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(HearingStatusAuditContext auditContext) {
-        HearingStatusAuditEntity hearingStatusAuditEntity = mapHearingStatusAuditDetails(auditContext);
+        HearingAuditDetails hearingAuditDetails = getHearingAuditDetails(auditContext);
+        HearingStatusAuditEntity hearingStatusAuditEntity = mapHearingStatusAuditDetails(auditContext,
+                                                                                         hearingAuditDetails);
         LocalDateTime ts =
-            auditContext.getHearingEntity().getUpdatedDateTime() != null
-                ? auditContext.getHearingEntity().getUpdatedDateTime() : LocalDateTime.now();
+            hearingAuditDetails.updatedDateTime() != null
+                ? hearingAuditDetails.updatedDateTime() : LocalDateTime.now();
         hearingStatusAuditEntity.setStatusUpdateDateTime(ts);
         saveHearingStatusAudit(hearingStatusAuditEntity);
     }
 
     @Override
     public void saveAuditTriageDetails(HearingStatusAuditContext auditContext) {
-        HearingStatusAuditEntity hearingStatusAuditEntity = mapHearingStatusAuditDetails(auditContext);
-        hearingStatusAuditEntity.setStatusUpdateDateTime(auditContext.getHearingEntity().getCreatedDateTime());
+        HearingAuditDetails hearingAuditDetails = getHearingAuditDetails(auditContext);
+        HearingStatusAuditEntity hearingStatusAuditEntity = mapHearingStatusAuditDetails(auditContext,
+                                                                                         hearingAuditDetails);
+        hearingStatusAuditEntity.setStatusUpdateDateTime(hearingAuditDetails.createdDateTime());
         saveHearingStatusAudit(hearingStatusAuditEntity);
     }
 
-    private HearingStatusAuditEntity mapHearingStatusAuditDetails(HearingStatusAuditContext hearingStatusAuditContext) {
+    private HearingAuditDetails getHearingAuditDetails(HearingStatusAuditContext hearingStatusAuditContext) {
+        return hearingStatusAuditContext.getHearingAuditDetails() != null
+            ? hearingStatusAuditContext.getHearingAuditDetails()
+            : HearingAuditDetails.from(hearingStatusAuditContext.getHearingEntity());
+    }
+
+    private HearingStatusAuditEntity mapHearingStatusAuditDetails(HearingStatusAuditContext hearingStatusAuditContext,
+                                                                  HearingAuditDetails hearingAuditDetails) {
         HearingStatusAuditEntity hearingStatusAuditEntity = new HearingStatusAuditEntity();
-        HearingEntity hearingEntity = hearingStatusAuditContext.getHearingEntity();
-        hearingStatusAuditEntity.setHmctsServiceId(hearingEntity.getLatestCaseHearingRequest().getHmctsServiceCode());
-        hearingStatusAuditEntity.setHearingId(hearingEntity.getId().toString());
-        hearingStatusAuditEntity.setStatus(hearingEntity.getStatus());
+        hearingStatusAuditEntity.setHmctsServiceId(hearingAuditDetails.hmctsServiceCode());
+        hearingStatusAuditEntity.setHearingId(hearingAuditDetails.hearingId().toString());
+        hearingStatusAuditEntity.setStatus(hearingAuditDetails.status());
         hearingStatusAuditEntity.setHearingEvent(hearingStatusAuditContext.getHearingEvent());
         hearingStatusAuditEntity.setHttpStatus(hearingStatusAuditContext.getHttpStatus());
         hearingStatusAuditEntity.setSource(hearingStatusAuditContext.getSource());
         hearingStatusAuditEntity.setTarget(hearingStatusAuditContext.getTarget());
         hearingStatusAuditEntity.setErrorDescription(hearingStatusAuditContext.getErrorDetails());
-        hearingStatusAuditEntity.setRequestVersion(hearingEntity.getLatestCaseHearingRequest().getVersionNumber()
-                                                       .toString());
+        hearingStatusAuditEntity.setRequestVersion(hearingAuditDetails.versionNumber().toString());
         hearingStatusAuditEntity.setResponseDateTime(LocalDateTime.now());
         return hearingStatusAuditEntity;
     }
 
     private void saveHearingStatusAudit(HearingStatusAuditEntity hearingStatusAuditEntity) {
-        hearingStatusAuditRepository.save(hearingStatusAuditEntity);
+        hearingStatusAuditWriter.write(hearingStatusAuditEntity);
     }
 
 }
@@ -0,0 +1,268 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.repository.HearingStatusAuditRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes hearing status audit rows behind the caller.
+ *
+ * <p>Rows handed to {@link #write(HearingStatusAuditEntity)} are queued in a bounded buffer and written by a
+ * background thread in JDBC batches, taking the ids for a whole batch from the sequence in a single query. If the
+ * buffer is full, or the writer is disabled or shutting down, the row is saved straight away on the calling thread so
+ * that no audit is lost. Anything still buffered is written when the application shuts down.
+ *
+ * <p>A row written inside a transaction is only queued once that transaction commits, so an audit is never recorded
+ * for a change that was rolled back. Rows the writer saves itself, after the commit or on the background thread, are
+ * saved in a transaction of their own.
+ */
+@Slf4j
+@Component
+public class HearingStatusAuditWriter {
+
+    // nextval is still evaluated once per row, but all of them in one round trip. The sequence is shared with
+    // HearingStatusAuditEntity, which takes ids one at a time, so its increment cannot be raised to hand out ranges.
+    static final String NEXT_IDS_SQL =
+        "SELECT nextval('public.hearing_status_audit_id_seq') FROM generate_series(1, ?)";
+    static final String INSERT_SQL = "INSERT INTO public.hearing_status_audit (id, hmcts_service_id, hearing_id, "
+        + "status, status_update_date_time, hearing_event, http_status, source, target, error_description, "
+        + "request_version, response_date_time, other_info) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, CAST(? AS jsonb))";
+
+    private static final long IDLE_POLL_MILLISECONDS = 200L;
+    private static final long IDLE_POLL_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLISECONDS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HearingStatusAuditRepository hearingStatusAuditRepository;
+    private final TransactionTemplate newTransaction;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitInMilliseconds;
+    private final long shutdownTimeoutInSeconds;
+    private final BlockingQueue<PendingAudit> queue;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public HearingStatusAuditWriter(JdbcTemplate jdbcTemplate,
+                                    HearingStatusAuditRepository hearingStatusAuditRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    ApplicationParams applicationParams) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hearingStatusAuditRepository = hearingStatusAuditRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = applicationParams.isAuditWriteBehindEnabled();
+        this.maxBatchSize = Math.max(applicationParams.getAuditWriteBehindMaxBatchSize(), 1);
+        this.maxWaitInMilliseconds = applicationParams.getAuditWriteBehindMaxWaitInMilliseconds();
+        this.shutdownTimeoutInSeconds = applicationParams.getAuditWriteBehindShutdownTimeoutInSeconds();
+        this.queue = new ArrayBlockingQueue<>(Math.max(applicationParams.getAuditWriteBehindBufferCapacity(), 1));
+
+        Gauge.builder("hmc.outbound.audit.buffered", queue, BlockingQueue::size)
+            .description("Hearing status audit rows waiting to be written")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("hmc.outbound.audit.lag")
+            .description("Time from a hearing status audit row being queued to it being written")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("hmc.outbound.audit.batch.size")
+            .description("Hearing status audit rows written per batch")
+            .register(meterRegistry);
+        this.writtenCounter = writeCounter(meterRegistry, "written");
+        this.overflowCounter = writeCounter(meterRegistry, "overflow");
+        this.failedCounter = writeCounter(meterRegistry, "failed");
+
+        if (enabled) {
+            running = true;
+            flusher = new Thread(this::run, "hmc-audit-writer");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            flusher = null;
+        }
+    }
+
+    public void write(HearingStatusAuditEntity hearingStatusAuditEntity) {
+        if (!enabled) {
+            hearingStatusAuditRepository.save(hearingStatusAuditEntity);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(hearingStatusAuditEntity);
+                }
+            });
+        } else {
+            enqueue(hearingStatusAuditEntity);
+        }
+    }
+
+    private void enqueue(HearingStatusAuditEntity hearingStatusAuditEntity) {
+        if (!running) {
+            saveNow(hearingStatusAuditEntity);
+            return;
+        }
+        PendingAudit pendingAudit = new PendingAudit(hearingStatusAuditEntity, System.nanoTime());
+        if (!queue.offer(pendingAudit)) {
+            log.warn("Hearing status audit buffer is full, writing audit for hearing {} directly",
+                     hearingStatusAuditEntity.getHearingId());
+            overflowCounter.increment();
+            saveNow(hearingStatusAuditEntity);
+        } else if (!running && queue.remove(pendingAudit)) {
+            // shut down between the check above and the offer, and missed by the final drain
+            saveNow(hearingStatusAuditEntity);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutInSeconds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingAudit> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Writing {} hearing status audit row(s) on shutdown", remaining.size());
+            for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+                flush(remaining.subList(from, Math.min(from + maxBatchSize, remaining.size())));
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PendingAudit> audits = collect();
+                if (!audits.isEmpty()) {
+                    flush(audits);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error writing hearing status audit", e);
+            }
+        }
+    }
+
+    private List<PendingAudit> collect() throws InterruptedException {
+        List<PendingAudit> audits = new ArrayList<>();
+        PendingAudit first = queue.poll(IDLE_POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return audits;
+        }
+        audits.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitInMilliseconds);
+        while (audits.size() < maxBatchSize && running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(audits, maxBatchSize - audits.size());
+                break;
+            }
+            PendingAudit next = queue.poll(Math.min(remaining, IDLE_POLL_NANOSECONDS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                audits.add(next);
+            }
+        }
+        return audits;
+    }
+
+    private void flush(List<PendingAudit> audits) {
+        try {
+            List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, audits.size());
+            for (int i = 0; i < audits.size(); i++) {
+                audits.get(i).entity().setId(ids.get(i));
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, audits, audits.size(),
+                                     (statement, audit) -> setValues(statement, audit.entity()));
+            batchSizeSummary.record(audits.size());
+            writtenCounter.increment(audits.size());
+        } catch (RuntimeException e) {
+            log.error("Error writing batch of {} hearing status audit row(s), writing individually: {}",
+                      audits.size(), e.getMessage());
+            audits.forEach(audit -> {
+                audit.entity().setId(null);
+                saveNow(audit.entity());
+            });
+        }
+        long now = System.nanoTime();
+        audits.forEach(audit -> lagTimer.record(now - audit.enqueuedAt(), TimeUnit.NANOSECONDS));
+    }
+
+    private void saveNow(HearingStatusAuditEntity hearingStatusAuditEntity) {
+        try {
+            newTransaction.executeWithoutResult(status -> hearingStatusAuditRepository.save(hearingStatusAuditEntity));
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Error writing hearing status audit for hearing {}: {}",
+                      hearingStatusAuditEntity.getHearingId(), e.getMessage());
+        }
+    }
+
+    private static Counter writeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("hmc.outbound.audit.write")
+            .description("Hearing status audit rows written, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static void setValues(PreparedStatement statement, HearingStatusAuditEntity entity) throws SQLException {
+        statement.setLong(1, entity.getId());
+        statement.setString(2, entity.getHmctsServiceId());
+        statement.setString(3, entity.getHearingId());
+        statement.setString(4, entity.getStatus());
+        statement.setObject(5, entity.getStatusUpdateDateTime());
+        statement.setString(6, entity.getHearingEvent());
+        statement.setString(7, entity.getHttpStatus());
+        statement.setString(8, entity.getSource());
+        statement.setString(9, entity.getTarget());
+        statement.setString(10, toJson(entity.getErrorDescription()));
+        statement.setString(11, entity.getRequestVersion());
+        statement.setObject(12, entity.getResponseDateTime());
+        statement.setString(13, toJson(entity.getOtherInfo()));
+    }
+
+    private static String toJson(JsonNode jsonNode) {
+        return jsonNode == null ? null : jsonNode.toString();
+    }
+
+    private record PendingAudit(HearingStatusAuditEntity entity, long enqueuedAt) {
+    }
+}
@@ -5,33 +5,52 @@ import com.azure.messaging.servicebus.ServiceBusErrorContext;
 import com.azure.messaging.servicebus.ServiceBusMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceResponse;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.RawJsonBody;
 import uk.gov.hmcts.reform.hmc.config.MessageSenderConfiguration;
 import uk.gov.hmcts.reform.hmc.config.MessageType;
 import uk.gov.hmcts.reform.hmc.config.PendingStatusType;
 import uk.gov.hmcts.reform.hmc.config.SyncMessage;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 import uk.gov.hmcts.reform.hmc.errorhandling.AuthenticationException;
 import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
 import uk.gov.hmcts.reform.hmc.errorhandling.MalformedMessageException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ServiceBusMessageErrorHandler;
+import uk.gov.hmcts.reform.hmc.errorhandling.SyncResponseSendException;
+import uk.gov.hmcts.reform.hmc.helper.OutboundMessageSerializer;
+import uk.gov.hmcts.reform.hmc.helper.PayloadLogger;
 import uk.gov.hmcts.reform.hmc.repository.DefaultFutureHearingRepository;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static uk.gov.hmcts.reform.hmc.constants.Constants.ERROR_PROCESSING_MESSAGE;
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_REQUEST_ACCEPTED;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_HMI_OUTBOUND_ADAPTER;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_TO_HMI;
 import static uk.gov.hmcts.reform.hmc.constants.Constants.MESSAGE_ERROR;
@@ -47,7 +66,14 @@ public class MessageProcessor {
     private final DefaultFutureHearingRepository futureHearingRepository;
     private final MessageSenderConfiguration messageSenderConfiguration;
     private final ObjectMapper objectMapper;
+    private final ObjectReader jsonReader;
     private final PendingRequestService pendingRequestService;
+    private final PendingRequestWorkerPool pendingRequestWorkerPool;
+    private final HearingLookupCache hearingLookupCache;
+    private final FutureHearingConcurrencyLimiter concurrencyLimiter;
+    private final PayloadLogger payloadLogger;
+    private final OutboundMessageSerializer outboundMessageSerializer;
+    private final ApplicationParams applicationParams;
     private static final String HEARING_ID = "hearing_id";
     public static final String MESSAGE_TYPE = "message_type";
     public static final String MISSING_CASE_LISTING_ID = "Message is missing custom header hearing_id";
@@ -60,19 +86,31 @@ public class MessageProcessor {
                             ServiceBusMessageErrorHandler errorHandler,
                             MessageSenderConfiguration messageSenderConfiguration,
                             ObjectMapper objectMapper,
-                            PendingRequestService pendingRequestService) {
+                            PendingRequestService pendingRequestService,
+                            PendingRequestWorkerPool pendingRequestWorkerPool,
+                            HearingLookupCache hearingLookupCache,
+                            FutureHearingConcurrencyLimiter concurrencyLimiter,
+                            PayloadLogger payloadLogger,
+                            OutboundMessageSerializer outboundMessageSerializer,
+                            ApplicationParams applicationParams) {
         this.errorHandler = errorHandler;
         this.futureHearingRepository = futureHearingRepository;
         this.messageSenderConfiguration = messageSenderConfiguration;
         this.objectMapper = objectMapper;
+        this.jsonReader = objectMapper.readerFor(JsonNode.class);
         this.pendingRequestService = pendingRequestService;
+        this.pendingRequestWorkerPool = pendingRequestWorkerPool;
+        this.hearingLookupCache = hearingLookupCache;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.payloadLogger = payloadLogger;
+        this.outboundMessageSerializer = outboundMessageSerializer;
+        this.applicationParams = applicationParams;
     }
 
     @Value("${pending.request.pending-wait-in-milliseconds:120000}")
     private Long pendingWaitInMilliseconds;
 
     @Scheduled(fixedRateString = "${pending.request.pending-wait-in-milliseconds:120000}") // Execute every 2 minutes
-    @Transactional
     public void processPendingRequests() {
         log.debug("processPendingRequests (every {})- starting", pendingWaitInMilliseconds);
 
@@ -80,33 +118,96 @@ public class MessageProcessor {
 
         pendingRequestService.escalatePendingRequests();
 
-        List<PendingRequestEntity> pendingRequests = pendingRequestService.findQueuedPendingRequestsForProcessing();
-        if (pendingRequests.isEmpty()) {
+        pendingRequestService.releaseExpiredClaims(pendingRequestWorkerPool.getClaimTimeoutInSeconds());
+
+        processQueuedPendingRequests();
+        log.debug("processPendingRequests - completed");
+    }
+
+    /**
+     * Claims and processes the pending requests that are ready now, without the clean up and escalation done by the
+     * scheduled sweep. Used on its own when a pending request notification is received.
+     *
+     * <p>The queue is read a page at a time and each page is processed before the next is claimed, so only one page
+     * of requests is held at once however large the backlog. Messages are loaded as each request is processed. The
+     * sweep timeout applies to the sweep as a whole: once it has passed no further request is started or page
+     * claimed, leaving the rest for a later sweep.
+     */
+    public void processQueuedPendingRequests() {
+        processQueuedPendingRequests(pendingRequestService::claimQueuedPendingRequests);
+    }
+
+    /**
+     * Claims and processes the pending requests for one hearing that are ready now, in the same way as
+     * {@link #processQueuedPendingRequests()}. Used when a notification names the hearing a request was queued for.
+     */
+    public void processQueuedPendingRequestsForHearing(Long hearingId) {
+        processQueuedPendingRequests(
+            after -> pendingRequestService.claimQueuedPendingRequestsForHearing(hearingId, after));
+    }
+
+    private void processQueuedPendingRequests(Function<QueuedPendingRequest, List<QueuedPendingRequest>> claimPage) {
+        long deadline = pendingRequestWorkerPool.sweepDeadline();
+        int claimed = 0;
+        List<QueuedPendingRequest> pendingRequests = claimPage.apply(null);
+        while (!pendingRequests.isEmpty()) {
+            claimed += pendingRequests.size();
+            log.debug("process page of {} claimed PendingRequests", pendingRequests.size());
+            boolean finished = pendingRequestWorkerPool.processAll(
+                pendingRequests,
+                deadline,
+                this::processClaimedPendingRequest,
+                pendingRequest -> pendingRequestService.releaseClaim(pendingRequest.getId(),
+                                                                     pendingRequest.getLastTriedDateTime())
+            );
+            if (!finished) {
+                log.warn("Ending pending request sweep after {} claimed request(s), sweep timeout passed", claimed);
+                return;
+            }
+            pendingRequests = claimPage.apply(pendingRequests.getLast());
+        }
+        if (claimed == 0) {
             log.debug("No pending requests found for processing.");
-        } else {
-            log.debug("process batch of {} PendingRequests", pendingRequests.size());
-            pendingRequests.forEach(this::processPendingRequest);
         }
-        log.debug("processPendingRequests - completed");
     }
 
+    private void processClaimedPendingRequest(QueuedPendingRequest claimedRequest) {
+        pendingRequestService.findById(claimedRequest.getId()).ifPresentOrElse(
+            pendingRequest -> {
+                // The claim stamped the row with the time of the claim; restore when it was last tried
+                pendingRequest.setLastTriedDateTime(claimedRequest.getLastTriedDateTime());
+                processPendingRequest(pendingRequest);
+            },
+            () -> log.debug("Pending request with Id: {} no longer exists", claimedRequest.getId())
+        );
+    }
+
+    /**
+     * Processes a pending request that has already been claimed by {@link #processPendingRequests()}. A request that
+     * is not yet due for a retry has its claim released so it can be picked up by a later sweep. When called from the
+     * sweep the surrounding transaction is started by {@link PendingRequestWorkerPool}, which also holds the HMI
+     * concurrency permit.
+     */
     @Transactional
     public void processPendingRequest(PendingRequestEntity pendingRequest) {
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            processPendingRequestInScope(pendingRequest);
+        }
+    }
+
+    private void processPendingRequestInScope(PendingRequestEntity pendingRequest) {
         log.debug("processPendingRequest(pendingRequest) starting : {}", pendingRequest.getHearingId());
 
-        if (pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)
-            || !pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)) {
+        if (pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)) {
             log.debug("Pending request with Id: {}, hearingId: {} is not ready for processing.",
                       pendingRequest.getId(), pendingRequest.getHearingId());
             return;
         }
 
-        pendingRequestService.findAndLockByHearingId(pendingRequest.getHearingId());
-
-        int claimed = pendingRequestService.claimRequest(pendingRequest.getId());
-        if (claimed == 0) {
-            log.debug("Pending request with Id: {}, hearingId: {} already claimed.", pendingRequest.getId(),
-                      pendingRequest.getHearingId());
+        if (!pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)) {
+            log.debug("Pending request with Id: {}, hearingId: {} is not ready for processing.",
+                      pendingRequest.getId(), pendingRequest.getHearingId());
+            pendingRequestService.releaseClaim(pendingRequest.getId(), pendingRequest.getLastTriedDateTime());
             return;
         }
 
@@ -119,6 +220,12 @@ public class MessageProcessor {
             log.debug("Non-retriable exception {}, message {}", ex.getClass().getSimpleName(), ex.getMessage());
             pendingRequestService.handleNonRetriableException(pendingRequest, ex);
             return;
+        } catch (FutureHearingUnavailableException ex) {
+            // Rejected without being sent, so it does not count as a try
+            log.warn("Pending request with Id: {}, hearingId: {} not sent: {}", pendingRequest.getId(),
+                     pendingRequest.getHearingId(), ex.getMessage());
+            pendingRequestService.releaseClaim(pendingRequest.getId(), pendingRequest.getLastTriedDateTime());
+            return;
         } catch (Exception ex) {
             log.debug("Retriable exception {}, message {}", ex.getClass().getSimpleName(), ex.getMessage());
             pendingRequestService.markRequestAsPending(
@@ -135,69 +242,216 @@ public class MessageProcessor {
         log.debug("processPendingRequest(pendingRequest) completed");
     }
 
+    /**
+     * Processes a message from the outbound queue, unless an earlier message for its hearing is waiting to be
+     * redelivered, in which case the message is deferred behind it.
+     */
     public void processMessage(ServiceBusReceivedMessageContext messageContext) {
+        if (errorHandler.deferBehindRedelivery(messageContext)) {
+            messageContext.complete();
+            return;
+        }
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            var message = messageContext.getMessage();
+            var processingResult = tryProcessMessage(message);
+            if (!finaliseMessage(messageContext, processingResult)) {
+                messageContext.complete();
+            }
+        }
+    }
+
+    public boolean isAsync() {
+        return futureHearingRepository.isAsyncEnabled();
+    }
+
+    /**
+     * Processes the message like {@link #processMessage(ServiceBusReceivedMessageContext)}, but without holding the
+     * calling thread while HMI handles the request or while it waits for an HMI concurrency permit. The hearing lookup
+     * and token are dealt with on the calling thread, or on {@code executor} if the message had to wait for a permit;
+     * the sync response is sent and the message completed, abandoned or dead lettered when HMI responds. The hearing
+     * lookups made for the message are kept until it has been settled. The returned future completes once the message
+     * has been settled.
+     */
+    public CompletableFuture<Void> processMessageAsync(ServiceBusReceivedMessageContext messageContext,
+                                                       Executor executor) {
+        if (errorHandler.deferBehindRedelivery(messageContext)) {
+            messageContext.complete();
+            return CompletableFuture.completedFuture(null);
+        }
         var message = messageContext.getMessage();
-        var processingResult = tryProcessMessage(message);
-        finaliseMessage(messageContext, processingResult);
-        messageContext.complete();
+        HearingLookupCache.MessageScope messageScope = hearingLookupCache.openMessageScope();
+        CompletableFuture<Void> processing;
+        try (HearingLookupCache.Scope scope = messageScope.enter()) {
+            processing = startProcessingMessage(message, messageScope, executor);
+        } catch (Exception ex) {
+            processing = CompletableFuture.failedFuture(ex);
+        }
+        return processing
+            .handle((ignored, failure) -> {
+                if (failure == null) {
+                    log.debug("Processed message with ID {} processed successfully", message.getMessageId());
+                    return new MessageProcessingResult(MessageProcessingResultType.SUCCESS);
+                }
+                return processingFailed(message, unwrap(failure));
+            })
+            .thenAccept(processingResult -> {
+                try (HearingLookupCache.Scope scope = messageScope.enter()) {
+                    if (!finaliseMessage(messageContext, processingResult)) {
+                        messageContext.complete();
+                    }
+                }
+            });
+    }
+
+    private CompletableFuture<Void> startProcessingMessage(ServiceBusReceivedMessage message,
+                                                           HearingLookupCache.MessageScope messageScope,
+                                                           Executor executor) throws JsonProcessingException {
+        log.debug(
+            "Started processing ServiceBusReceivedMessage with ID {} (delivery {})",
+            message.getMessageId(),
+            message.getDeliveryCount() + 1
+        );
+
+        if (isAlreadyAccepted(message.getApplicationProperties())) {
+            resendSyncResponse(getMessageType(message.getApplicationProperties()),
+                               getCaseListingId(message.getApplicationProperties()));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<FutureHearingConcurrencyLimiter.Permit> permit = concurrencyLimiter.acquireAsync();
+        if (permit.isDone()) {
+            return permit.thenCompose(acquired -> callFutureHearing(message, acquired));
+        }
+        // Carry on on the message's own executor rather than on the thread that released the permit
+        return permit.thenComposeAsync(acquired -> {
+            try (HearingLookupCache.Scope scope = messageScope.enter()) {
+                return callFutureHearing(message, acquired);
+            }
+        }, executor);
+    }
+
+    private CompletableFuture<Void> callFutureHearing(ServiceBusReceivedMessage message,
+                                                      FutureHearingConcurrencyLimiter.Permit permit) {
+        String caseListingID;
+        CompletableFuture<HearingManagementInterfaceResponse> response;
+        try {
+            JsonNode body = convertMessage(message.getBody());
+            MessageType messageType = getMessageType(message.getApplicationProperties());
+            caseListingID = getCaseListingId(message.getApplicationProperties());
+            log.debug("Message of type {} received for caseListingID: {} ,{}", messageType, caseListingID,
+                      payloadLogger.payload(body));
+            response = switch (messageType) {
+                case REQUEST_HEARING -> futureHearingRepository.createHearingRequestAsync(body, caseListingID);
+                case AMEND_HEARING -> futureHearingRepository.amendHearingRequestAsync(body, caseListingID);
+                case DELETE_HEARING -> futureHearingRepository.deleteHearingRequestAsync(body, caseListingID);
+                default -> throw new MalformedMessageException(UNSUPPORTED_MESSAGE_TYPE);
+            };
+        } catch (RuntimeException | JsonProcessingException ex) {
+            permit.close();
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return response.<Void>handle((ignored, failure) -> {
+            try {
+                if (failure != null) {
+                    Exception cause = unwrap(failure);
+                    if (cause instanceof BadFutureHearingRequestException badRequest) {
+                        logHearingRequestRejected(badRequest, caseListingID);
+                    }
+                    throw new CompletionException(cause);
+                }
+                sendSyncResponse(caseListingID);
+                return null;
+            } catch (JsonProcessingException ex) {
+                throw new CompletionException(ex);
+            } finally {
+                permit.close();
+            }
+        });
+    }
+
+    private static Exception unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
     }
 
     public void processMessage(JsonNode message, Map<String, Object> applicationProperties)
             throws JsonProcessingException {
         if (log.isDebugEnabled()) {
             log.debug("processMessage message, applicationProperties");
-            log.debug("message <{}>", message);
+            log.debug("message <{}>", payloadLogger.payload(message));
             log.debug("applicationProperties <{}>", applicationProperties);
         }
 
-        if (applicationProperties.containsKey(MESSAGE_TYPE)) {
-            MessageType messageType;
-            try {
-                messageType =
-                    MessageType.valueOf(applicationProperties.get(MESSAGE_TYPE).toString());
-            } catch (Exception exception) {
+        MessageType messageType = getMessageType(applicationProperties);
+        String caseListingID = getCaseListingId(applicationProperties);
+        if (isAlreadyAccepted(applicationProperties)) {
+            resendSyncResponse(messageType, caseListingID);
+            return;
+        }
+
+        switch (messageType) {
+            case REQUEST_HEARING:
+                log.debug("Message of type REQUEST_HEARING received for caseListingID: {}", caseListingID);
+                processSyncFutureHearingResponse(() -> futureHearingRepository
+                    .createHearingRequest(message, caseListingID), caseListingID);
+                break;
+            case AMEND_HEARING:
+                log.debug("Message of type AMEND_HEARING received for caseListingID: {}", caseListingID);
+                processSyncFutureHearingResponse(() -> futureHearingRepository
+                    .amendHearingRequest(message, caseListingID), caseListingID);
+                break;
+            case DELETE_HEARING:
+                log.debug("Message of type DELETE_HEARING received for caseListingID: {}", caseListingID);
+                processSyncFutureHearingResponse(() -> futureHearingRepository
+                    .deleteHearingRequest(message, caseListingID), caseListingID);
+                break;
+            default:
                 throw new MalformedMessageException(UNSUPPORTED_MESSAGE_TYPE);
-            }
+        }
+    }
 
-            String caseListingID;
-            try {
-                caseListingID = applicationProperties.get(HEARING_ID).toString();
-            } catch (Exception exception) {
-                throw new MalformedMessageException(MISSING_CASE_LISTING_ID);
-            }
+    /**
+     * Whether HMI has already accepted the request and only its sync response failed to send, as recorded on the
+     * message by {@link ServiceBusMessageErrorHandler} when it abandoned it.
+     */
+    private static boolean isAlreadyAccepted(Map<String, Object> applicationProperties) {
+        return Boolean.parseBoolean(String.valueOf(applicationProperties.get(HEARING_REQUEST_ACCEPTED)));
+    }
 
-            switch (messageType) {
-                case REQUEST_HEARING:
-                    log.debug("Message of type REQUEST_HEARING received for caseListingID: {} ,{}",
-                              caseListingID, message);
-                    processSyncFutureHearingResponse(() -> futureHearingRepository
-                        .createHearingRequest(message, caseListingID), caseListingID);
-                    break;
-                case AMEND_HEARING:
-                    log.debug("Message of type AMEND_HEARING received for caseListingID: {} ,{}",
-                              caseListingID, message);
-                    processSyncFutureHearingResponse(() -> futureHearingRepository
-                        .amendHearingRequest(message, caseListingID), caseListingID);
-                    break;
-                case DELETE_HEARING:
-                    log.debug("Message of type DELETE_HEARING received for caseListingID: {} ,{}",
-                              caseListingID, message);
-                    processSyncFutureHearingResponse(() -> futureHearingRepository
-                        .deleteHearingRequest(message, caseListingID), caseListingID);
-                    break;
-                default:
-                    throw new MalformedMessageException(UNSUPPORTED_MESSAGE_TYPE);
-            }
+    private void resendSyncResponse(MessageType messageType, String caseListingID) throws JsonProcessingException {
+        log.info("Message of type {} for caseListingID: {} was already accepted, resending its sync response",
+                 messageType, caseListingID);
+        sendSyncResponse(caseListingID);
+    }
 
-        } else {
+    private MessageType getMessageType(Map<String, Object> applicationProperties) {
+        if (!applicationProperties.containsKey(MESSAGE_TYPE)) {
             throw new MalformedMessageException(MISSING_MESSAGE_TYPE);
         }
+        try {
+            return MessageType.valueOf(applicationProperties.get(MESSAGE_TYPE).toString());
+        } catch (Exception exception) {
+            throw new MalformedMessageException(UNSUPPORTED_MESSAGE_TYPE);
+        }
+    }
+
+    private String getCaseListingId(Map<String, Object> applicationProperties) {
+        try {
+            return applicationProperties.get(HEARING_ID).toString();
+        } catch (Exception exception) {
+            throw new MalformedMessageException(MISSING_CASE_LISTING_ID);
+        }
     }
 
     private void processPendingMessage(JsonNode message, String hearingId, String messageTypeString)
         throws IOException {
         log.debug("processPendingMessage");
-        log.debug("hearingId<{}> messageType<{}> message<{}>", hearingId, messageTypeString, message);
+        log.debug("hearingId<{}> messageType<{}> message<{}>", hearingId, messageTypeString,
+                  payloadLogger.payload(message));
 
         MessageType messageType;
         try {
@@ -210,20 +464,17 @@ public class MessageProcessor {
 
         switch (messageType) {
             case REQUEST_HEARING:
-                log.debug("Message of type REQUEST_HEARING received for caseListingID: {} ,{}",
-                          caseListingID, message);
+                log.debug("Message of type REQUEST_HEARING received for caseListingID: {}", caseListingID);
                 processSyncFutureHearingResponse(() -> futureHearingRepository
                     .createHearingRequest(message, caseListingID), caseListingID);
                 break;
             case AMEND_HEARING:
-                log.debug("Message of type AMEND_HEARING received for caseListingID: {} ,{}",
-                          caseListingID, message);
+                log.debug("Message of type AMEND_HEARING received for caseListingID: {}", caseListingID);
                 processSyncFutureHearingResponse(() -> futureHearingRepository
                     .amendHearingRequest(message, caseListingID), caseListingID);
                 break;
             case DELETE_HEARING:
-                log.debug("Message of type DELETE_HEARING received for caseListingID: {} ,{}",
-                          caseListingID, message);
+                log.debug("Message of type DELETE_HEARING received for caseListingID: {}", caseListingID);
                 processSyncFutureHearingResponse(() -> futureHearingRepository
                     .deleteHearingRequest(message, caseListingID), caseListingID);
                 break;
@@ -243,28 +494,33 @@ public class MessageProcessor {
         );
     }
 
-    private void finaliseMessage(ServiceBusReceivedMessageContext messageContext,
-                                 MessageProcessingResult processingResult) {
+    /**
+     * Hands a failed message to the error handler.
+     *
+     * @return {@code true} if the message has been settled, by dead lettering or abandoning it, and so must not be
+     *     completed
+     */
+    private boolean finaliseMessage(ServiceBusReceivedMessageContext messageContext,
+                                    MessageProcessingResult processingResult) {
         var message = messageContext.getMessage();
         switch (processingResult.resultType) {
             case SUCCESS:
                 log.debug(MESSAGE_SUCCESS, messageContext.getMessage().getMessageId());
-                break;
+                return false;
             case APPLICATION_ERROR:
-                errorHandler.handleApplicationError(messageContext, processingResult.exception);
-                break;
+                return errorHandler.handleApplicationError(messageContext, processingResult.exception);
             case GENERIC_ERROR:
                 errorHandler.handleGenericError(messageContext, processingResult.exception);
-                break;
+                return true;
             case JSON_ERROR:
                 errorHandler.handleJsonError(messageContext, (JsonProcessingException) processingResult.exception);
-                break;
+                return true;
             default:
                 log.info("Letting 'processed envelope' message with ID {} return to the queue. Delivery attempt {}.",
                         message.getMessageId(),
                         message.getDeliveryCount() + 1
                 );
-                break;
+                return false;
         }
     }
 
@@ -276,27 +532,38 @@ public class MessageProcessor {
                 message.getDeliveryCount() + 1
             );
 
-            processMessage(
-                convertMessage(message.getBody()),
-                message.getApplicationProperties()
-            );
+            try (FutureHearingConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire()) {
+                processMessage(
+                    convertMessage(message.getBody()),
+                    message.getApplicationProperties()
+                );
+            }
 
             log.debug("Processed message with ID {} processed successfully", message.getMessageId());
             return new MessageProcessingResult(MessageProcessingResultType.SUCCESS);
 
-        } catch (MalformedMessageException ex) {
+        } catch (Exception ex) {
+            return processingFailed(message, ex);
+        }
+    }
+
+    private MessageProcessingResult processingFailed(ServiceBusReceivedMessage message, Exception ex) {
+        if (ex instanceof MalformedMessageException) {
             logErrors(message, ex);
             return new MessageProcessingResult(MessageProcessingResultType.GENERIC_ERROR, ex);
-        } catch (BadFutureHearingRequestException | AuthenticationException | ResourceNotFoundException ex) {
+        } else if (ex instanceof BadFutureHearingRequestException || ex instanceof AuthenticationException
+            || ex instanceof ResourceNotFoundException || ex instanceof SyncResponseSendException) {
             logErrors(message, ex);
             return new MessageProcessingResult(MessageProcessingResultType.APPLICATION_ERROR, ex);
-        } catch (JsonProcessingException ex) {
+        } else if (ex instanceof FutureHearingUnavailableException) {
+            log.warn("Message with ID {} not sent: {}", message.getMessageId(), ex.getMessage());
+            return new MessageProcessingResult(MessageProcessingResultType.APPLICATION_ERROR, ex);
+        } else if (ex instanceof JsonProcessingException) {
             logErrors(message, ex);
             return new MessageProcessingResult(MessageProcessingResultType.JSON_ERROR, ex);
-        } catch (Exception ex) {
-            logErrors(message, ex);
-            return new MessageProcessingResult(MessageProcessingResultType.GENERIC_ERROR, ex);
         }
+        logErrors(message, ex);
+        return new MessageProcessingResult(MessageProcessingResultType.GENERIC_ERROR, ex);
     }
 
     private void logErrors(Object message, Exception exception) {
@@ -324,37 +591,69 @@ public class MessageProcessor {
     private void processSyncFutureHearingResponse(Supplier<HearingManagementInterfaceResponse> responseSupplier,
                                                   String hearingId)
         throws JsonProcessingException, BadFutureHearingRequestException {
-        SyncMessage syncMessage;
         try {
             responseSupplier.get();
-            syncMessage = SyncMessage.builder()
-                .listAssistHttpStatus(202)
-                .build();
         } catch (BadFutureHearingRequestException ex) {
-            final Integer errorCode = (null == ex.getErrorDetails() ? null : ex.getErrorDetails().getErrorCode());
-            final String errorDescription =
-                (null == ex.getErrorDetails() ? null : ex.getErrorDetails().getErrorDescription());
-            log.error(MESSAGE_ERROR + errorCode
-                          + WITH_ERROR + ex.getMessage()
-                          + HEARING_ID + hearingId);
-            syncMessage = SyncMessage.builder()
-                .listAssistHttpStatus(400)
-                .listAssistErrorCode(errorCode)
-                .listAssistErrorDescription(errorDescription)
-                .build();
+            logHearingRequestRejected(ex, hearingId);
             throw ex;
         }
+        sendSyncResponse(hearingId);
+    }
+
+    private void logHearingRequestRejected(BadFutureHearingRequestException ex, String hearingId) {
+        final Integer errorCode = (null == ex.getErrorDetails() ? null : ex.getErrorDetails().getErrorCode());
+        log.error(MESSAGE_ERROR + errorCode
+                      + WITH_ERROR + ex.getMessage()
+                      + HEARING_ID + hearingId);
+    }
+
+    private void sendSyncResponse(String hearingId) throws JsonProcessingException {
+        SyncMessage syncMessage = SyncMessage.builder()
+            .listAssistHttpStatus(202)
+            .build();
         log.debug("preparing to send message to queue for hearingId {} ", hearingId);
-        messageSenderConfiguration.sendMessage(objectMapper
-            .writeValueAsString(syncMessage), LA_SYNC_HEARING_RESPONSE, hearingId);
+        messageSenderConfiguration.sendMessage(outboundMessageSerializer.serialize(syncMessage),
+                                               LA_SYNC_HEARING_RESPONSE, hearingId);
     }
 
+    /**
+     * Reads the message body straight from its bytes. With {@code fh.hmi.payload-pass-through} the body is checked but
+     * not parsed into a tree, and its bytes are sent to HMI as received.
+     */
     private JsonNode convertMessage(BinaryData message) throws JsonProcessingException {
-        return objectMapper.readTree(message.toString());
+        byte[] body = message.toBytes();
+        try {
+            if (applicationParams.isPayloadPassThrough()) {
+                checkPayload(body);
+                return RawJsonBody.asJsonNode(body);
+            }
+            return jsonReader.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks that the body is one well-formed JSON object, with nothing after it but whitespace, by streaming through
+     * it without building a tree. Nothing else is read from the body; the hearing id and message type come from the
+     * message properties.
+     */
+    private void checkPayload(byte[] body) throws IOException {
+        try (JsonParser parser = jsonReader.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Message body is not a JSON object");
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Message body has content after the JSON object");
+            }
+        }
     }
 
     public JsonNode convertMessage(String message) throws JsonProcessingException {
-        return objectMapper.readTree(message);
+        return jsonReader.readTree(message);
     }
 
     static class MessageProcessingResult {
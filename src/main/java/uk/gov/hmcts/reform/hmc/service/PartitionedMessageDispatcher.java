@@ -0,0 +1,305 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusMessageLockRenewer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HEARING_ID;
+
+/**
+ * Fans messages received from the outbound queue out across a fixed set of single threaded partitions.
+ *
+ * <p>Messages are assigned to a partition by hearing id, so all messages for the same hearing are handled one at a
+ * time and in the order they were received, while different hearings are handled concurrently. The number of
+ * messages dispatched but not yet finalised is capped; once the cap is reached the Service Bus callback blocks,
+ * which stops the processor from taking further messages off the queue.
+ *
+ * <p>When HMI is called without blocking ({@code fh.hmi.client-mode=async}) a partition thread only prepares each
+ * message and moves on while HMI handles it. Order is then kept per hearing instead: a message is not started until
+ * the previous message for its hearing has been settled. The in-flight cap, rather than the number of partitions,
+ * then bounds how many messages are with HMI at once.
+ *
+ * <p>The processor stops renewing a message's lock once this callback returns, so the lock of each message handed to
+ * a partition is renewed by {@link ServiceBusMessageLockRenewer} until the message has been settled.
+ */
+@Slf4j
+@Component
+public class PartitionedMessageDispatcher {
+
+    private static final String PARTITION_THREAD_PREFIX = "hmc-outbound-partition-";
+
+    private final MessageProcessor messageProcessor;
+    private final ServiceBusMessageLockRenewer lockRenewer;
+    private final List<ThreadPoolExecutor> partitions;
+    private final Semaphore inFlightPermits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private final Timer firstMessageTimer;
+    private final AtomicBoolean firstMessage = new AtomicBoolean(true);
+    private final Map<String, CompletableFuture<Void>> lastMessageByHearing = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final long shutdownTimeoutInSeconds;
+
+    public PartitionedMessageDispatcher(MessageProcessor messageProcessor,
+                                        ServiceBusMessageLockRenewer lockRenewer,
+                                        MeterRegistry meterRegistry,
+                                        ApplicationParams applicationParams) {
+        this.messageProcessor = messageProcessor;
+        this.lockRenewer = lockRenewer;
+        this.shutdownTimeoutInSeconds = applicationParams.getConsumerShutdownTimeoutInSeconds();
+        this.maxInFlight = Math.max(applicationParams.getConsumerMaxInFlight(), 1);
+        this.inFlightPermits = new Semaphore(this.maxInFlight, true);
+        boolean virtualThreads = applicationParams.isVirtualThreadsEnabled();
+        this.partitions = createPartitions(applicationParams.getConsumerPartitions(), meterRegistry, virtualThreads);
+
+        Gauge.builder("hmc.outbound.consumer.in.flight", inFlight, AtomicInteger::get)
+            .description("Messages dispatched to a partition and not yet finalised")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("hmc.outbound.consumer.rejected")
+            .description("Messages abandoned because they could not be dispatched to a partition")
+            .register(meterRegistry);
+        this.firstMessageTimer = Timer.builder("hmc.outbound.consumer.first.message")
+            .description("Time taken to process the first message received after startup")
+            .register(meterRegistry);
+
+        log.info("Outbound queue consumer configured with {} {} partition(s) and max in-flight of {}",
+                 partitions.size(), virtualThreads ? "virtual" : "platform", inFlightPermits.availablePermits());
+    }
+
+    /**
+     * Service Bus processor callback. Routes the message to the partition owning its hearing id and returns as soon
+     * as it has been queued; the partition worker completes, abandons or dead letters the message.
+     */
+    public void dispatch(ServiceBusReceivedMessageContext messageContext) {
+        if (partitions.isEmpty()) {
+            processMessage(messageContext);
+            return;
+        }
+
+        Object hearingId = messageContext.getMessage().getApplicationProperties().get(HEARING_ID);
+        int partition = partitionFor(hearingId, partitions.size());
+
+        try {
+            inFlightPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted waiting to dispatch message with id '{}', abandoning",
+                     messageContext.getMessage().getMessageId());
+            rejectedCounter.increment();
+            messageContext.abandon();
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        ServiceBusMessageLockRenewer.Renewal renewal = lockRenewer.renew(messageContext.getMessage());
+        if (messageProcessor.isAsync()) {
+            dispatchAsync(messageContext, hearingId, partition, renewal);
+            return;
+        }
+        try {
+            partitions.get(partition).execute(() -> process(messageContext, partition, renewal));
+        } catch (RejectedExecutionException e) {
+            renewal.close();
+            release();
+            log.warn("Partition {} rejected message with id '{}', abandoning", partition,
+                     messageContext.getMessage().getMessageId());
+            rejectedCounter.increment();
+            messageContext.abandon();
+        }
+    }
+
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    static int partitionFor(Object hearingId, int partitionCount) {
+        if (hearingId == null) {
+            return 0;
+        }
+        return Math.floorMod(hearingId.toString().hashCode(), partitionCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitions.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor partition : partitions) {
+            try {
+                if (!partition.awaitTermination(shutdownTimeoutInSeconds, TimeUnit.SECONDS)) {
+                    log.warn("Outbound queue partition did not drain within {} seconds", shutdownTimeoutInSeconds);
+                    partition.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                partition.shutdownNow();
+            }
+        }
+        awaitAsyncMessages();
+    }
+
+    /**
+     * Waits for messages still with HMI, which hold an in-flight permit after their partition has moved on.
+     */
+    private void awaitAsyncMessages() {
+        if (partitions.isEmpty() || !messageProcessor.isAsync()) {
+            return;
+        }
+        try {
+            if (!inFlightPermits.tryAcquire(maxInFlight, shutdownTimeoutInSeconds, TimeUnit.SECONDS)) {
+                log.warn("{} message(s) still in flight after {} seconds", inFlight.get(), shutdownTimeoutInSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts the message on its partition once the previous message for the same hearing has been settled. The
+     * in-flight permit is held until this message has been settled too.
+     */
+    private void dispatchAsync(ServiceBusReceivedMessageContext messageContext, Object hearingId, int partition,
+                               ServiceBusMessageLockRenewer.Renewal renewal) {
+        String hearingKey = String.valueOf(hearingId);
+        CompletableFuture<Void> settled = new CompletableFuture<>();
+        CompletableFuture<Void> previous = lastMessageByHearing.put(hearingKey, settled);
+        boolean first = firstMessage.compareAndSet(true, false);
+        long start = System.nanoTime();
+
+        (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+            .thenComposeAsync(ignored -> messageProcessor.processMessageAsync(messageContext,
+                                                                              partitions.get(partition)),
+                              partitions.get(partition))
+            .whenComplete((ignored, failure) -> {
+                renewal.close();
+                if (failure != null) {
+                    onAsyncFailure(messageContext, partition, failure);
+                }
+                if (first) {
+                    recordFirstMessage(System.nanoTime() - start);
+                }
+                lastMessageByHearing.remove(hearingKey, settled);
+                release();
+                settled.complete(null);
+            });
+    }
+
+    private void onAsyncFailure(ServiceBusReceivedMessageContext messageContext, int partition, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause() : failure;
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("Partition {} rejected message with id '{}', abandoning", partition,
+                     messageContext.getMessage().getMessageId());
+            rejectedCounter.increment();
+            messageContext.abandon();
+        } else {
+            log.error("Partition {} failed to finalise message with id '{}'", partition,
+                      messageContext.getMessage().getMessageId(), cause);
+            abandonUnsettled(messageContext);
+        }
+    }
+
+    /**
+     * Abandons a message whose processing failed before it was settled, so that Service Bus redelivers it straight
+     * away rather than once its lock expires. A message that was settled before the failure cannot be abandoned, which
+     * is only logged.
+     */
+    private void abandonUnsettled(ServiceBusReceivedMessageContext messageContext) {
+        try {
+            messageContext.abandon();
+        } catch (RuntimeException e) {
+            log.warn("Could not abandon message with id '{}': {}", messageContext.getMessage().getMessageId(),
+                     e.getMessage());
+        }
+    }
+
+    private void process(ServiceBusReceivedMessageContext messageContext, int partition,
+                         ServiceBusMessageLockRenewer.Renewal renewal) {
+        try {
+            log.debug("Partition {} processing message with id '{}'", partition,
+                      messageContext.getMessage().getMessageId());
+            processMessage(messageContext);
+        } catch (Exception e) {
+            log.error("Partition {} failed to finalise message with id '{}'", partition,
+                      messageContext.getMessage().getMessageId(), e);
+            abandonUnsettled(messageContext);
+        } finally {
+            renewal.close();
+            release();
+        }
+    }
+
+    /**
+     * Processes the message, timing it if it is the first since startup. The first message pays for whatever the
+     * warm-up did not cover, so its time shows how well the warm-up is working.
+     */
+    private void processMessage(ServiceBusReceivedMessageContext messageContext) {
+        if (!firstMessage.compareAndSet(true, false)) {
+            messageProcessor.processMessage(messageContext);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            messageProcessor.processMessage(messageContext);
+        } finally {
+            recordFirstMessage(System.nanoTime() - start);
+        }
+    }
+
+    private void recordFirstMessage(long duration) {
+        firstMessageTimer.record(duration, TimeUnit.NANOSECONDS);
+        log.info("First message since startup processed in {}ms", TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        inFlightPermits.release();
+    }
+
+    /**
+     * Creates the partitions. With virtual threads each partition is still a single thread, so ordering is unchanged,
+     * but a partition blocked on HMI, the database or Service Bus no longer holds an OS thread.
+     */
+    private List<ThreadPoolExecutor> createPartitions(int partitionCount, MeterRegistry meterRegistry,
+                                                      boolean virtualThreads) {
+        if (partitionCount <= 1) {
+            return Collections.emptyList();
+        }
+        List<ThreadPoolExecutor> executors = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            final String threadName = PARTITION_THREAD_PREFIX + i;
+            ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(threadName).factory()
+                : Thread.ofPlatform().name(threadName).daemon(true).factory();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            Gauge.builder("hmc.outbound.consumer.partition.queue.depth", executor, e -> e.getQueue().size())
+                .description("Messages waiting in an outbound queue partition")
+                .tag("partition", String.valueOf(i))
+                .register(meterRegistry);
+            executors.add(executor);
+        }
+        return Collections.unmodifiableList(executors);
+    }
+}
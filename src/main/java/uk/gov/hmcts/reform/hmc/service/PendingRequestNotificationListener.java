@@ -0,0 +1,216 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+/**
+ * Listens on a PostgreSQL notification channel and runs a sweep of queued pending requests as soon as a
+ * notification arrives, rather than waiting for the next scheduled sweep. Disabled by default.
+ *
+ * <p>A notification carries the id of the hearing a request was queued for, and only that hearing's requests are
+ * claimed in response. Notifications received while a sweep is running are coalesced into a single follow-up sweep.
+ * The whole queue is swept whenever the listener (re)connects, and for a notification without a hearing id. The
+ * scheduled sweep in {@link MessageProcessor#processPendingRequests()} keeps running as a safety net for missed
+ * notifications.
+ *
+ * <p>The listening connection is held for as long as the application runs, so it is opened directly with the
+ * datasource settings rather than taken from the connection pool.
+ * The {@code pending_requests} table belongs to hmc-cft-hearing-service, so the trigger that sends the notification
+ * has to be installed alongside that schema; see the README.
+ */
+@Slf4j
+@Component
+public class PendingRequestNotificationListener {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final MessageProcessor messageProcessor;
+    private final boolean enabled;
+    private final String channel;
+    private final int pollTimeoutInMilliseconds;
+    private final long reconnectDelayInMilliseconds;
+    private final Counter notificationCounter;
+    private final Counter sweepCounter;
+
+    private final AtomicBoolean sweepRequested = new AtomicBoolean();
+    private final AtomicBoolean fullSweepRequested = new AtomicBoolean();
+    private final Set<Long> notifiedHearings = ConcurrentHashMap.newKeySet();
+    private ExecutorService sweeper;
+    private Thread listener;
+    private volatile boolean running;
+
+    @Autowired
+    public PendingRequestNotificationListener(DataSourceProperties dataSourceProperties,
+                                              MessageProcessor messageProcessor,
+                                              MeterRegistry meterRegistry,
+                                              ApplicationParams applicationParams) {
+        this(dataSourceProperties.initializeDataSourceBuilder().type(SimpleDriverDataSource.class).build(),
+             messageProcessor, meterRegistry, applicationParams);
+    }
+
+    PendingRequestNotificationListener(DataSource dataSource,
+                                       MessageProcessor messageProcessor,
+                                       MeterRegistry meterRegistry,
+                                       ApplicationParams applicationParams) {
+        boolean enabled = applicationParams.isPendingRequestNotifyEnabled();
+        String channel = applicationParams.getPendingRequestNotifyChannel();
+        if (enabled && !CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid pending request notification channel: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.messageProcessor = messageProcessor;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.pollTimeoutInMilliseconds = applicationParams.getPendingRequestNotifyPollTimeoutInMilliseconds();
+        this.reconnectDelayInMilliseconds = applicationParams.getPendingRequestNotifyReconnectDelayInMilliseconds();
+        this.notificationCounter = Counter.builder("hmc.outbound.pending.request.notification")
+            .description("Pending request notifications received")
+            .register(meterRegistry);
+        this.sweepCounter = Counter.builder("hmc.outbound.pending.request.notification.sweep")
+            .description("Sweeps of queued pending requests triggered by a notification")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        sweeper = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hmc-pending-request-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        listener = new Thread(this::listen, "hmc-pending-request-listener");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("Listening for pending request notifications on channel {}", channel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        listener.interrupt();
+        try {
+            listener.join(pollTimeoutInMilliseconds + reconnectDelayInMilliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sweeper.shutdown();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                // anything inserted while we were not listening has not been notified
+                requestSweep(null);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutInMilliseconds);
+                    if (notifications != null && notifications.length > 0) {
+                        log.debug("Received {} pending request notification(s)", notifications.length);
+                        notificationCounter.increment(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            requestSweep(notifiedHearingId(notification));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Lost pending request notification connection, reconnecting in {}ms: {}",
+                             reconnectDelayInMilliseconds, e.getMessage());
+                    pauseBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(reconnectDelayInMilliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static Long notifiedHearingId(PGNotification notification) {
+        try {
+            return Long.valueOf(notification.getParameter());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Asks for the given hearing's requests to be swept, or for the whole queue when {@code hearingId} is null.
+     */
+    private void requestSweep(Long hearingId) {
+        if (hearingId == null) {
+            fullSweepRequested.set(true);
+        } else {
+            notifiedHearings.add(hearingId);
+        }
+        if (sweepRequested.compareAndSet(false, true)) {
+            sweeper.execute(this::sweep);
+        }
+    }
+
+    private void sweep() {
+        sweepRequested.set(false);
+        List<Long> hearingIds = new ArrayList<>(notifiedHearings);
+        notifiedHearings.removeAll(hearingIds);
+        for (Long hearingId : hearingIds) {
+            try {
+                messageProcessor.processQueuedPendingRequestsForHearing(hearingId);
+            } catch (Exception e) {
+                log.error("Error sweeping pending requests for hearing {} after notification", hearingId, e);
+            }
+        }
+        if (fullSweepRequested.getAndSet(false)) {
+            try {
+                messageProcessor.processQueuedPendingRequests();
+            } catch (Exception e) {
+                log.error("Error sweeping pending requests after notification", e);
+            }
+        }
+        sweepCounter.increment();
+    }
+}
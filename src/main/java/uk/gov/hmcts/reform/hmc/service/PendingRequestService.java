@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.hmc.service;
 
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,6 +18,25 @@ public interface PendingRequestService {
 
     List<PendingRequestEntity> findQueuedPendingRequestsForProcessing();
 
+    /**
+     * Claims the next page of queued pending requests, starting after {@code after} or from the start of the queue
+     * when it is {@code null}.
+     */
+    List<QueuedPendingRequest> claimQueuedPendingRequests(QueuedPendingRequest after);
+
+    /**
+     * Claims the next page of queued pending requests for one hearing, starting after {@code after} or from the
+     * start of the queue when it is {@code null}.
+     */
+    List<QueuedPendingRequest> claimQueuedPendingRequestsForHearing(Long hearingId, QueuedPendingRequest after);
+
+    int releaseClaim(Long id, LocalDateTime lastTriedDateTime);
+
+    /**
+     * Returns requests claimed more than {@code claimTimeoutInSeconds} ago to the queue.
+     */
+    int releaseExpiredClaims(long claimTimeoutInSeconds);
+
     void markRequestWithGivenStatus(Long id, String status);
 
     int claimRequest(Long id);
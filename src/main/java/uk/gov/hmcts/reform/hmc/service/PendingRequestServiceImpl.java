@@ -10,20 +10,29 @@ import uk.gov.hmcts.reform.hmc.config.MessageSenderToTopicConfiguration;
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingResponseEntity;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 import uk.gov.hmcts.reform.hmc.errorhandling.AuthenticationException;
 import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
+import uk.gov.hmcts.reform.hmc.errorhandling.HearingStatusPublishException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
+import uk.gov.hmcts.reform.hmc.helper.OutboundMessageSerializer;
 import uk.gov.hmcts.reform.hmc.helper.hmi.HmiHearingResponseMapper;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
 import uk.gov.hmcts.reform.hmc.model.HmcHearingResponse;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 import uk.gov.hmcts.reform.hmc.repository.HearingRepository;
 import uk.gov.hmcts.reform.hmc.repository.PendingRequestRepository;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 
 import static uk.gov.hmcts.reform.hmc.config.PendingStatusType.EXCEPTION;
@@ -37,7 +46,10 @@ import static uk.gov.hmcts.reform.hmc.constants.Constants.LA_RESPONSE;
 @Service
 public class PendingRequestServiceImpl implements PendingRequestService {
 
+    private static final LocalDateTime FIRST_PAGE_SUBMITTED_DATE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final HearingRepository hearingRepository;
+    private final HearingLookupCache hearingLookupCache;
     @Value("${pending.request.pending-wait-interval:15,MINUTES}")
     public String pendingWaitInterval;
 
@@ -53,31 +65,39 @@ public class PendingRequestServiceImpl implements PendingRequestService {
     @Value("${pending.request.retry-limit-in-minutes:20}")
     public Long retryLimitInMinutes;
 
+    @Value("${pending.request.claim-batch-size:50}")
+    public Integer claimBatchSize;
+
     private final HearingStatusAuditService hearingStatusAuditService;
     private final ObjectMapper objectMapper;
     private final PendingRequestRepository pendingRequestRepository;
     private final MessageSenderToTopicConfiguration messageSenderToTopicConfiguration;
     private final HmiHearingResponseMapper hmiHearingResponseMapper;
+    private final OutboundMessageSerializer outboundMessageSerializer;
 
     public PendingRequestServiceImpl(ObjectMapper objectMapper,
                                      PendingRequestRepository pendingRequestRepository,
                                      HearingRepository hearingRepository,
                                      HearingStatusAuditService hearingStatusAuditService,
                                      MessageSenderToTopicConfiguration messageSenderToTopicConfiguration,
-                                     HmiHearingResponseMapper hmiHearingResponseMapper) {
+                                     HmiHearingResponseMapper hmiHearingResponseMapper,
+                                     HearingLookupCache hearingLookupCache,
+                                     OutboundMessageSerializer outboundMessageSerializer) {
         this.objectMapper = objectMapper;
         this.pendingRequestRepository = pendingRequestRepository;
         this.hearingRepository = hearingRepository;
         this.hearingStatusAuditService = hearingStatusAuditService;
         this.messageSenderToTopicConfiguration = messageSenderToTopicConfiguration;
         this.hmiHearingResponseMapper = hmiHearingResponseMapper;
+        this.hearingLookupCache = hearingLookupCache;
+        this.outboundMessageSerializer = outboundMessageSerializer;
     }
 
     public boolean submittedDateTimePeriodElapsed(PendingRequestEntity pendingRequest) {
         LocalDateTime currentDateTime = LocalDateTime.now();
         LocalDateTime submittedDateTime = pendingRequest.getSubmittedDateTime();
         long hoursElapsed = ChronoUnit.HOURS.between(submittedDateTime, currentDateTime);
-        log.info("Hours elapsed = {}; submittedDateTime: {}; currentDateTime: {}",
+        log.debug("Hours elapsed = {}; submittedDateTime: {}; currentDateTime: {}",
                   hoursElapsed, submittedDateTime, currentDateTime);
         boolean result = false;
         if (hoursElapsed >= exceptionLimitInHours) {
@@ -98,12 +118,13 @@ public class PendingRequestServiceImpl implements PendingRequestService {
             return true;
         }
 
-        long minutesElapsed = ChronoUnit.MINUTES.between(lastTriedDateTime, LocalDateTime.now());
+        LocalDateTime currentDateTime = LocalDateTime.now();
+        long minutesElapsed = ChronoUnit.MINUTES.between(lastTriedDateTime, currentDateTime);
         boolean result = retryLimitInMinutes < minutesElapsed;
-        log.info("lastTriedDateTimePeriodNotElapsed()={}  retryLimitInMinutes<{}> hearingId<{}> Minutes elapsed<{}> "
+        log.debug("lastTriedDateTimePeriodNotElapsed()={}  retryLimitInMinutes<{}> hearingId<{}> Minutes elapsed<{}> "
                       + "submittedDateTime<{}> currentDateTime<{}>",
                   result, retryLimitInMinutes, pendingRequest.getHearingId(), minutesElapsed, lastTriedDateTime,
-                  LocalDateTime.now());
+                  currentDateTime);
         return result;
     }
 
@@ -123,15 +144,70 @@ public class PendingRequestServiceImpl implements PendingRequestService {
             pendingRequestRepository.findQueuedPendingRequestsForProcessing(
                 getIntervalUnits(pendingWaitInterval), getIntervalMeasure(pendingWaitInterval));
         if (!pendingRequests.isEmpty()) {
-            pendingRequests.forEach(e ->
-                log.info("findQueuedPendingRequestsForProcessing(): id<{}> hearingId<{}> ",
-                      e.getId(), e.getHearingId()));
+            log.info("findQueuedPendingRequestsForProcessing(): {} pending requests", pendingRequests.size());
+            if (log.isDebugEnabled()) {
+                pendingRequests.forEach(e ->
+                    log.debug("findQueuedPendingRequestsForProcessing(): id<{}> hearingId<{}> ",
+                              e.getId(), e.getHearingId()));
+            }
         } else {
             log.debug("findQueuedPendingRequestsForProcessing(): empty");
         }
         return pendingRequests;
     }
 
+    public List<QueuedPendingRequest> claimQueuedPendingRequests(QueuedPendingRequest after) {
+        return sortAndLogClaimed(pendingRequestRepository.claimQueuedPendingRequests(
+            getIntervalUnits(pendingWaitInterval), getIntervalMeasure(pendingWaitInterval),
+            afterSubmittedDateTime(after), afterId(after), claimBatchSize));
+    }
+
+    public List<QueuedPendingRequest> claimQueuedPendingRequestsForHearing(Long hearingId,
+                                                                          QueuedPendingRequest after) {
+        return sortAndLogClaimed(pendingRequestRepository.claimQueuedPendingRequestsForHearing(
+            getIntervalUnits(pendingWaitInterval), getIntervalMeasure(pendingWaitInterval),
+            hearingId, afterSubmittedDateTime(after), afterId(after), claimBatchSize));
+    }
+
+    private static LocalDateTime afterSubmittedDateTime(QueuedPendingRequest after) {
+        return after == null ? FIRST_PAGE_SUBMITTED_DATE_TIME : after.getSubmittedDateTime();
+    }
+
+    private static Long afterId(QueuedPendingRequest after) {
+        return after == null ? 0L : after.getId();
+    }
+
+    private List<QueuedPendingRequest> sortAndLogClaimed(List<QueuedPendingRequest> claimed) {
+        List<QueuedPendingRequest> claimedRequests = new ArrayList<>(claimed);
+        claimedRequests.sort(Comparator.comparing(QueuedPendingRequest::getSubmittedDateTime)
+                                 .thenComparing(QueuedPendingRequest::getId));
+        if (!claimedRequests.isEmpty()) {
+            log.info("claimQueuedPendingRequests(): {} claimed, first id<{}> last id<{}>", claimedRequests.size(),
+                     claimedRequests.get(0).getId(), claimedRequests.get(claimedRequests.size() - 1).getId());
+            if (log.isDebugEnabled()) {
+                claimedRequests.forEach(e ->
+                    log.debug("claimQueuedPendingRequests(): id<{}> hearingId<{}> ", e.getId(), e.getHearingId()));
+            }
+        } else {
+            log.debug("claimQueuedPendingRequests(): empty");
+        }
+        return claimedRequests;
+    }
+
+    public int releaseClaim(Long id, LocalDateTime lastTriedDateTime) {
+        log.debug("releaseClaim({}, {})", id, lastTriedDateTime);
+        return pendingRequestRepository.releaseClaim(id, lastTriedDateTime);
+    }
+
+    public int releaseExpiredClaims(long claimTimeoutInSeconds) {
+        int released = pendingRequestRepository.releaseExpiredClaims(claimTimeoutInSeconds);
+        if (released > 0) {
+            log.warn("releaseExpiredClaims(): {} pending request(s) claimed more than {} seconds ago returned to "
+                         + "PENDING", released, claimTimeoutInSeconds);
+        }
+        return released;
+    }
+
     public void markRequestAsPending(Long id, Integer retryCountIn, LocalDateTime lastTriedDateTimeIn) {
         log.debug("markRequestAsPending({}, {}, {})", id, retryCountIn, lastTriedDateTimeIn);
         int retryCountOut = retryCountIn + 1;
@@ -154,7 +230,7 @@ public class PendingRequestServiceImpl implements PendingRequestService {
     public void handleNonRetriableException(PendingRequestEntity pendingRequest, Exception exception) {
         Long hearingId = pendingRequest.getHearingId();
 
-        Optional<HearingEntity> hearingEntityOptional = hearingRepository.findById(hearingId);
+        Optional<HearingEntity> hearingEntityOptional = hearingLookupCache.findHearing(hearingId);
         if (hearingEntityOptional.isPresent()) {
             HearingEntity hearing = hearingEntityOptional.get();
             catchExceptionAndUpdateHearing(hearing, exception);
@@ -184,8 +260,8 @@ public class PendingRequestServiceImpl implements PendingRequestService {
         hearingRepository.save(hearingEntity);
         HmcHearingResponse hmcHearingResponse = getHmcHearingResponse(hearingEntity);
         log.debug("Sending hearing id {} to topic with Hearing response {}", hearingId, hmcHearingResponse);
-        messageSenderToTopicConfiguration
-            .sendMessage(objectMapper.convertValue(hmcHearingResponse, JsonNode.class).toString(),
+        CompletableFuture<Void> published = messageSenderToTopicConfiguration
+            .sendMessage(outboundMessageSerializer.serialize(hmcHearingResponse),
                          hmcHearingResponse.getHmctsServiceCode(), hearingId.toString(),
                          hearingEntity.getDeploymentId());
         logErrorStatusToException(hearingId, hearingEntity.getLatestCaseReferenceNumber(),
@@ -202,6 +278,21 @@ public class PendingRequestServiceImpl implements PendingRequestService {
                 .errorDetails(errorInfo)
                 .build();
         hearingStatusAuditService.saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(hearingStatusAuditContext);
+        awaitPublished(published, hearingId);
+    }
+
+    /**
+     * Waits for the hearing status message to reach the topic. If it could not be sent the exception rolls back the
+     * pending request's transaction, leaving the hearing and the request as they were, so the request is retried by a
+     * later sweep rather than the hearing being left in EXCEPTION without CFT being told.
+     */
+    private static void awaitPublished(CompletableFuture<Void> published, Long hearingId) {
+        try {
+            published.join();
+        } catch (CompletionException | CancellationException e) {
+            throw new HearingStatusPublishException("Failed to publish status of hearing id " + hearingId
+                                                        + " to topic", e.getCause() != null ? e.getCause() : e);
+        }
     }
 
     public Optional<PendingRequestEntity> findById(Long pendingRequestId) {
@@ -0,0 +1,280 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs a batch of claimed pending requests across a pool of workers, each request in its own transaction.
+ *
+ * <p>Requests are grouped by hearing id and each group is handled by a single worker in submitted order, so an
+ * AMEND_HEARING or DELETE_HEARING is never sent ahead of an earlier request for the same hearing. If a request fails
+ * outside of the normal retry handling its claim, and the claims of any later requests for the same hearing, are
+ * released so a later sweep can pick them up.
+ *
+ * <p>A worker takes a permit from the HMI concurrency limiter before it opens a request's transaction, so a request
+ * waiting for a permit does not hold a database connection. A request that gets no permit in time has its claim, and
+ * those of the later requests for the same hearing, released.
+ */
+@Slf4j
+@Component
+public class PendingRequestWorkerPool {
+
+    private static final String WORKER_THREAD_PREFIX = "hmc-pending-request-";
+    private static final long TRANSACTION_HEADROOM_IN_SECONDS = 15;
+    private static final long CLAIM_MARGIN_IN_SECONDS = 60;
+
+    private final TransactionTemplate transactionTemplate;
+    private final FutureHearingConcurrencyLimiter concurrencyLimiter;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final long sweepTimeoutInSeconds;
+    private final long claimTimeoutInSeconds;
+    private final Timer requestTimer;
+    private final Timer batchTimer;
+
+    public PendingRequestWorkerPool(PlatformTransactionManager transactionManager,
+                                    FutureHearingConcurrencyLimiter concurrencyLimiter,
+                                    MeterRegistry meterRegistry,
+                                    ApplicationParams applicationParams) {
+        int transactionTimeoutInSeconds = applicationParams.getPendingRequestTransactionTimeoutInSeconds();
+        long minimumTransactionTimeoutInSeconds = minimumTransactionTimeoutInSeconds(applicationParams);
+        if (transactionTimeoutInSeconds < minimumTransactionTimeoutInSeconds) {
+            throw new IllegalStateException("pending.request.transaction-timeout-in-seconds is "
+                                                + transactionTimeoutInSeconds + " but must be at least "
+                                                + minimumTransactionTimeoutInSeconds
+                                                + " to outlast the calls made to Future Hearings");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(transactionTimeoutInSeconds);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.workerCount = Math.max(applicationParams.getPendingRequestWorkers(), 1);
+        this.sweepTimeoutInSeconds = applicationParams.getPendingRequestSweepTimeoutInSeconds();
+        this.claimTimeoutInSeconds = sweepTimeoutInSeconds + transactionTimeoutInSeconds + CLAIM_MARGIN_IN_SECONDS;
+        this.workers = this.workerCount > 1
+            ? createWorkers(this.workerCount, applicationParams.isVirtualThreadsEnabled()) : null;
+
+        this.requestTimer = Timer.builder("hmc.outbound.pending.request.process")
+            .description("Time taken to process a single pending request")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("hmc.outbound.pending.request.batch")
+            .description("Time taken to process a batch of claimed pending requests")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the deadline, in {@link System#nanoTime()} terms, for a sweep starting now. A sweep passes the same
+     * deadline to each page it processes, so the sweep as a whole ends within the sweep timeout.
+     */
+    public long sweepDeadline() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(sweepTimeoutInSeconds);
+    }
+
+    /**
+     * Processes the claimed requests and waits for the batch to finish, up to the sweep deadline. No request is
+     * started once the deadline has passed; the claims of requests not yet started are released instead, so the batch
+     * ends by the deadline plus the time taken by the requests already in progress.
+     *
+     * @param pendingRequests claimed requests, in submitted order
+     * @param deadline        sweep deadline from {@link #sweepDeadline()}
+     * @param processor       processes a single request; called inside a new transaction
+     * @param releaseClaim    returns a request that could not be processed to the queue
+     * @return {@code false} if the sweep deadline has passed, in which case no further requests should be claimed by
+     *     this sweep
+     */
+    public boolean processAll(List<QueuedPendingRequest> pendingRequests,
+                              long deadline,
+                              Consumer<QueuedPendingRequest> processor,
+                              Consumer<QueuedPendingRequest> releaseClaim) {
+        long batchStart = System.nanoTime();
+        AtomicBoolean expired = new AtomicBoolean();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(pendingRequests.size()));
+        Collection<List<QueuedPendingRequest>> hearings = groupByHearing(pendingRequests);
+
+        boolean finished = true;
+        if (workers == null) {
+            hearings.forEach(hearing -> processHearing(hearing, processor, releaseClaim, latencies, deadline, expired));
+        } else {
+            CompletableFuture<?>[] tasks = hearings.stream()
+                .map(hearing -> CompletableFuture.runAsync(
+                    () -> processHearing(hearing, processor, releaseClaim, latencies, deadline, expired), workers))
+                .toArray(CompletableFuture[]::new);
+            finished = awaitBatch(tasks, deadline);
+        }
+
+        long batchDuration = System.nanoTime() - batchStart;
+        batchTimer.record(batchDuration, TimeUnit.NANOSECONDS);
+        logBatchLatency(pendingRequests.size(), hearings.size(), batchDuration, latencies);
+        return finished && !expired.get() && System.nanoTime() - deadline < 0;
+    }
+
+    /**
+     * Returns how long after it was claimed a request can still be in progress. A batch stops starting requests once
+     * the sweep timeout has passed, and each request is bounded by the transaction timeout, so a claim older than both
+     * together, with a margin, was stranded by an instance that stopped and can be returned to the queue.
+     */
+    public long getClaimTimeoutInSeconds() {
+        return claimTimeoutInSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private void processHearing(List<QueuedPendingRequest> hearing,
+                                Consumer<QueuedPendingRequest> processor,
+                                Consumer<QueuedPendingRequest> releaseClaim,
+                                List<Long> latencies,
+                                long deadline,
+                                AtomicBoolean expired) {
+        for (int i = 0; i < hearing.size(); i++) {
+            QueuedPendingRequest pendingRequest = hearing.get(i);
+            long start = System.nanoTime();
+            if (start - deadline > 0) {
+                log.warn("Sweep timeout passed before pending request with Id: {}, hearingId: {}, releasing claim "
+                             + "on {} request(s)", pendingRequest.getId(), pendingRequest.getHearingId(),
+                         hearing.size() - i);
+                expired.set(true);
+                hearing.subList(i, hearing.size()).forEach(request -> release(request, releaseClaim));
+                return;
+            }
+            try (FutureHearingConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire()) {
+                transactionTemplate.executeWithoutResult(status -> processor.accept(pendingRequest));
+            } catch (FutureHearingUnavailableException e) {
+                log.warn("Pending request with Id: {}, hearingId: {} not sent, releasing claim on {} request(s): {}",
+                         pendingRequest.getId(), pendingRequest.getHearingId(), hearing.size() - i, e.getMessage());
+                hearing.subList(i, hearing.size()).forEach(request -> release(request, releaseClaim));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Pending request with Id: {}, hearingId: {} failed, releasing claim on {} request(s)",
+                          pendingRequest.getId(), pendingRequest.getHearingId(), hearing.size() - i, e);
+                hearing.subList(i, hearing.size()).forEach(request -> release(request, releaseClaim));
+                return;
+            } finally {
+                long duration = System.nanoTime() - start;
+                requestTimer.record(duration, TimeUnit.NANOSECONDS);
+                latencies.add(duration);
+            }
+        }
+    }
+
+    private void release(QueuedPendingRequest pendingRequest, Consumer<QueuedPendingRequest> releaseClaim) {
+        try {
+            releaseClaim.accept(pendingRequest);
+        } catch (RuntimeException e) {
+            log.error("Failed to release claim on pending request with Id: {}", pendingRequest.getId(), e);
+        }
+    }
+
+    private boolean awaitBatch(CompletableFuture<?>[] tasks, long deadline) {
+        try {
+            CompletableFuture.allOf(tasks).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.warn("Pending request batch did not finish within the {} second sweep timeout, ending the sweep; "
+                         + "requests in progress finish in the background and the rest are released",
+                     sweepTimeoutInSeconds);
+            return false;
+        } catch (ExecutionException e) {
+            log.error("Unexpected error processing pending request batch", e.getCause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted waiting for pending request batch to finish");
+            return false;
+        }
+    }
+
+    private void logBatchLatency(int requestCount, int hearingCount, long batchDuration, List<Long> latencies) {
+        if (requestCount == 0) {
+            return;
+        }
+        List<Long> sorted;
+        synchronized (latencies) {
+            sorted = new ArrayList<>(latencies);
+        }
+        Collections.sort(sorted);
+        log.info("Processed {} pending request(s) for {} hearing(s) in {}ms, per request p50 {}ms p95 {}ms max {}ms",
+                 requestCount, hearingCount, TimeUnit.NANOSECONDS.toMillis(batchDuration),
+                 percentileInMillis(sorted, 0.5), percentileInMillis(sorted, 0.95), percentileInMillis(sorted, 1.0));
+    }
+
+    static long percentileInMillis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(index, 0)));
+    }
+
+    /**
+     * Returns the shortest transaction timeout that outlasts the calls a request makes to Future Hearings. HMI is
+     * called with the transaction open, as is Active Directory when the token is not cached, so a shorter timeout would
+     * roll back a request that HMI has accepted and send it again on the next sweep.
+     */
+    static long minimumTransactionTimeoutInSeconds(ApplicationParams applicationParams) {
+        long callsInMilliseconds = callTimeoutInMilliseconds(
+            applicationParams.getHearingManagementInterfaceConnectTimeoutInMilliseconds(),
+            applicationParams.getHearingManagementInterfaceReadTimeoutInMilliseconds(),
+            applicationParams.getHearingManagementInterfaceCallTimeoutInMilliseconds());
+        if (!applicationParams.isTokenCacheEnabled()) {
+            callsInMilliseconds += callTimeoutInMilliseconds(
+                applicationParams.getActiveDirectoryConnectTimeoutInMilliseconds(),
+                applicationParams.getActiveDirectoryReadTimeoutInMilliseconds(),
+                applicationParams.getActiveDirectoryCallTimeoutInMilliseconds());
+        }
+        return TimeUnit.MILLISECONDS.toSeconds(callsInMilliseconds + 999) + TRANSACTION_HEADROOM_IN_SECONDS;
+    }
+
+    private static long callTimeoutInMilliseconds(long connectTimeout, long readTimeout, long callTimeout) {
+        return callTimeout > 0 ? callTimeout : connectTimeout + readTimeout;
+    }
+
+    static Collection<List<QueuedPendingRequest>> groupByHearing(List<QueuedPendingRequest> pendingRequests) {
+        Map<Long, List<QueuedPendingRequest>> hearings = new LinkedHashMap<>();
+        pendingRequests.forEach(pendingRequest -> hearings
+            .computeIfAbsent(pendingRequest.getHearingId(), hearingId -> new ArrayList<>())
+            .add(pendingRequest));
+        return hearings.values();
+    }
+
+    /**
+     * Creates the workers. The pool stays at {@code workerCount} threads with virtual threads too, as each worker holds
+     * a database connection while it runs.
+     */
+    private static ExecutorService createWorkers(int workerCount, boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name(WORKER_THREAD_PREFIX, 0).factory()
+            : Thread.ofPlatform().name(WORKER_THREAD_PREFIX, 0).daemon(true).factory();
+        return Executors.newFixedThreadPool(workerCount, threadFactory);
+    }
+}
@@ -4,6 +4,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Request;
 import feign.Request.HttpMethod;
 import feign.RequestTemplate;
@@ -66,7 +67,7 @@ class FutureHearingErrorDecoderTest {
 
     @BeforeEach
      void setUp() {
-        futureHearingErrorDecoder = new FutureHearingErrorDecoder();
+        futureHearingErrorDecoder = new FutureHearingErrorDecoder(new ObjectMapper());
         byteArray = INPUT_STRING.getBytes();
         logger.setLevel(Level.INFO);
     }
@@ -8,8 +8,10 @@ import com.azure.core.amqp.models.AmqpAnnotatedMessage;
 import com.azure.core.amqp.models.AmqpMessageHeader;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import com.azure.messaging.servicebus.models.AbandonOptions;
 import com.azure.messaging.servicebus.models.DeadLetterOptions;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,9 +21,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 import uk.gov.hmcts.reform.hmc.config.MessageType;
-import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.errorhandling.DeadLetterService;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+import uk.gov.hmcts.reform.hmc.errorhandling.MessageRedeliveryScheduler;
 import uk.gov.hmcts.reform.hmc.errorhandling.ServiceBusMessageErrorHandler;
+import uk.gov.hmcts.reform.hmc.errorhandling.SyncResponseSendException;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 import uk.gov.hmcts.reform.hmc.repository.HearingRepository;
 import uk.gov.hmcts.reform.hmc.service.HearingStatusAuditService;
 
@@ -31,11 +37,14 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +90,9 @@ class ServiceBusMessageErrorHandlerTest {
     @Mock
     HearingRepository hearingRepository;
 
+    @Mock
+    private MessageRedeliveryScheduler redeliveryScheduler;
+
     private ServiceBusMessageErrorHandler handler;
     private DeadLetterOptions deadLetterOptions;
     private static final String MESSAGE_ID = "1234567";
@@ -92,7 +104,9 @@ class ServiceBusMessageErrorHandlerTest {
     @BeforeEach
     void setUp() {
         handler = new ServiceBusMessageErrorHandler(deadLetterService, applicationParams, hearingStatusAuditService,
-                                                    hearingRepository);
+                                                    new HearingLookupCache(hearingRepository,
+                                                                           new SimpleMeterRegistry()),
+                                                    redeliveryScheduler);
         deadLetterOptions = new DeadLetterOptions();
         deadLetterOptions.setDeadLetterErrorDescription(ERROR_MESSAGE);
         applicationProperties.put(HEARING_ID, "1234567890");
@@ -153,8 +167,9 @@ class ServiceBusMessageErrorHandlerTest {
         when(amqpHeader.getDeliveryCount()).thenReturn(1L);
         when(applicationParams.getMaxRetryAttempts()).thenReturn(2);
         when(receivedMessage.getMessageId()).thenReturn(MESSAGE_ID);
+        when(redeliveryScheduler.scheduleRedelivery(receivedMessage)).thenReturn(true);
 
-        handler.handleApplicationError(messageContext, exception);
+        assertFalse(handler.handleApplicationError(messageContext, exception));
 
         List<ILoggingEvent> logsList = listAppender.list;
         assertEquals(2, logsList.size());
@@ -166,6 +181,97 @@ class ServiceBusMessageErrorHandlerTest {
         verify(deadLetterService, Mockito.times(0))
             .handleApplicationError(ERROR_MESSAGE);
         verify(hearingStatusAuditService, times(0)).saveAuditTriageDetails(any());
+        verify(messageContext, never()).abandon();
+    }
+
+    @Test
+    void shouldAbandonMessageWhenRedeliveryCannotBeScheduled() {
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(messageContext.getMessage().getRawAmqpMessage()).thenReturn(amqpAnnotatedMessage);
+        when(messageContext.getMessage().getApplicationProperties()).thenReturn(applicationProperties);
+        when(amqpAnnotatedMessage.getHeader()).thenReturn(amqpHeader);
+        when(amqpHeader.getDeliveryCount()).thenReturn(1L);
+        when(applicationParams.getMaxRetryAttempts()).thenReturn(2);
+        when(redeliveryScheduler.scheduleRedelivery(receivedMessage)).thenReturn(false);
+
+        assertTrue(handler.handleApplicationError(messageContext, exception));
+
+        verify(messageContext).abandon();
+        verify(deadLetterService, never()).handleApplicationError(any());
+    }
+
+    @Test
+    void shouldAbandonMessageMarkedAsAcceptedWhenSyncResponseFails() {
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(messageContext.getMessage().getRawAmqpMessage()).thenReturn(amqpAnnotatedMessage);
+        when(amqpAnnotatedMessage.getHeader()).thenReturn(amqpHeader);
+        when(amqpHeader.getDeliveryCount()).thenReturn(1L);
+        when(applicationParams.getMaxRetryAttempts()).thenReturn(2);
+
+        assertTrue(handler.handleApplicationError(
+            messageContext, new SyncResponseSendException("Error while sending the message to queue", null)));
+
+        verify(messageContext).abandon(argThat((AbandonOptions options) ->
+            Boolean.TRUE.equals(options.getPropertiesToModify().get("hearing_request_accepted"))));
+        verify(redeliveryScheduler, never()).scheduleRedelivery(any());
+        verify(deadLetterService, never()).handleApplicationError(any());
+    }
+
+    @Test
+    void shouldDeferMessageBehindRedelivery() {
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(redeliveryScheduler.deferBehindRedelivery(receivedMessage)).thenReturn(true);
+
+        assertTrue(handler.deferBehindRedelivery(messageContext));
+
+        verify(messageContext, never()).abandon();
+        verify(messageContext, never()).deadLetter(any());
+    }
+
+    @Test
+    void shouldRescheduleRejectedMessageWithoutCountingTry() {
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(redeliveryScheduler.scheduleRejectedRedelivery(receivedMessage)).thenReturn(true);
+
+        assertFalse(handler.handleApplicationError(messageContext,
+                                                   new FutureHearingUnavailableException("hmi bulkhead is full")));
+
+        verify(redeliveryScheduler, never()).scheduleRedelivery(any());
+        verify(messageContext, never()).deadLetter(any());
+        verify(messageContext, never()).abandon();
+    }
+
+    @Test
+    void shouldAbandonRejectedMessageWhenRedeliveryCannotBeScheduled() {
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(redeliveryScheduler.scheduleRejectedRedelivery(receivedMessage)).thenReturn(false);
+        FutureHearingUnavailableException rejection = new FutureHearingUnavailableException("hmi breaker is OPEN");
+
+        assertTrue(handler.handleApplicationError(messageContext, rejection));
+
+        verify(messageContext).abandon();
+        verify(messageContext, never()).deadLetter(any());
+        verify(deadLetterService, never()).handleApplicationError(any());
+    }
+
+    @Test
+    void shouldCountScheduledRedeliveriesTowardsMaxRetryAttempts() {
+        applicationProperties.put(MessageRedeliveryScheduler.REDELIVERY_COUNT, 1);
+        given(messageContext.getMessage()).willReturn(receivedMessage);
+        when(messageContext.getMessage().getRawAmqpMessage()).thenReturn(amqpAnnotatedMessage);
+        when(messageContext.getMessage().getApplicationProperties()).thenReturn(applicationProperties);
+        when(amqpAnnotatedMessage.getHeader()).thenReturn(amqpHeader);
+        when(amqpHeader.getDeliveryCount()).thenReturn(1L);
+        when(applicationParams.getMaxRetryAttempts()).thenReturn(2);
+        when(exception.getMessage()).thenReturn(ERROR_MESSAGE);
+        when(deadLetterService.handleApplicationError(ERROR_MESSAGE)).thenReturn(deadLetterOptions);
+        getHearingEntity();
+
+        assertTrue(handler.handleApplicationError(messageContext, exception));
+
+        verify(messageContext).deadLetter(deadLetterOptions);
+        verify(redeliveryScheduler, never()).scheduleRedelivery(any());
+        verify(messageContext, never()).abandon();
     }
 
     @Test
@@ -278,10 +384,8 @@ class ServiceBusMessageErrorHandlerTest {
     }
 
     private void getHearingEntity() {
-        HearingEntity hearing = new HearingEntity();
-        hearing.setStatus("RESPONDED");
-        hearing.setId(1234567890L);
-        when(hearingRepository.findById(Long.valueOf("1234567890"))).thenReturn(Optional.of(hearing));
+        HearingAuditDetails hearing = new HearingAuditDetails(1234567890L, "RESPONDED", null, null, null, 1);
+        when(hearingRepository.findHearingAuditDetails(Long.valueOf("1234567890"))).thenReturn(Optional.of(hearing));
     }
 
 }
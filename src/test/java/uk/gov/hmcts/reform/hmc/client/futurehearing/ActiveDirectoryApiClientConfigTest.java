@@ -1,10 +1,19 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
+import feign.Request;
 import feign.Retryer;
+import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ActiveDirectoryApiClientConfigTest {
 
@@ -26,4 +35,33 @@ class ActiveDirectoryApiClientConfigTest {
 
         assertNotNull(activeDirectoryRetryer, "Active Directory Retryer should be created");
     }
+
+    @Test
+    void shouldCreateActiveDirectoryResilienceCapability() {
+        try (FutureHearingCircuitBreaker circuitBreaker = new FutureHearingCircuitBreaker(
+            "active-directory", new SimpleMeterRegistry(), true, 20, 10, 50, Duration.ofSeconds(10), 80,
+            Duration.ofSeconds(30), 3)) {
+            FutureHearingResilienceCapability capability =
+                activeDirectoryApiClientConfig.activeDirectoryResilienceCapability(circuitBreaker);
+
+            assertNotNull(capability, "Active Directory resilience capability should be created");
+        }
+    }
+
+    @Test
+    void shouldCreateActiveDirectoryHttpClientSharingConnectionPool() {
+        okhttp3.OkHttpClient sharedClient = new okhttp3.OkHttpClient();
+        ApplicationParams applicationParams = mock(ApplicationParams.class);
+        when(applicationParams.getActiveDirectoryConnectTimeoutInMilliseconds()).thenReturn(1000L);
+        when(applicationParams.getActiveDirectoryReadTimeoutInMilliseconds()).thenReturn(2000L);
+        when(applicationParams.getActiveDirectoryCallTimeoutInMilliseconds()).thenReturn(3000L);
+        Request.Options options = activeDirectoryApiClientConfig.activeDirectoryOptions(applicationParams);
+
+        OkHttpClient httpClient = activeDirectoryApiClientConfig.activeDirectoryHttpClient(
+            sharedClient, new SimpleMeterRegistry(), options, applicationParams);
+
+        assertNotNull(httpClient, "Active Directory HTTP client should be created");
+        assertEquals(1000L, options.connectTimeoutMillis());
+        assertEquals(2000L, options.readTimeoutMillis());
+    }
 }
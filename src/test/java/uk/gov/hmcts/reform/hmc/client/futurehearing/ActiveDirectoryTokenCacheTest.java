@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveDirectoryTokenCacheTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private ActiveDirectoryApiClient activeDirectoryApiClient;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ActiveDirectoryTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(applicationParams.isTokenCacheEnabled()).thenReturn(true);
+        when(applicationParams.getTokenCacheRefreshAheadInSeconds()).thenReturn(300L);
+        when(applicationParams.getTokenCacheExpiryMarginInSeconds()).thenReturn(30L);
+        tokenCache = new ActiveDirectoryTokenCache(activeDirectoryApiClient, applicationParams, CLOCK, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenCache.shutdown();
+    }
+
+    @Test
+    void shouldReuseTokenUntilExpiry() {
+        when(activeDirectoryApiClient.authenticate(anyString())).thenReturn(authenticationResponse(3600L));
+
+        assertThat(tokenCache.getAccessToken()).isEqualTo("test-token");
+        assertThat(tokenCache.getAccessToken()).isEqualTo("test-token");
+
+        verify(activeDirectoryApiClient, times(1)).authenticate(anyString());
+        assertThat(meterRegistry.get("hmc.outbound.ad.token.cache").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("hmc.outbound.ad.token.cache").tag("result", "miss").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReportWhetherTokenWasRequested() {
+        when(activeDirectoryApiClient.authenticate(anyString())).thenReturn(authenticationResponse(3600L));
+
+        assertThat(tokenCache.getToken()).isEqualTo(new ActiveDirectoryTokenCache.AccessToken("test-token", true));
+        assertThat(tokenCache.getToken()).isEqualTo(new ActiveDirectoryTokenCache.AccessToken("test-token", false));
+    }
+
+    @Test
+    void shouldNotCacheTokenWithoutExpiry() {
+        when(activeDirectoryApiClient.authenticate(anyString())).thenReturn(authenticationResponse(null));
+
+        tokenCache.getAccessToken();
+        tokenCache.getAccessToken();
+
+        verify(activeDirectoryApiClient, times(2)).authenticate(anyString());
+    }
+
+    @Test
+    void shouldRequestNewTokenAfterInvalidation() {
+        when(activeDirectoryApiClient.authenticate(anyString())).thenReturn(authenticationResponse(3600L));
+
+        tokenCache.getAccessToken();
+        tokenCache.invalidate();
+        tokenCache.getAccessToken();
+
+        verify(activeDirectoryApiClient, times(2)).authenticate(anyString());
+    }
+
+    @Test
+    void shouldRetryFailedBackgroundRefreshWhileTokenIsUsable() {
+        when(applicationParams.getTokenCacheExpiryMarginInSeconds()).thenReturn(0L);
+        ActiveDirectoryTokenCache shortLivedTokenCache =
+            new ActiveDirectoryTokenCache(activeDirectoryApiClient, applicationParams, CLOCK, meterRegistry);
+        when(activeDirectoryApiClient.authenticate(anyString()))
+            .thenReturn(authenticationResponse(1L))
+            .thenThrow(new IllegalStateException("Active Directory unavailable"))
+            .thenReturn(authenticationResponse(3600L));
+        try {
+            shortLivedTokenCache.getAccessToken();
+
+            // refreshed after half the token's lifetime, then retried once the refresh has failed
+            verify(activeDirectoryApiClient, timeout(5000).times(3)).authenticate(anyString());
+            assertThat(shortLivedTokenCache.getToken().requested()).isFalse();
+        } finally {
+            shortLivedTokenCache.shutdown();
+        }
+    }
+
+    @Test
+    void shouldShareInFlightRequestBetweenConcurrentCallers() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        when(activeDirectoryApiClient.authenticate(anyString())).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseRequest.await(5, TimeUnit.SECONDS);
+            return authenticationResponse(3600L);
+        });
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(tokenCache::getAccessToken);
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(tokenCache::getAccessToken);
+        releaseRequest.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("test-token");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("test-token");
+        verify(activeDirectoryApiClient, times(1)).authenticate(anyString());
+    }
+
+    private static AuthenticationResponse authenticationResponse(Long expiresIn) {
+        AuthenticationResponse response = new AuthenticationResponse();
+        response.setAccessToken("test-token");
+        response.setExpiresIn(expiresIn);
+        return response;
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class FutureHearingCircuitBreakerTest {
+
+    private static final long FAST_CALL = Duration.ofMillis(10).toNanos();
+    private static final long SLOW_CALL = Duration.ofSeconds(2).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private FutureHearingCircuitBreaker circuitBreaker;
+    private final List<FutureHearingCircuitBreaker.State> transitions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = circuitBreaker(true);
+        circuitBreaker.addStateListener(transitions::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.close();
+    }
+
+    @Test
+    void shouldStayClosedUntilMinimumNumberOfCalls() {
+        recordCalls(3, true, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+        assertDoesNotThrow(circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        recordCalls(2, false, FAST_CALL);
+        recordCalls(2, true, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+        assertThat(transitions).containsExactly(FutureHearingCircuitBreaker.State.OPEN);
+        assertThatThrownBy(circuitBreaker::acquirePermission)
+            .isInstanceOf(FutureHearingUnavailableException.class)
+            .hasMessage("hmi circuit breaker is OPEN");
+        assertThat(meterRegistry.get("hmc.outbound.circuit.breaker.calls").tag("outcome", "not_permitted")
+                       .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hmc.outbound.circuit.breaker.state").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOpenWhenSlowCallRateReachesThreshold() {
+        recordCalls(4, false, SLOW_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldOnlyCountCallsInSlidingWindow() {
+        recordCalls(6, false, FAST_CALL);
+        recordCalls(3, true, FAST_CALL);
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+
+        recordCalls(1, true, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbeCalls() {
+        recordCalls(4, true, FAST_CALL);
+        circuitBreaker.transitionToHalfOpen();
+
+        recordCalls(2, false, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(FutureHearingCircuitBreaker.State.OPEN,
+                                                FutureHearingCircuitBreaker.State.HALF_OPEN,
+                                                FutureHearingCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpenAgainAfterFailedProbeCalls() {
+        recordCalls(4, true, FAST_CALL);
+        circuitBreaker.transitionToHalfOpen();
+
+        recordCalls(1, false, FAST_CALL);
+        recordCalls(1, true, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldOnlyPermitProbeCallsWhenHalfOpen() {
+        recordCalls(4, true, FAST_CALL);
+        circuitBreaker.transitionToHalfOpen();
+
+        circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+
+        assertThatThrownBy(circuitBreaker::acquirePermission)
+            .isInstanceOf(FutureHearingUnavailableException.class)
+            .hasMessage("hmi circuit breaker is HALF_OPEN");
+    }
+
+    @Test
+    void shouldGoHalfOpenAfterWaitDuration() throws InterruptedException {
+        circuitBreaker.close();
+        circuitBreaker = new FutureHearingCircuitBreaker("hmi", meterRegistry, true, 4, 4, 50,
+                                                         Duration.ofSeconds(1), 100, Duration.ofMillis(10), 2);
+        recordCalls(4, true, FAST_CALL);
+
+        for (int i = 0; i < 100 && circuitBreaker.getState() == FutureHearingCircuitBreaker.State.OPEN; i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void shouldNeverOpenWhenDisabled() {
+        circuitBreaker.close();
+        circuitBreaker = circuitBreaker(false);
+
+        recordCalls(10, true, FAST_CALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+        assertDoesNotThrow(circuitBreaker::acquirePermission);
+    }
+
+    private FutureHearingCircuitBreaker circuitBreaker(boolean enabled) {
+        return new FutureHearingCircuitBreaker("hmi", meterRegistry, enabled, 8, 4, 50, Duration.ofSeconds(1), 100,
+                                               Duration.ofMinutes(1), 2);
+    }
+
+    private void recordCalls(int calls, boolean failed, long durationInNanoseconds) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onResult(failed, durationInNanoseconds);
+        }
+    }
+}
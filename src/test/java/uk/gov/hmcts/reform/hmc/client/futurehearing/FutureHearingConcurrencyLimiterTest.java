@@ -0,0 +1,187 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class FutureHearingConcurrencyLimiterTest {
+
+    private static final long FAST_CALL = Duration.ofMillis(50).toNanos();
+    private static final long SLOW_CALL = Duration.ofSeconds(2).toNanos();
+
+    @Spy
+    private ApplicationParams applicationParams = applicationParams();
+
+    private SimpleMeterRegistry meterRegistry;
+    private FutureHearingConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new FutureHearingConcurrencyLimiter(meterRegistry, applicationParams);
+    }
+
+    @Test
+    void shouldRejectOnceLimitIsInUse() {
+        FutureHearingConcurrencyLimiter.Permit first = limiter.acquire();
+        FutureHearingConcurrencyLimiter.Permit second = limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+            .isInstanceOf(FutureHearingUnavailableException.class)
+            .hasMessage("hmi concurrency limit reached");
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(meterRegistry.get("hmc.outbound.concurrency.rejected").counter().count()).isEqualTo(1);
+
+        first.close();
+        second.close();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldIncreaseLimitOnSuccessWhileBusy() {
+        try (FutureHearingConcurrencyLimiter.Permit permit = limiter.acquire()) {
+            limiter.onSample(false, FAST_CALL);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(meterRegistry.get("hmc.outbound.concurrency.limit").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotIncreaseLimitWhileMostlyIdle() {
+        limiter = limiter(true, 4, Duration.ZERO);
+
+        try (FutureHearingConcurrencyLimiter.Permit permit = limiter.acquire()) {
+            limiter.onSample(false, FAST_CALL);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotIncreaseLimitBeyondMaximum() {
+        limiter = limiter(true, 10, Duration.ZERO);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        limiter.onSample(false, FAST_CALL);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnDroppedCall() {
+        limiter = limiter(true, 10, Duration.ZERO);
+
+        limiter.onSample(true, FAST_CALL);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDecreaseLimitOnSlowCall() {
+        limiter = limiter(true, 10, Duration.ZERO);
+
+        limiter.onSample(false, SLOW_CALL);
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotDecreaseLimitBelowMinimum() {
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(true, FAST_CALL);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForPermitToBeReleased() throws Exception {
+        limiter = limiter(true, 1, Duration.ofSeconds(5));
+        FutureHearingConcurrencyLimiter.Permit permit = limiter.acquire();
+
+        CompletableFuture<FutureHearingConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(
+            limiter::acquire);
+        permit.close();
+
+        waiting.get(5, TimeUnit.SECONDS).close();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldHandReleasedPermitToAsyncWaiter() throws Exception {
+        limiter = limiter(true, 1, Duration.ofSeconds(5));
+        FutureHearingConcurrencyLimiter.Permit permit = limiter.acquire();
+
+        CompletableFuture<FutureHearingConcurrencyLimiter.Permit> waiting = limiter.acquireAsync();
+        assertThat(waiting).isNotDone();
+
+        permit.close();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        waiting.get(1, TimeUnit.SECONDS).close();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRejectAsyncWaiterWhenNoPermitIsReleasedInTime() {
+        limiter = limiter(true, 1, Duration.ofMillis(50));
+        FutureHearingConcurrencyLimiter.Permit permit = limiter.acquire();
+
+        CompletableFuture<FutureHearingConcurrencyLimiter.Permit> waiting = limiter.acquireAsync();
+
+        assertThatThrownBy(() -> waiting.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(FutureHearingUnavailableException.class);
+        assertThat(meterRegistry.get("hmc.outbound.concurrency.rejected").counter().count()).isEqualTo(1);
+        permit.close();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotLimitWhenDisabled() {
+        limiter = limiter(false, 1, Duration.ZERO);
+
+        limiter.acquire();
+        limiter.acquire();
+        limiter.onSample(true, FAST_CALL);
+
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    private FutureHearingConcurrencyLimiter limiter(boolean enabled, int initialLimit, Duration maxWait) {
+        doReturn(enabled).when(applicationParams).isConcurrencyLimitEnabled();
+        doReturn(initialLimit).when(applicationParams).getConcurrencyLimitInitialLimit();
+        doReturn(maxWait.toMillis()).when(applicationParams).getConcurrencyLimitMaxWaitInMilliseconds();
+        return new FutureHearingConcurrencyLimiter(meterRegistry, applicationParams);
+    }
+
+    private static ApplicationParams applicationParams() {
+        ApplicationParams applicationParams = new ApplicationParams();
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitEnabled", true);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitInitialLimit", 2);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitMinLimit", 1);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitMaxLimit", 10);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitBackoffRatio", 0.5);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitLatencyThresholdInMilliseconds", 1000L);
+        ReflectionTestUtils.setField(applicationParams, "concurrencyLimitMaxWaitInMilliseconds", 0L);
+        return applicationParams;
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class FutureHearingHttpMetricsTest {
+
+    private static final InetSocketAddress ADDRESS = InetSocketAddress.createUnresolved("hmi", 443);
+
+    @Mock
+    private Call call;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FutureHearingHttpMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new FutureHearingHttpMetrics(meterRegistry, "hmi");
+    }
+
+    @Test
+    void shouldTimeEveryPhaseOfCallOnNewConnection() {
+        EventListener listener = metrics.create(call);
+
+        listener.callStart(call);
+        listener.dnsStart(call, "hmi");
+        listener.dnsEnd(call, "hmi", List.of());
+        listener.connectStart(call, ADDRESS, Proxy.NO_PROXY);
+        listener.secureConnectStart(call);
+        listener.secureConnectEnd(call, null);
+        listener.connectEnd(call, ADDRESS, Proxy.NO_PROXY, Protocol.HTTP_2);
+        listener.responseHeadersStart(call);
+        listener.responseHeadersStart(call);
+        listener.callEnd(call);
+
+        assertThat(count("hmc.outbound.http.client.dns")).isEqualTo(1);
+        assertThat(count("hmc.outbound.http.client.tls")).isEqualTo(1);
+        assertThat(count("hmc.outbound.http.client.first.byte")).isEqualTo(1);
+        assertThat(meterRegistry.get("hmc.outbound.http.client.connect").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("hmc.outbound.http.client.call").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyTimeCallOnPooledConnection() {
+        EventListener listener = metrics.create(call);
+
+        listener.callStart(call);
+        listener.responseHeadersStart(call);
+        listener.callEnd(call);
+
+        assertThat(count("hmc.outbound.http.client.dns")).isZero();
+        assertThat(count("hmc.outbound.http.client.tls")).isZero();
+        assertThat(meterRegistry.get("hmc.outbound.http.client.connect").tag("outcome", "success").timer().count())
+            .isZero();
+        assertThat(meterRegistry.get("hmc.outbound.http.client.call").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeFailedConnectAndCall() {
+        EventListener listener = metrics.create(call);
+        IOException exception = new IOException("connection refused");
+
+        listener.callStart(call);
+        listener.connectStart(call, ADDRESS, Proxy.NO_PROXY);
+        listener.connectFailed(call, ADDRESS, Proxy.NO_PROXY, null, exception);
+        listener.callFailed(call, exception);
+
+        assertThat(meterRegistry.get("hmc.outbound.http.client.connect").tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("hmc.outbound.http.client.call").tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
+        assertThat(count("hmc.outbound.http.client.first.byte")).isZero();
+    }
+
+    private long count(String name) {
+        return meterRegistry.get(name).tag("client", "hmi").timer().count();
+    }
+}
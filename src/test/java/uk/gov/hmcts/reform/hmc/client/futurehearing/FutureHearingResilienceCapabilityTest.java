@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FutureHearingResilienceCapabilityTest {
+
+    private static final Request.Options OPTIONS = new Request.Options();
+
+    @Mock
+    private Client client;
+
+    @Mock
+    private FutureHearingConcurrencyLimiter concurrencyLimiter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FutureHearingCircuitBreaker circuitBreaker;
+    private FutureHearingBulkhead bulkhead;
+    private Client resilientClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new FutureHearingCircuitBreaker("hmi", meterRegistry, true, 2, 2, 50, Duration.ofSeconds(10),
+                                                         100, Duration.ofMinutes(1), 1);
+        bulkhead = new FutureHearingBulkhead("hmi", meterRegistry, 1, 10);
+        resilientClient = new FutureHearingResilienceCapability(circuitBreaker, bulkhead, concurrencyLimiter)
+            .enrich(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.close();
+    }
+
+    @Test
+    void shouldCountServerErrorsAsFailures() throws IOException {
+        when(client.execute(any(), any())).thenReturn(response(503));
+
+        resilientClient.execute(request(), OPTIONS);
+        resilientClient.execute(request(), OPTIONS);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() throws IOException {
+        when(client.execute(any(), any())).thenReturn(response(400));
+
+        resilientClient.execute(request(), OPTIONS);
+        resilientClient.execute(request(), OPTIONS);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldCountConnectionErrorsAsFailures() throws IOException {
+        when(client.execute(any(), any())).thenThrow(new IOException("connection refused"));
+
+        assertThatThrownBy(() -> resilientClient.execute(request(), OPTIONS)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> resilientClient.execute(request(), OPTIONS)).isInstanceOf(IOException.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.OPEN);
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCallClientWhenCircuitBreakerIsOpen() throws IOException {
+        circuitBreaker.onResult(true, 0);
+        circuitBreaker.onResult(true, 0);
+
+        assertThatThrownBy(() -> resilientClient.execute(request(), OPTIONS))
+            .isInstanceOf(FutureHearingUnavailableException.class);
+
+        verify(client, never()).execute(any(), any());
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportTooManyRequestsToConcurrencyLimiter() throws IOException {
+        when(client.execute(any(), any())).thenReturn(response(429));
+
+        resilientClient.execute(request(), OPTIONS);
+
+        verify(concurrencyLimiter).onSample(eq(true), anyLong());
+        assertThat(circuitBreaker.getState()).isEqualTo(FutureHearingCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReportSuccessToConcurrencyLimiter() throws IOException {
+        when(client.execute(any(), any())).thenReturn(response(202));
+
+        resilientClient.execute(request(), OPTIONS);
+
+        verify(concurrencyLimiter).onSample(eq(false), anyLong());
+    }
+
+    @Test
+    void shouldReportConnectionErrorToConcurrencyLimiter() throws IOException {
+        when(client.execute(any(), any())).thenThrow(new IOException("connection reset"));
+
+        assertThatThrownBy(() -> resilientClient.execute(request(), OPTIONS)).isInstanceOf(IOException.class);
+
+        verify(concurrencyLimiter).onSample(eq(true), anyLong());
+    }
+
+    @Test
+    void shouldRejectCallWhenBulkheadIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(client.execute(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            finish.await(5, TimeUnit.SECONDS);
+            return response(200);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> resilientClient.execute(request(), OPTIONS));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> resilientClient.execute(request(), OPTIONS))
+                .isInstanceOf(FutureHearingUnavailableException.class)
+                .hasMessage("hmi bulkhead is full");
+            assertThat(meterRegistry.get("hmc.outbound.bulkhead.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            finish.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldHandReleasedPermitToAsyncWaiter() throws Exception {
+        bulkhead.acquire();
+
+        CompletableFuture<Void> waiting = bulkhead.acquireAsync();
+        assertThat(waiting).isNotDone();
+
+        bulkhead.release();
+
+        waiting.get(1, TimeUnit.SECONDS);
+        assertThat(availablePermits()).isZero();
+        bulkhead.release();
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAsyncWaiterWhenNoPermitIsReleasedInTime() {
+        bulkhead.acquire();
+
+        CompletableFuture<Void> waiting = bulkhead.acquireAsync();
+
+        assertThatThrownBy(() -> waiting.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(FutureHearingUnavailableException.class);
+        bulkhead.release();
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotLimitCallsWhenBulkheadIsDisabled() throws IOException {
+        FutureHearingBulkhead disabledBulkhead = new FutureHearingBulkhead("ad", meterRegistry, 0, 10);
+        assertThat(disabledBulkhead.isEnabled()).isFalse();
+        disabledBulkhead.acquire();
+        disabledBulkhead.acquire();
+        disabledBulkhead.release();
+
+        when(client.execute(any(), any())).thenReturn(response(200));
+        Client unlimitedClient = new FutureHearingResilienceCapability(circuitBreaker, null, null).enrich(client);
+
+        assertThat(unlimitedClient.execute(request(), OPTIONS).status()).isEqualTo(200);
+    }
+
+    private double availablePermits() {
+        return meterRegistry.get("hmc.outbound.bulkhead.available").tag("name", "hmi").gauge().value();
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://localhost/hearings", Map.of(), null,
+                              StandardCharsets.UTF_8, null);
+    }
+
+    private static Response response(int status) {
+        return Response.builder()
+            .status(status)
+            .request(request())
+            .headers(Map.of())
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import feign.RetryableException;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HearingManagementInterfaceAsyncClientTest {
+
+    private static final long QUEUED_MILLISECONDS = 500;
+
+    @Mock
+    private HearingManagementInterfaceRequestInterceptor requestInterceptor;
+
+    @Mock
+    private FutureHearingCircuitBreaker circuitBreaker;
+
+    private final ExecutorService dispatcherExecutor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        dispatcherExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotCountTimeWaitingInDispatcherAsCallDuration() throws Exception {
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+            .dispatcher(new Dispatcher(dispatcherExecutor))
+            .build();
+        HearingManagementInterfaceAsyncClient client = new HearingManagementInterfaceAsyncClient(
+            httpClient, "http://localhost:1", requestInterceptor, new ObjectMapper(), circuitBreaker, null, null, 1);
+        CountDownLatch dispatcherBusy = new CountDownLatch(1);
+        dispatcherExecutor.execute(() -> {
+            try {
+                dispatcherBusy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        CompletableFuture<HearingManagementInterfaceResponse> result =
+            client.requestHearing("Bearer token", JsonNodeFactory.instance.objectNode());
+        Thread.sleep(QUEUED_MILLISECONDS);
+        dispatcherBusy.countDown();
+
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(RetryableException.class);
+        ArgumentCaptor<Long> duration = ArgumentCaptor.forClass(Long.class);
+        verify(circuitBreaker, timeout(1000)).onResult(eq(true), duration.capture());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(duration.getValue())).isLessThan(QUEUED_MILLISECONDS);
+        client.shutdown();
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.hmc.client.futurehearing;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -13,9 +14,14 @@ import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckActiveDirectoryException
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckHmiException;
 import uk.gov.hmcts.reform.hmc.repository.DefaultFutureHearingRepository;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,6 +29,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,9 +66,14 @@ class HearingManagementInterfaceHealthIndicatorTest {
     private static final String API_NAME_ACTIVE_DIRECTORY = "ActiveDirectory";
     private static final String API_NAME_HMI = "HearingManagementInterface";
 
+    private static final Instant CHECKED_AT = Instant.parse("2024-01-01T10:00:00Z");
+
     @Mock
     private DefaultFutureHearingRepository futureHearingRepository;
 
+    @Mock
+    private ScheduledExecutorService refreshScheduler;
+
     private HearingManagementInterfaceHealthIndicator hmiHealthIndicator;
 
     @BeforeEach
@@ -80,6 +96,51 @@ class HearingManagementInterfaceHealthIndicatorTest {
         verify(futureHearingRepository).privateHealthCheck();
     }
 
+    @Test
+    void cachedHealthShouldBeUnknownUntilChecked() {
+        HearingManagementInterfaceHealthIndicator cachedIndicator = cachedIndicator(Clock.systemUTC());
+
+        Health health = cachedIndicator.health();
+
+        assertEquals(Status.UNKNOWN, health.getStatus(), "Health status should be UNKNOWN before the first check");
+        verify(refreshScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(30_000L),
+                                                        eq(TimeUnit.MILLISECONDS));
+        verify(futureHearingRepository, never()).privateHealthCheck();
+    }
+
+    @Test
+    void cachedHealthShouldReturnLastCheckWithItsAge() {
+        HealthCheckResponse response = new HealthCheckResponse();
+        response.setStatus(Status.UP);
+        when(futureHearingRepository.privateHealthCheck()).thenReturn(response);
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(CHECKED_AT, CHECKED_AT.plusSeconds(20));
+        HearingManagementInterfaceHealthIndicator cachedIndicator = cachedIndicator(clock);
+
+        cachedIndicator.refresh();
+        Health health = cachedIndicator.health();
+        cachedIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus(), "Health status has unexpected value");
+        assertEquals(CHECKED_AT.toString(), health.getDetails().get("checkedAt"));
+        assertEquals(20L, health.getDetails().get("ageInSeconds"));
+        verify(futureHearingRepository, times(1)).privateHealthCheck();
+    }
+
+    @Test
+    void cachedHealthShouldBeDownWhenLastCheckFailed() {
+        when(futureHearingRepository.privateHealthCheck())
+            .thenThrow(new HealthCheckHmiException(RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE));
+        HearingManagementInterfaceHealthIndicator cachedIndicator = cachedIndicator(Clock.systemUTC());
+
+        cachedIndicator.refresh();
+        Health health = cachedIndicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus(), "Health status should be DOWN");
+        assertEquals(RESOURCE_NOT_FOUND_EXCEPTION_MESSAGE, health.getDetails().get(KEY_MESSAGE));
+        assertEquals(API_NAME_HMI, health.getDetails().get(KEY_API_NAME));
+    }
+
     @ParameterizedTest
     @MethodSource("healthCheckActiveDirectoryExceptions")
     void healthShouldBeDownForHealthCheckActiveDirectoryExceptions(HealthCheckActiveDirectoryException exception,
@@ -100,6 +161,11 @@ class HearingManagementInterfaceHealthIndicatorTest {
         assertHealthDown(exception, expectedHealthDetails);
     }
 
+    private HearingManagementInterfaceHealthIndicator cachedIndicator(Clock clock) {
+        return new HearingManagementInterfaceHealthIndicator(futureHearingRepository, clock, Duration.ofSeconds(30),
+                                                             refreshScheduler);
+    }
+
     private void assertHealthDown(Exception exception, Map<String, Object> expectedHealthDetails) {
         when(futureHearingRepository.privateHealthCheck()).thenThrow(exception);
 
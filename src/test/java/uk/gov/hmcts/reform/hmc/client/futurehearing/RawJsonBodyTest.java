@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.hmc.client.futurehearing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawJsonBodyTest {
+
+    private static final String BODY = "{\"hearingRequest\": {\"caseTitle\": \"Smith v Jones \u2013 \u00a31\"}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteBytesUnchanged() throws Exception {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(objectMapper.writeValueAsBytes(RawJsonBody.asJsonNode(body))).isEqualTo(body);
+    }
+
+    @Test
+    void shouldWriteAsCharactersWhenEmbedded() throws Exception {
+        JsonNode data = RawJsonBody.asJsonNode(BODY.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(data.toString()).isEqualTo(BODY);
+        assertThat(objectMapper.writeValueAsString(Map.of("data", data))).isEqualTo("{\"data\":" + BODY + "}");
+    }
+
+    @Test
+    void shouldBeEqualWhenBytesAreEqual() {
+        assertThat(RawJsonBody.asJsonNode(BODY.getBytes(StandardCharsets.UTF_8)))
+            .isEqualTo(RawJsonBody.asJsonNode(BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryTokenCache;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceApiClient;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWarmUpTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private ActiveDirectoryTokenCache activeDirectoryTokenCache;
+
+    @Mock
+    private HearingManagementInterfaceApiClient hmiClient;
+
+    @Mock
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @Mock
+    private ServiceBusSenderAsyncClient topicSender;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldWarmUpEveryStep() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(activeDirectoryTokenCache.getAccessToken()).thenReturn(TOKEN);
+        when(senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(topicSender);
+        when(topicSender.createMessageBatch()).thenReturn(Mono.empty());
+
+        warmUp(true).warmUp();
+
+        verify(connection).isValid(anyInt());
+        verify(connection).close();
+        verify(hmiClient).privateHealthCheck("Bearer " + TOKEN);
+        verify(senderRegistry).createMessageBatch(ServiceBusDestination.INBOUND_QUEUE);
+        verify(senderRegistry).createMessageBatch(ServiceBusDestination.OUTBOUND_QUEUE);
+        assertThat(meterRegistry.find("hmc.outbound.warm.up").tag("outcome", "success").timers()).hasSize(5);
+    }
+
+    @Test
+    void shouldCarryOnWhenStepFails() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(activeDirectoryTokenCache.getAccessToken()).thenReturn(TOKEN);
+        when(senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(topicSender);
+        when(topicSender.createMessageBatch()).thenReturn(Mono.empty());
+
+        warmUp(true).warmUp();
+
+        verify(hmiClient).privateHealthCheck("Bearer " + TOKEN);
+        assertThat(meterRegistry.get("hmc.outbound.warm.up").tags("step", "database", "outcome", "failure")
+                       .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("hmc.outbound.warm.up").tag("outcome", "success").timers()).hasSize(4);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        warmUp(false).warmUp();
+
+        verifyNoInteractions(dataSource, activeDirectoryTokenCache, hmiClient, senderRegistry);
+        assertThat(meterRegistry.find("hmc.outbound.warm.up").timers()).isEmpty();
+    }
+
+    private ApplicationWarmUp warmUp(boolean enabled) {
+        when(applicationParams.isWarmUpEnabled()).thenReturn(enabled);
+        when(applicationParams.getWarmUpSerializationIterations()).thenReturn(10);
+        return new ApplicationWarmUp(dataSource, activeDirectoryTokenCache, hmiClient, senderRegistry,
+                                     new ObjectMapper(), meterRegistry, applicationParams);
+    }
+}
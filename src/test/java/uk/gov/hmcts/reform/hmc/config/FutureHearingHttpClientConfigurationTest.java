@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import okhttp3.Dispatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FutureHearingHttpClientConfigurationTest {
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Test
+    void shouldUseConfiguredDispatcherLimits() {
+        when(applicationParams.getConsumerMaxInFlight()).thenReturn(16);
+        when(applicationParams.getBulkheadMaxConcurrentCalls()).thenReturn(16);
+        when(applicationParams.getHttpClientMaxRequests()).thenReturn(64);
+        when(applicationParams.getHttpClientMaxRequestsPerHost()).thenReturn(32);
+
+        Dispatcher dispatcher = FutureHearingHttpClientConfiguration.dispatcher(applicationParams);
+
+        assertThat(dispatcher.getMaxRequests()).isEqualTo(64);
+        assertThat(dispatcher.getMaxRequestsPerHost()).isEqualTo(32);
+    }
+
+    @Test
+    void shouldRaiseDispatcherLimitsToCoverMaxInFlightAndBulkhead() {
+        when(applicationParams.getConsumerMaxInFlight()).thenReturn(40);
+        when(applicationParams.getBulkheadMaxConcurrentCalls()).thenReturn(24);
+        when(applicationParams.getHttpClientMaxRequests()).thenReturn(20);
+        when(applicationParams.getHttpClientMaxRequestsPerHost()).thenReturn(5);
+
+        Dispatcher dispatcher = FutureHearingHttpClientConfiguration.dispatcher(applicationParams);
+
+        assertThat(dispatcher.getMaxRequestsPerHost()).isEqualTo(40);
+        assertThat(dispatcher.getMaxRequests()).isEqualTo(40);
+    }
+}
@@ -5,10 +5,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreakerHealthIndicator;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceHealthIndicator;
 import uk.gov.hmcts.reform.hmc.repository.DefaultFutureHearingRepository;
 
+import java.time.Clock;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class HealthIndicatorConfigTest {
@@ -16,6 +26,12 @@ class HealthIndicatorConfigTest {
     @Mock
     private DefaultFutureHearingRepository futureHearingRepository;
 
+    @Mock
+    private FutureHearingCircuitBreaker circuitBreaker;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
     private HealthIndicatorConfig healthIndicatorConfig;
 
     @BeforeEach
@@ -26,8 +42,22 @@ class HealthIndicatorConfigTest {
     @Test
     void shouldCreateHearingManagementInterfaceHealthIndicator() {
         HearingManagementInterfaceHealthIndicator healthIndicator =
-            healthIndicatorConfig.hearingManagementInterfaceHealthIndicator(futureHearingRepository);
+            healthIndicatorConfig.hearingManagementInterfaceHealthIndicator(futureHearingRepository,
+                                                                            Clock.systemUTC(), applicationParams);
 
         assertNotNull(healthIndicator, "HearingManagementHealthIndicator should be created");
     }
+
+    @Test
+    void shouldReportCircuitBreakerStatesWhileStayingUp() {
+        when(circuitBreaker.getName()).thenReturn("hmi");
+        when(circuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.OPEN);
+        FutureHearingCircuitBreakerHealthIndicator healthIndicator =
+            healthIndicatorConfig.circuitBreakersHealthIndicator(List.of(circuitBreaker));
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("OPEN", health.getDetails().get("hmi"));
+    }
 }
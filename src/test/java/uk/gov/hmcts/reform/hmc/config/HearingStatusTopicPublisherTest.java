@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HearingStatusTopicPublisherTest {
+
+    @Mock
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @Mock
+    private ServiceBusSenderAsyncClient sender;
+
+    @Mock
+    private ServiceBusMessageBatch batch;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ApplicationParams applicationParams = applicationParams();
+
+    @InjectMocks
+    private HearingStatusTopicPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(sender);
+        lenient().when(sender.createMessageBatch()).thenReturn(Mono.just(batch));
+        lenient().when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void shouldRejectMessagesWhenDisabled() {
+        ApplicationParams disabledParams = applicationParams();
+        ReflectionTestUtils.setField(disabledParams, "topicPublisherAsyncEnabled", false);
+        HearingStatusTopicPublisher disabledPublisher =
+            new HearingStatusTopicPublisher(senderRegistry, meterRegistry, disabledParams);
+
+        CompletableFuture<Void> result = disabledPublisher.publish("2000000001", new ServiceBusMessage("message"));
+
+        assertThat(disabledPublisher.isEnabled()).isFalse();
+        assertThat(result).isCompletedExceptionally();
+        assertThat(meterRegistry.get("hmc.outbound.topic.publish").tag("outcome", "rejected").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldPublishBufferedMessagesAsBatch() throws Exception {
+        when(sender.sendMessages(batch)).thenReturn(Mono.empty());
+
+        CompletableFuture<Void> first = publisher.publish("2000000001", new ServiceBusMessage("first"));
+        CompletableFuture<Void> second = publisher.publish("2000000002", new ServiceBusMessage("second"));
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        verify(sender, times(1)).sendMessages(batch);
+        assertThat(meterRegistry.get("hmc.outbound.topic.publish").tag("outcome", "sent").counter().count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRetryFailedBatch() throws Exception {
+        when(sender.sendMessages(batch))
+            .thenReturn(Mono.error(new IllegalStateException("link closed")), Mono.empty());
+
+        publisher.publish("2000000001", new ServiceBusMessage("message")).get(5, TimeUnit.SECONDS);
+
+        verify(sender, times(2)).sendMessages(batch);
+        assertThat(meterRegistry.get("hmc.outbound.topic.publish").tag("outcome", "retried").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFailHearingOnceRetriesAreExhausted() {
+        when(sender.sendMessages(batch)).thenReturn(Mono.error(new IllegalStateException("link closed")));
+
+        CompletableFuture<Void> result = publisher.publish("2000000001", new ServiceBusMessage("message"));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        verify(sender, times(2)).sendMessages(batch);
+    }
+
+    @Test
+    void shouldNotSendLaterMessageForHearingWhoseEarlierBatchFailed() throws Exception {
+        ServiceBusMessageBatch nextBatch = mock(ServiceBusMessageBatch.class);
+        when(sender.createMessageBatch()).thenReturn(Mono.just(batch), Mono.just(nextBatch));
+        when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true, false);
+        when(nextBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+        when(sender.sendMessages(batch)).thenReturn(Mono.error(new IllegalStateException("link closed")));
+        when(sender.sendMessages(nextBatch)).thenReturn(Mono.empty());
+        ServiceBusMessage laterMessage = new ServiceBusMessage("second for hearing");
+
+        CompletableFuture<Void> first = publisher.publish("2000000001", new ServiceBusMessage("first for hearing"));
+        CompletableFuture<Void> later = publisher.publish("2000000001", laterMessage);
+        CompletableFuture<Void> other = publisher.publish("2000000002", new ServiceBusMessage("other hearing"));
+
+        other.get(5, TimeUnit.SECONDS);
+        assertThat(first).isCompletedExceptionally();
+        assertThat(later).isCompletedExceptionally();
+        verify(sender, times(2)).sendMessages(batch);
+        verify(nextBatch, never()).tryAddMessage(laterMessage);
+    }
+
+    private static ApplicationParams applicationParams() {
+        ApplicationParams applicationParams = new ApplicationParams();
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherAsyncEnabled", true);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherBufferCapacity", 10);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherMaxMessages", 10);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherMaxWaitInMilliseconds", 50L);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherEnqueueTimeoutInMilliseconds", 100L);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherMaxAttempts", 2);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherRetryDelayInMilliseconds", 10L);
+        ReflectionTestUtils.setField(applicationParams, "topicPublisherShutdownTimeoutInSeconds", 5L);
+        return applicationParams;
+    }
+}
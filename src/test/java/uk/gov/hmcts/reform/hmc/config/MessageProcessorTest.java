@@ -3,42 +3,72 @@ package uk.gov.hmcts.reform.hmc.config;
 import com.azure.core.util.BinaryData;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceResponse;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 import uk.gov.hmcts.reform.hmc.errorhandling.AuthenticationException;
 import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
 import uk.gov.hmcts.reform.hmc.errorhandling.JsonProcessingRuntimeException;
 import uk.gov.hmcts.reform.hmc.errorhandling.MalformedMessageException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ServiceBusMessageErrorHandler;
+import uk.gov.hmcts.reform.hmc.errorhandling.SyncResponseSendException;
+import uk.gov.hmcts.reform.hmc.helper.OutboundMessageSerializer;
+import uk.gov.hmcts.reform.hmc.helper.PayloadLogger;
 import uk.gov.hmcts.reform.hmc.repository.DefaultFutureHearingRepository;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
+import uk.gov.hmcts.reform.hmc.repository.HearingRepository;
 import uk.gov.hmcts.reform.hmc.service.MessageProcessor;
 import uk.gov.hmcts.reform.hmc.service.PendingRequestService;
+import uk.gov.hmcts.reform.hmc.service.PendingRequestWorkerPool;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.hmc.utils.TestingUtil.queuedPendingRequest;
 
 @ExtendWith(MockitoExtension.class)
 class MessageProcessorTest {
@@ -58,6 +88,9 @@ class MessageProcessorTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private ObjectReader objectReader;
+
     @Mock
     private ServiceBusReceivedMessageContext messageContext;
 
@@ -67,23 +100,42 @@ class MessageProcessorTest {
     @Mock
     private ServiceBusMessageErrorHandler errorHandler;
 
+    @Mock
+    private PendingRequestWorkerPool pendingRequestWorkerPool;
+
+    @Mock
+    private HearingRepository hearingRepository;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private FutureHearingConcurrencyLimiter concurrencyLimiter;
+
     private MessageProcessor messageProcessor;
 
     private JsonNode anyData;
 
     @BeforeEach
      void setUp() {
+        concurrencyLimiter = new FutureHearingConcurrencyLimiter(new SimpleMeterRegistry(), concurrencyLimitParams());
+        when(objectMapper.readerFor(JsonNode.class)).thenReturn(objectReader);
         messageProcessor = new MessageProcessor(
                 futureHearingRepository, errorHandler,
                 messageSenderConfiguration,
                 objectMapper,
-                pendingRequestService);
+                pendingRequestService,
+                pendingRequestWorkerPool,
+                new HearingLookupCache(hearingRepository, new SimpleMeterRegistry()),
+                concurrencyLimiter,
+                new PayloadLogger(new ObjectMapper(), 2000, 1),
+                new OutboundMessageSerializer(new ObjectMapper()),
+                applicationParams);
 
         anyData = objectMapper.convertValue("test data", JsonNode.class);
     }
 
     @Test
-    void shouldThrowErrorWhenCannotConvertMessage() throws JsonProcessingException {
+    void shouldThrowErrorWhenCannotConvertMessage() throws IOException {
         Map<String, Object> applicationProperties = Map.of(
             HEARING_ID, 1234567890,
             MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
@@ -94,7 +146,7 @@ class MessageProcessorTest {
         when(message.getBody()).thenReturn(BinaryData.fromString(messageBody));
 
         JsonParseException jsonParseException = new JsonParseException("json parse exception");
-        when(objectMapper.readTree(messageBody)).thenThrow(jsonParseException);
+        when(objectReader.readTree(messageBody.getBytes(StandardCharsets.UTF_8))).thenThrow(jsonParseException);
 
         when(messageContext.getMessage()).thenReturn(message);
 
@@ -102,11 +154,165 @@ class MessageProcessorTest {
 
         verify(messageContext, times(2)).getMessage();
         verify(message).getBody();
-        verify(objectMapper).readTree(messageBody);
+        verify(objectReader).readTree(messageBody.getBytes(StandardCharsets.UTF_8));
         verify(message).getApplicationProperties();
         verify(errorHandler).handleJsonError(messageContext, jsonParseException);
     }
 
+    @Test
+    void shouldRetryMessageWhenFutureHearingIsUnavailable() throws IOException {
+        Map<String, Object> applicationProperties = Map.of(
+            HEARING_ID, 1234567890,
+            MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
+        );
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(applicationProperties);
+        when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        when(objectReader.readTree("{}".getBytes(StandardCharsets.UTF_8))).thenReturn(anyData);
+        FutureHearingUnavailableException exception = new FutureHearingUnavailableException("N/A");
+        doThrow(exception).when(futureHearingRepository).createHearingRequest(any(), any());
+
+        messageProcessor.processMessage(messageContext);
+
+        verify(errorHandler).handleApplicationError(messageContext, exception);
+        verify(messageContext).complete();
+    }
+
+    @Test
+    void shouldNotCompleteMessageWhenSyncResponseBatchFails() throws IOException {
+        Map<String, Object> applicationProperties = Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
+        );
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(applicationProperties);
+        when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        when(objectReader.readTree("{}".getBytes(StandardCharsets.UTF_8))).thenReturn(anyData);
+        SyncResponseSendException exception =
+            new SyncResponseSendException("Error while sending the message to queue", new RuntimeException());
+        doThrow(exception).when(messageSenderConfiguration).sendMessage(any(), any(), eq("1234567890"));
+        when(errorHandler.handleApplicationError(messageContext, exception)).thenReturn(true);
+
+        messageProcessor.processMessage(messageContext);
+
+        verify(errorHandler).handleApplicationError(messageContext, exception);
+        verify(messageContext, never()).complete();
+    }
+
+    @Test
+    void shouldOnlyResendSyncResponseWhenRequestWasAlreadyAccepted() throws IOException {
+        Map<String, Object> applicationProperties = Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.AMEND_HEARING.name(),
+            "hearing_request_accepted", true
+        );
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(applicationProperties);
+        when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        when(objectReader.readTree("{}".getBytes(StandardCharsets.UTF_8))).thenReturn(anyData);
+
+        messageProcessor.processMessage(messageContext);
+        messageProcessor.processMessageAsync(messageContext, Runnable::run).join();
+
+        verify(messageSenderConfiguration, times(2)).sendMessage(any(), any(), eq("1234567890"));
+        verify(messageContext, times(2)).complete();
+        verify(futureHearingRepository, never()).amendHearingRequest(any(), any());
+        verify(futureHearingRepository, never()).amendHearingRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldCompleteMessageDeferredBehindRedeliveryWithoutProcessingIt() {
+        when(errorHandler.deferBehindRedelivery(messageContext)).thenReturn(true);
+
+        messageProcessor.processMessage(messageContext);
+        messageProcessor.processMessageAsync(messageContext, Runnable::run).join();
+
+        verify(messageContext, times(2)).complete();
+        verify(futureHearingRepository, never()).createHearingRequest(any(), any());
+        verify(futureHearingRepository, never()).createHearingRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldCompleteMessageWhenAsyncRequestSucceeds() throws IOException {
+        Map<String, Object> applicationProperties = Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
+        );
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(applicationProperties);
+        when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        when(objectReader.readTree("{}".getBytes(StandardCharsets.UTF_8))).thenReturn(anyData);
+        when(futureHearingRepository.createHearingRequestAsync(anyData, "1234567890"))
+            .thenReturn(CompletableFuture.completedFuture(new HearingManagementInterfaceResponse()));
+
+        messageProcessor.processMessageAsync(messageContext, Runnable::run).join();
+
+        verify(messageSenderConfiguration).sendMessage(any(), any(), eq("1234567890"));
+        verify(messageContext).complete();
+        verify(errorHandler, never()).handleApplicationError(any(), any());
+    }
+
+    @Test
+    void shouldHandleErrorWhenAsyncRequestFails() throws IOException {
+        Map<String, Object> applicationProperties = Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.AMEND_HEARING.name()
+        );
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(applicationProperties);
+        when(message.getBody()).thenReturn(BinaryData.fromString("{}"));
+        when(objectReader.readTree("{}".getBytes(StandardCharsets.UTF_8))).thenReturn(anyData);
+        FutureHearingUnavailableException exception = new FutureHearingUnavailableException("N/A");
+        when(futureHearingRepository.amendHearingRequestAsync(anyData, "1234567890"))
+            .thenReturn(CompletableFuture.failedFuture(exception));
+
+        messageProcessor.processMessageAsync(messageContext, Runnable::run).join();
+
+        verify(errorHandler).handleApplicationError(messageContext, exception);
+        verify(messageContext).complete();
+        verify(messageSenderConfiguration, never()).sendMessage(any(), any(), any());
+    }
+
+    @Test
+    void shouldSendBodyUnparsedWhenPayloadPassThroughEnabled() throws IOException {
+        when(applicationParams.isPayloadPassThrough()).thenReturn(true);
+        when(objectReader.createParser(any(byte[].class)))
+            .thenAnswer(invocation -> new JsonFactory().createParser((byte[]) invocation.getArgument(0)));
+        String body = "{\"hearingRequest\":{\"listing\":{\"listingDuration\":60}}}";
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
+        ));
+        when(message.getBody()).thenReturn(BinaryData.fromString(body));
+
+        messageProcessor.processMessage(messageContext);
+
+        verify(objectReader, never()).readTree(any(byte[].class));
+        verify(futureHearingRepository).createHearingRequest(
+            argThat(data -> data.toString().equals(body)), eq("1234567890"));
+        verify(messageContext).complete();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"  not json", "{\"a\":1}{\"b\":2}", "{}garbage", "{} []"})
+    void shouldFailAsJsonErrorWhenPassedThroughBodyIsNotOneJsonObject(String body) throws IOException {
+        when(applicationParams.isPayloadPassThrough()).thenReturn(true);
+        when(objectReader.createParser(any(byte[].class)))
+            .thenAnswer(invocation -> new JsonFactory().createParser((byte[]) invocation.getArgument(0)));
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(Map.of(
+            HEARING_ID, "1234567890",
+            MESSAGE_TYPE, MessageType.REQUEST_HEARING.name()
+        ));
+        when(message.getBody()).thenReturn(BinaryData.fromString(body));
+
+        messageProcessor.processMessage(messageContext);
+
+        verify(errorHandler).handleJsonError(eq(messageContext), any(JsonProcessingException.class));
+        verify(futureHearingRepository, never()).createHearingRequest(any(), any());
+    }
+
     @ParameterizedTest
     @MethodSource("provideMessageTypes")
     void shouldInitiateHearing(String messageType, Runnable verifyMethod) {
@@ -159,12 +365,9 @@ class MessageProcessorTest {
 
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
         when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
-        when(pendingRequestService.claimRequest(pendingRequest.getId())).thenReturn(1);
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService).findAndLockByHearingId(pendingRequest.getHearingId());
-        verify(pendingRequestService).claimRequest(pendingRequest.getId());
         verify(futureHearingRepository).createHearingRequest(any(), any());
         verify(pendingRequestService).markRequestWithGivenStatus(pendingRequest.getId(), "COMPLETED");
     }
@@ -175,7 +378,7 @@ class MessageProcessorTest {
                                         boolean lastTriedElapsed) {
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(submittedElapsed);
         // Strict mocking is enabled, so only mock lastTriedDateTimePeriodElapsed() if submittedElapsed is false.
-        // If submittedElapsed is true, the short-circuiting logical operators in processPendingRequest() will prevent
+        // If submittedElapsed is true, the early return in processPendingRequest() will prevent
         // lastTriedDateTimePeriodElapsed() from being called causing a test failure due to unnecessary mocking.
         if (!submittedElapsed) {
             when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(lastTriedElapsed);
@@ -183,8 +386,6 @@ class MessageProcessorTest {
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService, never()).findAndLockByHearingId(pendingRequest.getHearingId());
-        verify(pendingRequestService, never()).claimRequest(pendingRequest.getId());
         verify(futureHearingRepository, never()).createHearingRequest(any(), any());
         verify(pendingRequestService, never()).markRequestWithGivenStatus(pendingRequest.getId(), "COMPLETED");
     }
@@ -205,13 +406,10 @@ class MessageProcessorTest {
 
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
         when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
-        when(pendingRequestService.claimRequest(pendingRequest.getId())).thenReturn(1);
         doThrow(exception).when(futureHearingRepository).createHearingRequest(any(), any());
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService).findAndLockByHearingId(pendingRequest.getHearingId());
-        verify(pendingRequestService).claimRequest(pendingRequest.getId());
         verify(futureHearingRepository).createHearingRequest(any(), any());
         verify(pendingRequestService).handleNonRetriableException(pendingRequest, exception);
     }
@@ -223,19 +421,31 @@ class MessageProcessorTest {
 
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
         when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
-        when(pendingRequestService.claimRequest(pendingRequest.getId())).thenReturn(1);
         doThrow(exception).when(futureHearingRepository).createHearingRequest(any(), any());
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService).findAndLockByHearingId(pendingRequest.getHearingId());
-        verify(pendingRequestService).claimRequest(pendingRequest.getId());
         verify(futureHearingRepository).createHearingRequest(any(), any());
         verify(pendingRequestService).markRequestAsPending(eq(pendingRequest.getId()),
                                                            eq(pendingRequest.getRetryCount()),
                                                            any());
     }
 
+    @Test
+    void shouldReleaseClaimWithoutCountingTryWhenPendingRequestIsRejected() {
+        PendingRequestEntity pendingRequest = generatePendingRequest();
+
+        when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
+        when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
+        doThrow(new FutureHearingUnavailableException("hmi circuit breaker is OPEN"))
+            .when(futureHearingRepository).createHearingRequest(any(), any());
+
+        messageProcessor.processPendingRequest(pendingRequest);
+
+        verify(pendingRequestService).releaseClaim(pendingRequest.getId(), pendingRequest.getLastTriedDateTime());
+        verify(pendingRequestService, never()).markRequestAsPending(any(), any(), any());
+    }
+
     @Test
     void shouldProcessPendingRequestNotInPendingState() {
         PendingRequestEntity pendingRequest = generatePendingRequest();
@@ -243,32 +453,129 @@ class MessageProcessorTest {
 
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
         when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
-        when(pendingRequestService.claimRequest(pendingRequest.getId())).thenReturn(1);
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService).findAndLockByHearingId(pendingRequest.getHearingId());
         verify(pendingRequestService, never())
             .markRequestAsPending(eq(pendingRequest.getId()), eq(pendingRequest.getRetryCount()), any());
         verify(pendingRequestService).markRequestWithGivenStatus(pendingRequest.getId(), "COMPLETED");
     }
 
     @Test
-    void shouldNotProcessClaimedRequest() {
+    void shouldReleaseClaimWhenRetryIntervalNotElapsed() {
         PendingRequestEntity pendingRequest = generatePendingRequest();
 
         when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
-        when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
-        when(pendingRequestService.claimRequest(pendingRequest.getId())).thenReturn(0);
+        when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
 
         messageProcessor.processPendingRequest(pendingRequest);
 
-        verify(pendingRequestService).findAndLockByHearingId(pendingRequest.getHearingId());
-        verify(pendingRequestService).claimRequest(pendingRequest.getId());
+        verify(pendingRequestService).releaseClaim(pendingRequest.getId(), pendingRequest.getLastTriedDateTime());
         verify(futureHearingRepository, never()).createHearingRequest(any(), any());
         verify(pendingRequestService, never()).markRequestWithGivenStatus(pendingRequest.getId(), "COMPLETED");
     }
 
+    @Test
+    void shouldProcessClaimedPendingRequestsOnSweep() {
+        PendingRequestEntity pendingRequest = generatePendingRequest();
+        QueuedPendingRequest claimedRequest = queuedPendingRequest(pendingRequest.getId(),
+                                                                   pendingRequest.getHearingId(),
+                                                                   LocalDateTime.now());
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of(claimedRequest));
+        when(pendingRequestService.claimQueuedPendingRequests(claimedRequest)).thenReturn(List.of());
+        when(pendingRequestService.findById(pendingRequest.getId())).thenReturn(Optional.of(pendingRequest));
+        when(pendingRequestService.submittedDateTimePeriodElapsed(pendingRequest)).thenReturn(false);
+        when(pendingRequestService.lastTriedDateTimePeriodElapsed(pendingRequest)).thenReturn(true);
+        doAnswer(invocation -> {
+            List<QueuedPendingRequest> requests = invocation.getArgument(0);
+            Consumer<QueuedPendingRequest> processor = invocation.getArgument(2);
+            requests.forEach(processor);
+            return true;
+        }).when(pendingRequestWorkerPool).processAll(any(), anyLong(), any(), any());
+
+        messageProcessor.processPendingRequests();
+
+        verify(pendingRequestService, never()).findQueuedPendingRequestsForProcessing();
+        verify(futureHearingRepository).createHearingRequest(any(), any());
+        verify(pendingRequestService).markRequestWithGivenStatus(pendingRequest.getId(), "COMPLETED");
+    }
+
+    @Test
+    void shouldClaimNextPageAfterLastClaimedRequest() {
+        QueuedPendingRequest first = queuedPendingRequest(1L, 2000000001L, LocalDateTime.now().minusHours(2));
+        QueuedPendingRequest second = queuedPendingRequest(2L, 2000000002L, LocalDateTime.now().minusHours(1));
+        QueuedPendingRequest third = queuedPendingRequest(3L, 2000000003L, LocalDateTime.now());
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of(first, second));
+        when(pendingRequestService.claimQueuedPendingRequests(second)).thenReturn(List.of(third));
+        when(pendingRequestService.claimQueuedPendingRequests(third)).thenReturn(List.of());
+        when(pendingRequestWorkerPool.sweepDeadline()).thenReturn(42L);
+        when(pendingRequestWorkerPool.processAll(any(), anyLong(), any(), any())).thenReturn(true);
+
+        messageProcessor.processQueuedPendingRequests();
+
+        verify(pendingRequestWorkerPool).sweepDeadline();
+        verify(pendingRequestWorkerPool).processAll(eq(List.of(first, second)), eq(42L), any(), any());
+        verify(pendingRequestWorkerPool).processAll(eq(List.of(third)), eq(42L), any(), any());
+        verify(pendingRequestService, never()).findById(any());
+    }
+
+    @Test
+    void shouldEndSweepWhenPageIsNotProcessedWithinSweepTimeout() {
+        QueuedPendingRequest first = queuedPendingRequest(1L, 2000000001L, LocalDateTime.now().minusHours(2));
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of(first));
+        when(pendingRequestWorkerPool.processAll(any(), anyLong(), any(), any())).thenReturn(false);
+
+        messageProcessor.processQueuedPendingRequests();
+
+        verify(pendingRequestService, never()).claimQueuedPendingRequests(first);
+    }
+
+    @Test
+    void shouldReleaseExpiredClaimsBeforeClaimingOnSweep() {
+        when(pendingRequestWorkerPool.getClaimTimeoutInSeconds()).thenReturn(450L);
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of());
+
+        messageProcessor.processPendingRequests();
+
+        InOrder inOrder = inOrder(pendingRequestService);
+        inOrder.verify(pendingRequestService).releaseExpiredClaims(450L);
+        inOrder.verify(pendingRequestService).claimQueuedPendingRequests(null);
+    }
+
+    @Test
+    void shouldNotStartWorkersWhenNothingClaimed() {
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of());
+
+        messageProcessor.processPendingRequests();
+
+        verify(pendingRequestWorkerPool, never()).processAll(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void shouldOnlyClaimQueuedRequestsOnTargetedSweep() {
+        when(pendingRequestService.claimQueuedPendingRequests(null)).thenReturn(List.of());
+
+        messageProcessor.processQueuedPendingRequests();
+
+        verify(pendingRequestService).claimQueuedPendingRequests(null);
+        verify(pendingRequestService, never()).deleteCompletedPendingRequests();
+        verify(pendingRequestService, never()).escalatePendingRequests();
+    }
+
+    @Test
+    void shouldOnlyClaimRequestsForNotifiedHearing() {
+        QueuedPendingRequest queued = queuedPendingRequest(1L, 2000000001L, LocalDateTime.now().minusHours(1));
+        when(pendingRequestService.claimQueuedPendingRequestsForHearing(2000000001L, null))
+            .thenReturn(List.of(queued));
+        when(pendingRequestService.claimQueuedPendingRequestsForHearing(2000000001L, queued)).thenReturn(List.of());
+        when(pendingRequestWorkerPool.processAll(any(), anyLong(), any(), any())).thenReturn(true);
+
+        messageProcessor.processQueuedPendingRequestsForHearing(2000000001L);
+
+        verify(pendingRequestWorkerPool).processAll(eq(List.of(queued)), anyLong(), any(), any());
+        verify(pendingRequestService, never()).claimQueuedPendingRequests(any());
+    }
+
     private static Stream<Arguments> provideRetryableExceptions() {
         return Stream.of(
             Arguments.of(new JsonProcessingRuntimeException(new JsonProcessingException("N/A") {})),
@@ -295,6 +602,17 @@ class MessageProcessorTest {
         );
     }
 
+    private static ApplicationParams concurrencyLimitParams() {
+        ApplicationParams concurrencyLimitParams = new ApplicationParams();
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitEnabled", true);
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitInitialLimit", 1);
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitMinLimit", 1);
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitMaxLimit", 1);
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitBackoffRatio", 0.9);
+        ReflectionTestUtils.setField(concurrencyLimitParams, "concurrencyLimitLatencyThresholdInMilliseconds", 5000L);
+        return concurrencyLimitParams;
+    }
+
     private static PendingRequestEntity generatePendingRequest() {
         PendingRequestEntity pendingRequest = new PendingRequestEntity();
         pendingRequest.setId(1L);
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.errorhandling.SyncResponseSendException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageSenderConfigurationTest {
+
+    private static final byte[] MESSAGE = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final String MESSAGE_TYPE = "LA_SYNC_HEARING_RESPONSE";
+    private static final String HEARING_ID = "2000000000";
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Mock
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @Mock
+    private SyncResponseBatchPublisher batchPublisher;
+
+    @InjectMocks
+    private MessageSenderConfiguration messageSenderConfiguration;
+
+    @Test
+    void shouldThrowWhenBatchCannotBeSent() throws Exception {
+        when(batchPublisher.isEnabled()).thenReturn(true);
+        RuntimeException cause = new RuntimeException("batch failed");
+        doThrow(new ExecutionException(cause)).when(batchPublisher).send(any(ServiceBusMessage.class));
+
+        assertThatThrownBy(() -> messageSenderConfiguration.sendMessage(MESSAGE, MESSAGE_TYPE, HEARING_ID))
+            .isInstanceOf(SyncResponseSendException.class)
+            .hasCause(cause);
+        verify(senderRegistry, never()).send(any(), any());
+    }
+
+    @Test
+    void shouldOnlyLogWhenMessageCannotBeSentDirectly() {
+        doThrow(new RuntimeException("send failed")).when(senderRegistry)
+            .send(eq(ServiceBusDestination.INBOUND_QUEUE), any(ServiceBusMessage.class));
+
+        assertDoesNotThrow(() -> messageSenderConfiguration.sendMessage(MESSAGE, MESSAGE_TYPE, HEARING_ID));
+    }
+}
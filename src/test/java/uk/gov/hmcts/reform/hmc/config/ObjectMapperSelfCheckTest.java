@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectMapperSelfCheckTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Test
+    void shouldFindNoProblemsWithOneSharedMapper() {
+        when(applicationParams.isBlackbirdEnabled()).thenReturn(true);
+        ObjectMapperSelfCheck selfCheck =
+            new ObjectMapperSelfCheck(Map.of("jacksonObjectMapper", objectMapper), objectMapper, applicationParams);
+
+        assertThat(selfCheck.problems()).isEmpty();
+    }
+
+    @Test
+    void shouldFlagSeparateMapperBean() {
+        when(applicationParams.isBlackbirdEnabled()).thenReturn(true);
+        ObjectMapperSelfCheck selfCheck = new ObjectMapperSelfCheck(
+            Map.of("jacksonObjectMapper", objectMapper, "strayMapper", new ObjectMapper()), objectMapper,
+            applicationParams);
+
+        assertThat(selfCheck.problems()).singleElement().asString().contains("strayMapper");
+    }
+
+    @Test
+    void shouldFlagMissingBlackbirdModule() {
+        when(applicationParams.isBlackbirdEnabled()).thenReturn(true);
+        ObjectMapper plainMapper = new ObjectMapper();
+        ObjectMapperSelfCheck selfCheck =
+            new ObjectMapperSelfCheck(Map.of("jacksonObjectMapper", plainMapper), plainMapper, applicationParams);
+
+        assertThat(selfCheck.problems()).singleElement().asString().contains("Blackbird");
+    }
+
+    @Test
+    void shouldNotExpectBlackbirdWhenDisabled() {
+        ObjectMapper plainMapper = new ObjectMapper();
+        ObjectMapperSelfCheck selfCheck =
+            new ObjectMapperSelfCheck(Map.of("jacksonObjectMapper", plainMapper), plainMapper, applicationParams);
+
+        assertThat(selfCheck.problems()).isEmpty();
+    }
+}
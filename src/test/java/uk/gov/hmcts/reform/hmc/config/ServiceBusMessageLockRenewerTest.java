@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceiverAsyncClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceBusMessageLockRenewerTest {
+
+    @Mock
+    private ServiceBusReceiverAsyncClient receiver;
+
+    @Mock
+    private ServiceBusReceivedMessage message;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ServiceBusMessageLockRenewer lockRenewer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockRenewer = new ServiceBusMessageLockRenewer(receiver, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockRenewer.shutdown();
+    }
+
+    @Test
+    void shouldKeepRenewingLockUntilClosed() throws InterruptedException {
+        when(message.getLockedUntil()).thenReturn(OffsetDateTime.now().plusNanos(100_000_000L));
+        when(receiver.renewMessageLock(message))
+            .thenAnswer(invocation -> Mono.just(OffsetDateTime.now().plusNanos(100_000_000L)));
+
+        ServiceBusMessageLockRenewer.Renewal renewal = lockRenewer.renew(message);
+
+        verify(receiver, timeout(2000).atLeast(2)).renewMessageLock(message);
+        renewal.close();
+        // let a renewal already under way finish before counting
+        TimeUnit.MILLISECONDS.sleep(100);
+        double renewed = renewedCount();
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(renewedCount()).isEqualTo(renewed);
+    }
+
+    @Test
+    void shouldNotRenewLockOfMessageSettledBeforeRenewalWasDue() throws InterruptedException {
+        when(message.getLockedUntil()).thenReturn(OffsetDateTime.now().plusSeconds(30));
+
+        lockRenewer.renew(message).close();
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        verify(receiver, never()).renewMessageLock(message);
+    }
+
+    @Test
+    void shouldStopRenewingAfterMaxRenewDuration() throws InterruptedException {
+        lockRenewer.shutdown();
+        lockRenewer = new ServiceBusMessageLockRenewer(receiver, Duration.ofMillis(20), meterRegistry);
+        when(message.getLockedUntil()).thenReturn(OffsetDateTime.now().plusNanos(200_000_000L));
+
+        lockRenewer.renew(message);
+
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(receiver, never()).renewMessageLock(message);
+    }
+
+    @Test
+    void shouldNotRenewWhenDisabled() {
+        ServiceBusMessageLockRenewer disabledRenewer =
+            new ServiceBusMessageLockRenewer(null, Duration.ZERO, new SimpleMeterRegistry());
+
+        disabledRenewer.renew(message).close();
+        disabledRenewer.shutdown();
+
+        verifyNoInteractions(message);
+    }
+
+    private double renewedCount() {
+        return meterRegistry.get("hmc.outbound.consumer.lock.renewal").tag("outcome", "renewed").counter().count();
+    }
+}
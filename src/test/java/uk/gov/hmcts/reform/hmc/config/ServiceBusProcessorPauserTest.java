@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusProcessorClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingCircuitBreaker;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceBusProcessorPauserTest {
+
+    @Mock
+    private ServiceBusProcessorClient processorClient;
+
+    @Mock
+    private FutureHearingCircuitBreaker hmiCircuitBreaker;
+
+    @Mock
+    private FutureHearingCircuitBreaker activeDirectoryCircuitBreaker;
+
+    private ServiceBusProcessorPauser pauser;
+
+    @BeforeEach
+    void setUp() {
+        pauser = new ServiceBusProcessorPauser(processorClient,
+                                               List.of(hmiCircuitBreaker, activeDirectoryCircuitBreaker));
+    }
+
+    @Test
+    void shouldListenToEveryCircuitBreaker() {
+        verify(hmiCircuitBreaker).addStateListener(any());
+        verify(activeDirectoryCircuitBreaker).addStateListener(any());
+    }
+
+    @Test
+    void shouldStopProcessorWhenAnyCircuitBreakerOpens() {
+        when(hmiCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.CLOSED);
+        when(activeDirectoryCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.OPEN);
+        when(processorClient.isRunning()).thenReturn(true);
+
+        pauser.update();
+
+        verify(processorClient).stop();
+    }
+
+    @Test
+    void shouldStartProcessorWhenNoCircuitBreakerIsOpen() {
+        when(hmiCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.HALF_OPEN);
+        when(activeDirectoryCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.CLOSED);
+        when(processorClient.isRunning()).thenReturn(false);
+
+        pauser.update();
+
+        verify(processorClient).start();
+    }
+
+    @Test
+    void shouldLeaveProcessorAloneWhenAlreadyInStep() {
+        when(hmiCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.CLOSED);
+        when(activeDirectoryCircuitBreaker.getState()).thenReturn(FutureHearingCircuitBreaker.State.CLOSED);
+        when(processorClient.isRunning()).thenReturn(true);
+
+        pauser.update();
+
+        verify(processorClient, never()).stop();
+        verify(processorClient, never()).start();
+    }
+
+    @Test
+    void shouldNotRestartProcessorWhenShuttingDown() {
+        pauser.shutdown();
+
+        pauser.update();
+
+        verify(processorClient, never()).start();
+    }
+
+    @Test
+    void shouldUpdateProcessorWhenCircuitBreakerChangesState() {
+        FutureHearingCircuitBreaker circuitBreaker = new FutureHearingCircuitBreaker(
+            "hmi", new SimpleMeterRegistry(), true, 1, 1, 50, Duration.ofSeconds(1), 100, Duration.ofMinutes(1), 1);
+        ServiceBusProcessorPauser listeningPauser =
+            new ServiceBusProcessorPauser(processorClient, List.of(circuitBreaker));
+        when(processorClient.isRunning()).thenReturn(true);
+
+        try {
+            circuitBreaker.onResult(true, 0);
+
+            verify(processorClient, timeout(5000)).stop();
+        } finally {
+            listeningPauser.shutdown();
+            circuitBreaker.close();
+        }
+    }
+}
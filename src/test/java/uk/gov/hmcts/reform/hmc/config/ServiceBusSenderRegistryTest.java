@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import com.azure.messaging.servicebus.ServiceBusSenderAsyncClient;
+import com.azure.messaging.servicebus.ServiceBusSenderClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceBusSenderRegistryTest {
+
+    @Mock
+    private Function<ServiceBusDestination, ServiceBusSenderClient> senderFactory;
+
+    @Mock
+    private Function<ServiceBusDestination, ServiceBusSenderAsyncClient> asyncSenderFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        senderRegistry = new ServiceBusSenderRegistry(senderFactory, asyncSenderFactory, meterRegistry);
+    }
+
+    @Test
+    void shouldReuseSenderForSameDestination() {
+        ServiceBusSenderClient sender = mock(ServiceBusSenderClient.class);
+        when(senderFactory.apply(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(sender);
+
+        senderRegistry.send(ServiceBusDestination.INBOUND_QUEUE, new ServiceBusMessage("first"));
+        senderRegistry.send(ServiceBusDestination.INBOUND_QUEUE, new ServiceBusMessage("second"));
+
+        verify(senderFactory, times(1)).apply(ServiceBusDestination.INBOUND_QUEUE);
+        verify(sender, times(2)).sendMessage(any(ServiceBusMessage.class));
+        assertThat(meterRegistry.get("hmc.outbound.servicebus.sender").tag("destination", "INBOUND_QUEUE")
+                       .tag("client", "sync").tag("result", "reused").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("hmc.outbound.servicebus.send").tag("destination", "INBOUND_QUEUE")
+                       .tag("outcome", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRetryTransientFailureOnSameSender() {
+        ServiceBusSenderClient sender = mock(ServiceBusSenderClient.class);
+        when(senderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(sender);
+        doThrow(serviceBusException(true)).doNothing().when(sender).sendMessage(any(ServiceBusMessage.class));
+
+        senderRegistry.send(ServiceBusDestination.EXTERNAL_TOPIC, new ServiceBusMessage("message"));
+
+        verify(senderFactory, times(1)).apply(ServiceBusDestination.EXTERNAL_TOPIC);
+        verify(sender, times(2)).sendMessage(any(ServiceBusMessage.class));
+        verify(sender, never()).close();
+    }
+
+    @Test
+    void shouldNotRetryFailureThatIsNotTransient() {
+        ServiceBusSenderClient sender = mock(ServiceBusSenderClient.class);
+        when(senderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(sender);
+        doThrow(serviceBusException(false)).when(sender).sendMessage(any(ServiceBusMessage.class));
+
+        assertThatThrownBy(() -> senderRegistry.send(ServiceBusDestination.EXTERNAL_TOPIC,
+                                                     new ServiceBusMessage("message")))
+            .isInstanceOf(ServiceBusException.class);
+        verify(sender, times(1)).sendMessage(any(ServiceBusMessage.class));
+        verify(sender, never()).close();
+    }
+
+    @Test
+    void shouldPropagateFailureWhenRetryAlsoFails() {
+        ServiceBusSenderClient sender = mock(ServiceBusSenderClient.class);
+        when(senderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(sender);
+        doThrow(serviceBusException(true)).when(sender).sendMessage(any(ServiceBusMessage.class));
+
+        assertThatThrownBy(() -> senderRegistry.send(ServiceBusDestination.EXTERNAL_TOPIC,
+                                                     new ServiceBusMessage("message")))
+            .isInstanceOf(ServiceBusException.class);
+        verify(sender, times(2)).sendMessage(any(ServiceBusMessage.class));
+        assertThat(meterRegistry.get("hmc.outbound.servicebus.send").tag("destination", "EXTERNAL_TOPIC")
+                       .tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSendBatchOnPooledSender() {
+        ServiceBusSenderClient sender = mock(ServiceBusSenderClient.class);
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        when(senderFactory.apply(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(sender);
+        when(sender.createMessageBatch()).thenReturn(batch);
+
+        senderRegistry.sendBatch(ServiceBusDestination.INBOUND_QUEUE,
+                                 senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE));
+
+        verify(senderFactory, times(1)).apply(ServiceBusDestination.INBOUND_QUEUE);
+        verify(sender).sendMessages(batch);
+    }
+
+    @Test
+    void shouldReuseAsyncSender() {
+        ServiceBusSenderAsyncClient asyncSender = mock(ServiceBusSenderAsyncClient.class);
+        when(asyncSenderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(asyncSender);
+
+        assertThat(senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC)).isSameAs(asyncSender);
+        assertThat(senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC)).isSameAs(asyncSender);
+
+        verify(asyncSenderFactory, times(1)).apply(ServiceBusDestination.EXTERNAL_TOPIC);
+        verify(asyncSender, never()).close();
+    }
+
+    @Test
+    void shouldCloseSendersOnShutdown() {
+        ServiceBusSenderClient queueSender = mock(ServiceBusSenderClient.class);
+        ServiceBusSenderClient topicSender = mock(ServiceBusSenderClient.class);
+        when(senderFactory.apply(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(queueSender);
+        when(senderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(topicSender);
+        senderRegistry.send(ServiceBusDestination.INBOUND_QUEUE, new ServiceBusMessage("queue"));
+        senderRegistry.send(ServiceBusDestination.EXTERNAL_TOPIC, new ServiceBusMessage("topic"));
+        ServiceBusSenderAsyncClient asyncSender = mock(ServiceBusSenderAsyncClient.class);
+        when(asyncSenderFactory.apply(ServiceBusDestination.EXTERNAL_TOPIC)).thenReturn(asyncSender);
+        senderRegistry.getAsyncSender(ServiceBusDestination.EXTERNAL_TOPIC);
+
+        senderRegistry.close();
+
+        verify(queueSender).close();
+        verify(topicSender).close();
+        verify(asyncSender).close();
+    }
+
+    private static ServiceBusException serviceBusException(boolean isTransient) {
+        ServiceBusException exception = mock(ServiceBusException.class);
+        when(exception.isTransient()).thenReturn(isTransient);
+        return exception;
+    }
+}
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusMessageBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncResponseBatchPublisherTest {
+
+    @Mock
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ApplicationParams applicationParams = applicationParams();
+
+    @InjectMocks
+    private SyncResponseBatchPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void shouldNotStartWhenDisabled() {
+        ApplicationParams disabledParams = applicationParams();
+        ReflectionTestUtils.setField(disabledParams, "syncResponseBatchEnabled", false);
+        SyncResponseBatchPublisher disabledPublisher =
+            new SyncResponseBatchPublisher(senderRegistry, meterRegistry, disabledParams);
+
+        assertThat(disabledPublisher.isEnabled()).isFalse();
+        assertThat(disabledPublisher.publish(new ServiceBusMessage("message"))).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldSendQueuedMessagesAsSingleBatch() throws Exception {
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+        when(senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(batch);
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(publisher.publish(new ServiceBusMessage("message-" + i)));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        verify(senderRegistry, times(1)).sendBatch(ServiceBusDestination.INBOUND_QUEUE, batch);
+        assertThat(meterRegistry.get("hmc.outbound.sync.response.batch.size").summary().totalAmount())
+            .isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldStartNewBatchWhenSizeLimitReached() throws Exception {
+        ServiceBusMessageBatch fullBatch = mock(ServiceBusMessageBatch.class);
+        ServiceBusMessageBatch nextBatch = mock(ServiceBusMessageBatch.class);
+        when(fullBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true, false);
+        when(nextBatch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+        when(senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(fullBatch, nextBatch);
+
+        CompletableFuture<Void> first = publisher.publish(new ServiceBusMessage("first"));
+        CompletableFuture<Void> second = publisher.publish(new ServiceBusMessage("second"));
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        verify(senderRegistry).sendBatch(ServiceBusDestination.INBOUND_QUEUE, fullBatch);
+        verify(senderRegistry).sendBatch(ServiceBusDestination.INBOUND_QUEUE, nextBatch);
+    }
+
+    @Test
+    void shouldFailCallersWhenBatchSendFails() {
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+        when(senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(batch);
+        doThrow(new IllegalStateException("send failed"))
+            .when(senderRegistry).sendBatch(ServiceBusDestination.INBOUND_QUEUE, batch);
+
+        assertThatThrownBy(() -> publisher.send(new ServiceBusMessage("message")))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldWaitForBatchAlreadyBeingSentInsteadOfTimingOut() throws Exception {
+        ApplicationParams shortTimeoutParams = applicationParams();
+        ReflectionTestUtils.setField(shortTimeoutParams, "syncResponseBatchSendTimeoutInSeconds", 1L);
+        SyncResponseBatchPublisher shortTimeoutPublisher =
+            new SyncResponseBatchPublisher(senderRegistry, meterRegistry, shortTimeoutParams);
+        ServiceBusMessageBatch batch = mock(ServiceBusMessageBatch.class);
+        when(batch.tryAddMessage(any(ServiceBusMessage.class))).thenReturn(true);
+        when(senderRegistry.createMessageBatch(ServiceBusDestination.INBOUND_QUEUE)).thenReturn(batch);
+        doAnswer(invocation -> {
+            Thread.sleep(1500);
+            return null;
+        }).when(senderRegistry).sendBatch(ServiceBusDestination.INBOUND_QUEUE, batch);
+
+        try {
+            shortTimeoutPublisher.send(new ServiceBusMessage("message"));
+        } finally {
+            shortTimeoutPublisher.shutdown();
+        }
+
+        verify(senderRegistry, times(1)).sendBatch(ServiceBusDestination.INBOUND_QUEUE, batch);
+    }
+
+    private static ApplicationParams applicationParams() {
+        ApplicationParams applicationParams = new ApplicationParams();
+        ReflectionTestUtils.setField(applicationParams, "syncResponseBatchEnabled", true);
+        ReflectionTestUtils.setField(applicationParams, "syncResponseBatchMaxMessages", 3);
+        ReflectionTestUtils.setField(applicationParams, "syncResponseBatchMaxWaitInMilliseconds", 500L);
+        ReflectionTestUtils.setField(applicationParams, "syncResponseBatchSendTimeoutInSeconds", 5L);
+        return applicationParams;
+    }
+}
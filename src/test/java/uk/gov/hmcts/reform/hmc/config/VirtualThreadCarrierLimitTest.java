@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.hmc.config.VirtualThreadCarrierLimit.MAX_POOL_SIZE;
+import static uk.gov.hmcts.reform.hmc.config.VirtualThreadCarrierLimit.PARALLELISM;
+
+class VirtualThreadCarrierLimitTest {
+
+    private final VirtualThreadCarrierLimit carrierLimit = new VirtualThreadCarrierLimit(Supplier::get);
+
+    private String parallelism;
+    private String maxPoolSize;
+
+    @BeforeEach
+    void setUp() {
+        parallelism = System.clearProperty(PARALLELISM);
+        maxPoolSize = System.clearProperty(MAX_POOL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        restore(PARALLELISM, parallelism);
+        restore(MAX_POOL_SIZE, maxPoolSize);
+    }
+
+    @Test
+    void shouldCapCarriersWhenVirtualThreadsEnabled() {
+        carrierLimit.postProcessEnvironment(environment(true, 16), new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isEqualTo("16");
+        assertThat(System.getProperty(MAX_POOL_SIZE)).isEqualTo("16");
+    }
+
+    @Test
+    void shouldNotCapCarriersWhenVirtualThreadsDisabled() {
+        carrierLimit.postProcessEnvironment(environment(false, 16), new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isNull();
+    }
+
+    @Test
+    void shouldKeepCapGivenOnCommandLine() {
+        System.setProperty(PARALLELISM, "4");
+
+        carrierLimit.postProcessEnvironment(environment(true, 16), new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isEqualTo("4");
+        assertThat(System.getProperty(MAX_POOL_SIZE)).isNull();
+    }
+
+    private static MockEnvironment environment(boolean virtualThreads, int maxCarriers) {
+        return new MockEnvironment()
+            .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads))
+            .withProperty("threads.virtual.max-carriers", String.valueOf(maxCarriers))
+            .withProperty("azure.jms.servicebus.consumer.partitions", "4")
+            .withProperty("pending.request.workers", "4");
+    }
+
+    private static void restore(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.hmc.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void shouldReportVirtualThreadPinnedBySynchronizedBlock() throws InterruptedException {
+        assumeTrue(Runtime.version().feature() < 24, "synchronized no longer pins virtual threads from Java 24");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 10);
+        Object lock = new Object();
+        try {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    sleep(50);
+                }
+            }).join();
+
+            Timer pinned = meterRegistry.get("hmc.outbound.virtual.thread.pinned").timer();
+            for (int i = 0; i < 100 && pinned.count() == 0; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(pinned.count()).isEqualTo(1);
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotReportVirtualThreadBlockedOutsideSynchronizedBlock() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 10);
+        try {
+            Thread.ofVirtual().start(() -> sleep(50)).join();
+            Thread.sleep(1500);
+
+            assertThat(meterRegistry.get("hmc.outbound.virtual.thread.pinned").timer().count()).isZero();
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
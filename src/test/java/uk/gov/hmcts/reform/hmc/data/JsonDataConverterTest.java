@@ -5,8 +5,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -21,13 +19,11 @@ class JsonDataConverterTest {
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
-    @InjectMocks
     private JsonDataConverter jsonbConverter;
 
     @BeforeEach
     public void setup() {
-        MockitoAnnotations.openMocks(this);
-        jsonbConverter = new JsonDataConverter();
+        jsonbConverter = new JsonDataConverter(mapper);
     }
 
     @Test
@@ -0,0 +1,276 @@
+package uk.gov.hmcts.reform.hmc.errorhandling;
+
+import com.azure.core.amqp.models.AmqpAnnotatedMessage;
+import com.azure.core.amqp.models.AmqpMessageBody;
+import com.azure.messaging.servicebus.ServiceBusMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusDestination;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusSenderRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageRedeliverySchedulerTest {
+
+    private static final String MESSAGE_ID = "1234567";
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private ServiceBusSenderRegistry senderRegistry;
+
+    @Mock
+    private ServiceBusReceivedMessage receivedMessage;
+
+    @Spy
+    private ApplicationParams applicationParams = applicationParams();
+
+    @Spy
+    private MutableClock clock = new MutableClock();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private MessageRedeliveryScheduler scheduler;
+
+    private final Map<String, Object> applicationProperties = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties.put("hearing_id", "2000000000");
+        AmqpAnnotatedMessage rawMessage =
+            new AmqpAnnotatedMessage(AmqpMessageBody.fromData("{}".getBytes(StandardCharsets.UTF_8)));
+        rawMessage.getApplicationProperties().putAll(applicationProperties);
+        lenient().when(receivedMessage.getRawAmqpMessage()).thenReturn(rawMessage);
+        lenient().when(receivedMessage.getApplicationProperties()).thenReturn(applicationProperties);
+        lenient().when(receivedMessage.getMessageId()).thenReturn(MESSAGE_ID);
+    }
+
+    @Test
+    void shouldScheduleDelayedCopyOnOutboundQueue() {
+        assertThat(scheduler.scheduleRedelivery(receivedMessage)).isTrue();
+
+        ArgumentCaptor<ServiceBusMessage> captor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(senderRegistry).send(eq(ServiceBusDestination.OUTBOUND_QUEUE), captor.capture());
+        ServiceBusMessage redelivery = captor.getValue();
+        assertThat(redelivery.getMessageId()).isEqualTo(MESSAGE_ID + "-1");
+        assertThat(redelivery.getApplicationProperties())
+            .containsEntry("hearing_id", "2000000000")
+            .containsEntry(MessageRedeliveryScheduler.REDELIVERY_COUNT, 1);
+        assertThat(redelivery.getScheduledEnqueueTime())
+            .isEqualTo(OffsetDateTime.ofInstant(NOW.plusSeconds(2), ZoneOffset.UTC));
+        assertThat(meterRegistry.get("hmc.outbound.message.redelivery").tag("outcome", "scheduled")
+                       .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIncreaseDelayWithEachRedelivery() {
+        applicationProperties.put(MessageRedeliveryScheduler.REDELIVERY_COUNT, 2);
+
+        scheduler.scheduleRedelivery(receivedMessage);
+
+        ArgumentCaptor<ServiceBusMessage> captor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(senderRegistry).send(eq(ServiceBusDestination.OUTBOUND_QUEUE), captor.capture());
+        assertThat(captor.getValue().getApplicationProperties())
+            .containsEntry(MessageRedeliveryScheduler.REDELIVERY_COUNT, 3);
+        assertThat(captor.getValue().getScheduledEnqueueTime())
+            .isEqualTo(OffsetDateTime.ofInstant(NOW.plusSeconds(8), ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldKeepRedeliveryCountWhenMessageWasRejected() {
+        applicationProperties.put(MessageRedeliveryScheduler.REDELIVERY_COUNT, 2);
+
+        assertThat(scheduler.scheduleRejectedRedelivery(receivedMessage)).isTrue();
+
+        ArgumentCaptor<ServiceBusMessage> captor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(senderRegistry).send(eq(ServiceBusDestination.OUTBOUND_QUEUE), captor.capture());
+        ServiceBusMessage redelivery = captor.getValue();
+        assertThat(redelivery.getMessageId()).isEqualTo(MESSAGE_ID + "-1");
+        assertThat(redelivery.getApplicationProperties())
+            .containsEntry(MessageRedeliveryScheduler.REDELIVERY_COUNT, 2)
+            .containsEntry(MessageRedeliveryScheduler.REJECTED_COUNT, 1);
+        assertThat(redelivery.getScheduledEnqueueTime())
+            .isEqualTo(OffsetDateTime.ofInstant(NOW.plusSeconds(8), ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldNotGrowMessageIdOfCopies() {
+        applicationProperties.put(MessageRedeliveryScheduler.ORIGINAL_MESSAGE_ID, MESSAGE_ID);
+        applicationProperties.put(MessageRedeliveryScheduler.COPY_COUNT, 4);
+        when(receivedMessage.getMessageId()).thenReturn(MESSAGE_ID + "-4");
+
+        scheduler.scheduleRedelivery(receivedMessage);
+
+        ArgumentCaptor<ServiceBusMessage> captor = ArgumentCaptor.forClass(ServiceBusMessage.class);
+        verify(senderRegistry).send(eq(ServiceBusDestination.OUTBOUND_QUEUE), captor.capture());
+        assertThat(captor.getValue().getMessageId()).isEqualTo(MESSAGE_ID + "-5");
+    }
+
+    @Test
+    void shouldKeepHearingMessagesInOrderBehindRedelivery() {
+        List<ServiceBusMessage> sent = new ArrayList<>();
+        doAnswer(invocation -> sent.add(invocation.getArgument(1))).when(senderRegistry).send(any(), any());
+
+        // A fails and is scheduled for 2 seconds time; B for the same hearing arrives before it
+        assertThat(scheduler.deferBehindRedelivery(message("A", "2000000000"))).isFalse();
+        scheduler.scheduleRedelivery(message("A", "2000000000"));
+        assertThat(scheduler.deferBehindRedelivery(message("B", "2000000000"))).isTrue();
+        assertThat(scheduler.deferBehindRedelivery(message("C", "2000000001"))).isFalse();
+        assertThat(sent).extracting(ServiceBusMessage::getMessageId).containsExactly("A-1", "B-1");
+        assertThat(sent.get(1).getScheduledEnqueueTime())
+            .isEqualTo(OffsetDateTime.ofInstant(NOW.plusSeconds(3), ZoneOffset.UTC));
+
+        // B's copy arriving first waits again; A's copy is processed, fails and goes back ahead of B
+        assertThat(scheduler.deferBehindRedelivery(received(sent.get(1)))).isTrue();
+        assertThat(scheduler.deferBehindRedelivery(received(sent.get(0)))).isFalse();
+        scheduler.scheduleRedelivery(received(sent.get(0)));
+        assertThat(scheduler.deferBehindRedelivery(received(sent.get(2)))).isTrue();
+        assertThat(sent).extracting(ServiceBusMessage::getMessageId).containsExactly("A-1", "B-1", "B-2", "A-2", "B-3");
+        assertThat(sent.get(4).getApplicationProperties())
+            .containsEntry(MessageRedeliveryScheduler.REDELIVERY_COUNT, 0);
+
+        // once A has been processed, B goes through and the hearing is no longer held back
+        assertThat(scheduler.deferBehindRedelivery(received(sent.get(3)))).isFalse();
+        assertThat(scheduler.deferBehindRedelivery(received(sent.get(4)))).isFalse();
+        assertThat(scheduler.deferBehindRedelivery(message("D", "2000000000"))).isFalse();
+        assertThat(meterRegistry.get("hmc.outbound.message.redelivery").tag("outcome", "deferred")
+                       .counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldStopHoldingBackHearingWhenRedeliveryDoesNotArrive() {
+        scheduler.scheduleRedelivery(message("A", "2000000000"));
+
+        clock.advance(HearingRedeliveryQueue.STALE_AFTER.plusSeconds(3));
+
+        assertThat(scheduler.deferBehindRedelivery(message("B", "2000000000"))).isFalse();
+    }
+
+    @Test
+    void shouldNotScheduleWhenDisabled() {
+        doReturn(false).when(applicationParams).isRedeliveryEnabled();
+        MessageRedeliveryScheduler disabledScheduler =
+            new MessageRedeliveryScheduler(senderRegistry, applicationParams, clock, meterRegistry);
+
+        assertThat(disabledScheduler.scheduleRedelivery(receivedMessage)).isFalse();
+
+        verify(senderRegistry, never()).send(any(), any());
+    }
+
+    @Test
+    void shouldCapAndSpreadDelay() {
+        doReturn(0.2).when(applicationParams).getRedeliveryJitter();
+        MessageRedeliveryScheduler jitteredScheduler =
+            new MessageRedeliveryScheduler(senderRegistry, applicationParams, clock, meterRegistry);
+
+        assertThat(jitteredScheduler.getDelay(3, 0.5)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(jitteredScheduler.getDelay(3, 0.0)).isEqualTo(Duration.ofMillis(6400));
+        assertThat(jitteredScheduler.getDelay(3, 1.0)).isEqualTo(Duration.ofMillis(9600));
+        assertThat(jitteredScheduler.getDelay(20, 0.5)).isEqualTo(Duration.ofSeconds(300));
+    }
+
+    @Test
+    void shouldReturnFalseWhenSendFails() {
+        doThrow(new IllegalStateException("unauthorised")).when(senderRegistry).send(any(), any());
+
+        assertThat(scheduler.scheduleRedelivery(receivedMessage)).isFalse();
+        assertThat(meterRegistry.get("hmc.outbound.message.redelivery").tag("outcome", "failed")
+                       .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReadRedeliveryCount() {
+        assertThat(MessageRedeliveryScheduler.getRedeliveryCount(receivedMessage)).isZero();
+        applicationProperties.put(MessageRedeliveryScheduler.REDELIVERY_COUNT, "4");
+        assertThat(MessageRedeliveryScheduler.getRedeliveryCount(receivedMessage)).isEqualTo(4);
+        applicationProperties.put(MessageRedeliveryScheduler.REDELIVERY_COUNT, "not a number");
+        assertThat(MessageRedeliveryScheduler.getRedeliveryCount(receivedMessage)).isZero();
+    }
+
+    private static ApplicationParams applicationParams() {
+        ApplicationParams applicationParams = new ApplicationParams();
+        ReflectionTestUtils.setField(applicationParams, "exponentialMultiplier", "2");
+        ReflectionTestUtils.setField(applicationParams, "redeliveryEnabled", true);
+        ReflectionTestUtils.setField(applicationParams, "redeliveryMaxDelayInSeconds", 300L);
+        ReflectionTestUtils.setField(applicationParams, "redeliveryJitter", 0.0);
+        return applicationParams;
+    }
+
+    private static ServiceBusReceivedMessage received(ServiceBusMessage copy) {
+        return message(copy.getMessageId(), new HashMap<>(copy.getApplicationProperties()));
+    }
+
+    private static ServiceBusReceivedMessage message(String messageId, String hearingId) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hearing_id", hearingId);
+        return message(messageId, properties);
+    }
+
+    private static ServiceBusReceivedMessage message(String messageId, Map<String, Object> properties) {
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        AmqpAnnotatedMessage rawMessage =
+            new AmqpAnnotatedMessage(AmqpMessageBody.fromData("{}".getBytes(StandardCharsets.UTF_8)));
+        rawMessage.getApplicationProperties().putAll(properties);
+        lenient().when(message.getRawAmqpMessage()).thenReturn(rawMessage);
+        lenient().when(message.getApplicationProperties()).thenReturn(properties);
+        lenient().when(message.getMessageId()).thenReturn(messageId);
+        return message;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = NOW;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
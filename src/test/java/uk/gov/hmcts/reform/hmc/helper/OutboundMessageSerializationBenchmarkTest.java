@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.hmc.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.hmc.config.SyncMessage;
+import uk.gov.hmcts.reform.hmc.model.HmcHearingResponse;
+import uk.gov.hmcts.reform.hmc.model.HmcHearingUpdate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the time and bytes allocated per message of the previous serialisation of the messages the adapter sends,
+ * through a JSON tree and a {@code String}, with {@link OutboundMessageSerializer}. Run with
+ * {@code BENCHMARK=true ./gradlew test --tests '*OutboundMessageSerializationBenchmarkTest'}; the results are logged
+ * rather than asserted, as they depend on the machine.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OutboundMessageSerializationBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboundMessageSerializationBenchmarkTest.class);
+    private static final int WARM_UP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final OutboundMessageSerializer serializer = new OutboundMessageSerializer(objectMapper);
+    private final com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void shouldCompareHearingResponseSerialization() {
+        HmcHearingResponse hearingResponse = hearingResponse();
+
+        compare("HmcHearingResponse",
+            () -> objectMapper.convertValue(hearingResponse, JsonNode.class).toString()
+                .getBytes(StandardCharsets.UTF_8),
+            () -> serializer.serialize(hearingResponse));
+    }
+
+    @Test
+    void shouldCompareSyncMessageSerialization() {
+        SyncMessage syncMessage = SyncMessage.builder().listAssistHttpStatus(202).build();
+
+        compare("SyncMessage",
+            () -> {
+                try {
+                    return objectMapper.writeValueAsString(syncMessage).getBytes(StandardCharsets.UTF_8);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            },
+            () -> {
+                try {
+                    return serializer.serialize(syncMessage);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+    }
+
+    private void compare(String messageType, Supplier<byte[]> before, Supplier<byte[]> after) {
+        assertThat(after.get()).isEqualTo(before.get());
+        Result previous = measure(before);
+        Result current = measure(after);
+
+        LOG.info("{}: previous {} ns/op {} B/op, OutboundMessageSerializer {} ns/op {} B/op", messageType,
+                 previous.nanosPerOp, previous.bytesPerOp, current.nanosPerOp, current.bytesPerOp);
+    }
+
+    private Result measure(Supplier<byte[]> operation) {
+        run(operation, WARM_UP_ITERATIONS);
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        run(operation, ITERATIONS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static void run(Supplier<byte[]> operation, int iterations) {
+        long length = 0;
+        for (int i = 0; i < iterations; i++) {
+            length += operation.get().length;
+        }
+        assertThat(length).isPositive();
+    }
+
+    private static HmcHearingResponse hearingResponse() {
+        HmcHearingUpdate hearingUpdate = new HmcHearingUpdate();
+        hearingUpdate.setHmcStatus("EXCEPTION");
+        hearingUpdate.setHearingResponseReceivedDateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        hearingUpdate.setHearingEventBroadcastDateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 6));
+        hearingUpdate.setListAssistCaseStatus("CASE_CLOSED");
+        HmcHearingResponse hearingResponse = new HmcHearingResponse();
+        hearingResponse.setHmctsServiceCode("ABA1");
+        hearingResponse.setCaseRef("1111222233334444");
+        hearingResponse.setHearingID("2000000000");
+        hearingResponse.setHearingUpdate(hearingUpdate);
+        return hearingResponse;
+    }
+
+    private record Result(long nanosPerOp, long bytesPerOp) {
+    }
+}
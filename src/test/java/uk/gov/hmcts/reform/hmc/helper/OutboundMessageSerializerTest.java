@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.hmc.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.hmc.config.SyncMessage;
+import uk.gov.hmcts.reform.hmc.model.HmcHearingResponse;
+import uk.gov.hmcts.reform.hmc.model.HmcHearingUpdate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundMessageSerializerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final OutboundMessageSerializer serializer = new OutboundMessageSerializer(OBJECT_MAPPER);
+
+    @Test
+    void shouldSerializeHearingResponseAsConvertedTreeWas() {
+        HmcHearingResponse hearingResponse = hearingResponse();
+
+        String expected = OBJECT_MAPPER.convertValue(hearingResponse, JsonNode.class).toString();
+
+        assertThat(new String(serializer.serialize(hearingResponse), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldSerializeSyncMessage() throws JsonProcessingException {
+        SyncMessage syncMessage = SyncMessage.builder().listAssistHttpStatus(202).build();
+
+        assertThat(serializer.serialize(syncMessage)).isEqualTo(OBJECT_MAPPER.writeValueAsBytes(syncMessage));
+    }
+
+    private static HmcHearingResponse hearingResponse() {
+        HmcHearingUpdate hearingUpdate = new HmcHearingUpdate();
+        hearingUpdate.setHmcStatus("EXCEPTION");
+        hearingUpdate.setHearingResponseReceivedDateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        hearingUpdate.setHearingEventBroadcastDateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 6));
+        HmcHearingResponse hearingResponse = new HmcHearingResponse();
+        hearingResponse.setHmctsServiceCode("ABA1");
+        hearingResponse.setCaseRef("1111222233334444");
+        hearingResponse.setHearingID("2000000000");
+        hearingResponse.setHearingUpdate(hearingUpdate);
+        return hearingResponse;
+    }
+}
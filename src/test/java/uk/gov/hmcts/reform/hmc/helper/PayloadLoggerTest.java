@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.hmc.helper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PayloadLoggerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldNotWritePayloadUntilLogged() throws IOException {
+        ObjectMapper mapper = mock(ObjectMapper.class);
+        ObjectWriter writer = mock(ObjectWriter.class);
+        when(mapper.writer()).thenReturn(writer);
+        PayloadLogger payloadLogger = new PayloadLogger(mapper, 2000, 1);
+
+        Object payload = payloadLogger.payload(hearingPayload("1"));
+
+        verifyNoInteractions(writer);
+        payload.toString();
+        payload.toString();
+        verify(writer, times(1)).writeValue(any(Writer.class), any(JsonNode.class));
+    }
+
+    @Test
+    void shouldWriteWholePayloadWithinMaxLength() {
+        PayloadLogger payloadLogger = new PayloadLogger(objectMapper, 2000, 1);
+
+        assertThat(payloadLogger.payload(hearingPayload("1"))).hasToString("{\"hearingId\":\"1\"}");
+    }
+
+    @Test
+    void shouldTruncatePayloadLongerThanMaxLength() {
+        PayloadLogger payloadLogger = new PayloadLogger(objectMapper, 10, 1);
+
+        assertThat(payloadLogger.payload(hearingPayload("2000000000")))
+            .hasToString("{\"hearingI" + PayloadLogger.TRUNCATED);
+    }
+
+    @Test
+    void shouldOnlyWriteSampledPayloads() {
+        PayloadLogger payloadLogger = new PayloadLogger(objectMapper, 2000, 3);
+
+        assertThat(payloadLogger.payload(hearingPayload("1"))).hasToString("{\"hearingId\":\"1\"}");
+        assertThat(payloadLogger.payload(hearingPayload("2"))).hasToString(PayloadLogger.NOT_SAMPLED);
+        assertThat(payloadLogger.payload(hearingPayload("3"))).hasToString(PayloadLogger.NOT_SAMPLED);
+        assertThat(payloadLogger.payload(hearingPayload("4"))).hasToString("{\"hearingId\":\"4\"}");
+    }
+
+    @Test
+    void shouldWriteNullPayload() {
+        PayloadLogger payloadLogger = new PayloadLogger(objectMapper, 2000, 1);
+
+        assertThat(payloadLogger.payload(null)).hasToString("null");
+    }
+
+    private JsonNode hearingPayload(String hearingId) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("hearingId", hearingId);
+        return payload;
+    }
+}
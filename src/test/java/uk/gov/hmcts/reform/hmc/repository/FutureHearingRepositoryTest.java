@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import feign.Request;
 import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -22,8 +23,10 @@ import org.springframework.boot.actuate.health.Status;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import uk.gov.hmcts.reform.hmc.ApplicationParams;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryApiClient;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.ActiveDirectoryTokenCache;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.AuthenticationResponse;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.ErrorDetails;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingErrorDecoder;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HealthCheckResponse;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceApiClient;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.HearingManagementInterfaceResponse;
@@ -32,12 +35,16 @@ import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckActiveDirectoryException;
 import uk.gov.hmcts.reform.hmc.errorhandling.HealthCheckHmiException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
+import uk.gov.hmcts.reform.hmc.helper.PayloadLogger;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
 import uk.gov.hmcts.reform.hmc.service.HearingStatusAuditServiceImpl;
 import uk.gov.hmcts.reform.hmc.utils.TestingUtil;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static feign.Request.HttpMethod.POST;
@@ -48,8 +55,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HMC_TO_HMI_AUTH_REQUEST;
+import static uk.gov.hmcts.reform.hmc.constants.Constants.HMI_TO_HMC_AUTH_SUCCESS;
 
 class FutureHearingRepositoryTest {
 
@@ -89,20 +100,31 @@ class FutureHearingRepositoryTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    private ActiveDirectoryTokenCache activeDirectoryTokenCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
         response = new AuthenticationResponse();
+        given(applicationParams.isTokenCacheEnabled()).willReturn(true);
+        given(applicationParams.getTokenCacheRefreshAheadInSeconds()).willReturn(300L);
+        given(applicationParams.getTokenCacheExpiryMarginInSeconds()).willReturn(30L);
+        activeDirectoryTokenCache = new ActiveDirectoryTokenCache(activeDirectoryApiClient, applicationParams,
+                                                                  Clock.systemUTC(), new SimpleMeterRegistry());
         repository = new DefaultFutureHearingRepository(activeDirectoryApiClient, applicationParams, hmiClient,
-                                                        hearingRepository,hearingStatusAuditService, objectMapper);
+                                                        new HearingLookupCache(hearingRepository,
+                                                                               new SimpleMeterRegistry()),
+                                                        hearingStatusAuditService, objectMapper,
+                                                        activeDirectoryTokenCache, Optional.empty(),
+                                                        new PayloadLogger(new ObjectMapper(), 2000, 1));
         requestString = "grant_type=GRANT_TYPE&client_id=CLIENT_ID&scope=SCOPE&client_secret=CLIENT_SECRET";
         given(applicationParams.getGrantType()).willReturn("GRANT_TYPE");
         given(applicationParams.getClientId()).willReturn("CLIENT_ID");
         given(applicationParams.getScope()).willReturn("SCOPE");
         given(applicationParams.getClientSecret()).willReturn("CLIENT_SECRET");
-        given(hearingRepository.findById(Long.valueOf(CASE_LISTING_REQUEST_ID)))
-            .willReturn(TestingUtil.hearingEntity());
+        given(hearingRepository.findHearingAuditDetails(Long.valueOf(CASE_LISTING_REQUEST_ID)))
+            .willReturn(TestingUtil.hearingEntity().map(HearingAuditDetails::from));
 
         logger.setLevel(Level.INFO);
     }
@@ -133,6 +155,23 @@ class FutureHearingRepositoryTest {
         assertEquals(Status.UP, actualResponse.getStatus(), "HealthCheckResponse has unexpected status");
     }
 
+    @Test
+    void shouldReuseCachedTokenForPrivateHealthCheck() {
+        HealthCheckResponse expectedResponse = new HealthCheckResponse();
+        expectedResponse.setStatus(Status.UP);
+        response.setAccessToken("test-token");
+        response.setExpiresIn(3600L);
+        given(activeDirectoryApiClient.authenticate(requestString)).willReturn(response);
+        given(hmiClient.privateHealthCheck("Bearer test-token")).willReturn(expectedResponse);
+
+        repository.privateHealthCheck();
+        repository.privateHealthCheck();
+
+        then(activeDirectoryApiClient).should(times(1)).authenticate(requestString);
+        then(hmiClient).should(times(2)).privateHealthCheck("Bearer test-token");
+        activeDirectoryTokenCache.shutdown();
+    }
+
     @ParameterizedTest(name = "{index}: {0}")
     @MethodSource("activeDirectoryExceptions")
     void shouldFailPrivateHealthCheckActiveDirectory(Exception activeDirectoryException,
@@ -287,6 +326,49 @@ class FutureHearingRepositoryTest {
         assertEquals(expectedResponse, actualResponse);
     }
 
+    @Test
+    void shouldReuseCachedTokenUntilHmiRejectsIt() {
+        HearingManagementInterfaceResponse expectedResponse = new HearingManagementInterfaceResponse();
+        expectedResponse.setResponseCode(202);
+        response.setAccessToken("test-token");
+        response.setExpiresIn(3600L);
+        given(activeDirectoryApiClient.authenticate(requestString)).willReturn(response);
+        JsonNode anyData = OBJECT_MAPPER.convertValue("test data", JsonNode.class);
+        given(hmiClient.requestHearing("Bearer test-token", anyData))
+            .willReturn(expectedResponse)
+            .willThrow(new AuthenticationException(FutureHearingErrorDecoder.INVALID_SECRET))
+            .willReturn(expectedResponse);
+
+        repository.createHearingRequest(anyData, CASE_LISTING_REQUEST_ID);
+        assertThrows(AuthenticationException.class,
+                     () -> repository.createHearingRequest(anyData, CASE_LISTING_REQUEST_ID));
+        then(activeDirectoryApiClient).should(times(1)).authenticate(requestString);
+
+        repository.createHearingRequest(anyData, CASE_LISTING_REQUEST_ID);
+        then(activeDirectoryApiClient).should(times(2)).authenticate(requestString);
+        activeDirectoryTokenCache.shutdown();
+    }
+
+    @Test
+    void shouldOnlyAuditTokenRequestsMadeToActiveDirectory() {
+        HearingManagementInterfaceResponse expectedResponse = new HearingManagementInterfaceResponse();
+        expectedResponse.setResponseCode(202);
+        response.setAccessToken("test-token");
+        response.setExpiresIn(3600L);
+        given(activeDirectoryApiClient.authenticate(requestString)).willReturn(response);
+        JsonNode anyData = OBJECT_MAPPER.convertValue("test data", JsonNode.class);
+        given(hmiClient.requestHearing("Bearer test-token", anyData)).willReturn(expectedResponse);
+
+        repository.createHearingRequest(anyData, CASE_LISTING_REQUEST_ID);
+        repository.createHearingRequest(anyData, CASE_LISTING_REQUEST_ID);
+
+        then(hearingStatusAuditService).should(times(1)).saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(
+            argThat(context -> HMC_TO_HMI_AUTH_REQUEST.equals(context.getHearingEvent())));
+        then(hearingStatusAuditService).should(times(1)).saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(
+            argThat(context -> HMI_TO_HMC_AUTH_SUCCESS.equals(context.getHearingEvent())));
+        activeDirectoryTokenCache.shutdown();
+    }
+
     private static Stream<Arguments> activeDirectoryExceptions() {
         byte[] requestBody = "DummyGetTokenRequestBody".getBytes(StandardCharsets.UTF_8);
         final Request getTokenRequest =
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.hmc.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.data.HearingEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
+import uk.gov.hmcts.reform.hmc.utils.TestingUtil;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HearingLookupCacheTest {
+
+    private static final Long HEARING_ID = 2000000000L;
+    private static final HearingAuditDetails AUDIT_DETAILS =
+        new HearingAuditDetails(HEARING_ID, "HEARING_REQUESTED", null, null, "ABA1", 1);
+
+    @Mock
+    private HearingRepository hearingRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HearingLookupCache hearingLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hearingLookupCache = new HearingLookupCache(hearingRepository, meterRegistry);
+    }
+
+    @Test
+    void shouldLookUpOnceWithinScope() {
+        when(hearingRepository.findHearingAuditDetails(HEARING_ID)).thenReturn(Optional.of(AUDIT_DETAILS));
+
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            assertThat(hearingLookupCache.findHearingAuditDetails(HEARING_ID)).contains(AUDIT_DETAILS);
+            assertThat(hearingLookupCache.findHearingAuditDetails(HEARING_ID)).contains(AUDIT_DETAILS);
+            assertThat(hearingLookupCache.findHearingAuditDetails(HEARING_ID)).contains(AUDIT_DETAILS);
+        }
+
+        verify(hearingRepository).findHearingAuditDetails(HEARING_ID);
+        assertThat(savedLookups()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRememberMissingHearingWithinScope() {
+        when(hearingRepository.findById(HEARING_ID)).thenReturn(Optional.empty());
+
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            assertThat(hearingLookupCache.findHearing(HEARING_ID)).isEmpty();
+            assertThat(hearingLookupCache.findHearingAuditDetails(HEARING_ID)).isEmpty();
+        }
+
+        verify(hearingRepository).findById(HEARING_ID);
+        verify(hearingRepository, never()).findHearingAuditDetails(HEARING_ID);
+        assertThat(savedLookups()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldServeAuditDetailsFromLoadedHearing() {
+        HearingEntity hearing = TestingUtil.hearingEntity().orElseThrow();
+        when(hearingRepository.findById(HEARING_ID)).thenReturn(Optional.of(hearing));
+
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            assertThat(hearingLookupCache.findHearing(HEARING_ID)).contains(hearing);
+            assertThat(hearingLookupCache.findHearingAuditDetails(HEARING_ID))
+                .contains(HearingAuditDetails.from(hearing));
+        }
+
+        verify(hearingRepository, never()).findHearingAuditDetails(HEARING_ID);
+        assertThat(savedLookups()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldLoadFullHearingAfterAuditDetails() {
+        HearingEntity hearing = TestingUtil.hearingEntity().orElseThrow();
+        when(hearingRepository.findHearingAuditDetails(HEARING_ID)).thenReturn(Optional.of(AUDIT_DETAILS));
+        when(hearingRepository.findById(HEARING_ID)).thenReturn(Optional.of(hearing));
+
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+            assertThat(hearingLookupCache.findHearing(HEARING_ID)).contains(hearing);
+            assertThat(hearingLookupCache.findHearing(HEARING_ID)).contains(hearing);
+        }
+
+        verify(hearingRepository).findById(HEARING_ID);
+        assertThat(savedLookups()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldJoinOuterScopeWhenNested() {
+        when(hearingRepository.findHearingAuditDetails(HEARING_ID)).thenReturn(Optional.of(AUDIT_DETAILS));
+
+        try (HearingLookupCache.Scope outer = hearingLookupCache.openScope()) {
+            try (HearingLookupCache.Scope inner = hearingLookupCache.openScope()) {
+                hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+            }
+            hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+        }
+
+        verify(hearingRepository).findHearingAuditDetails(HEARING_ID);
+    }
+
+    @Test
+    void shouldNotCacheOutsideScope() {
+        when(hearingRepository.findHearingAuditDetails(HEARING_ID)).thenReturn(Optional.of(AUDIT_DETAILS));
+
+        try (HearingLookupCache.Scope scope = hearingLookupCache.openScope()) {
+            hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+        }
+        hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+        hearingLookupCache.findHearingAuditDetails(HEARING_ID);
+
+        verify(hearingRepository, times(3)).findHearingAuditDetails(HEARING_ID);
+        assertThat(savedLookups()).isZero();
+    }
+
+    private double savedLookups() {
+        return meterRegistry.get("hmc.outbound.hearing.lookup.saved").counter().count();
+    }
+}
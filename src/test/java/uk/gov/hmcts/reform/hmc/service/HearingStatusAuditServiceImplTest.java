@@ -14,8 +14,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.model.HearingAuditDetails;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
-import uk.gov.hmcts.reform.hmc.repository.HearingStatusAuditRepository;
 import uk.gov.hmcts.reform.hmc.utils.TestingUtil;
 
 import java.time.LocalDateTime;
@@ -38,7 +38,7 @@ class HearingStatusAuditServiceImplTest {
     private HearingStatusAuditServiceImpl hearingStatusAuditService;
 
     @Mock
-    HearingStatusAuditRepository hearingStatusAuditRepository;
+    HearingStatusAuditWriter hearingStatusAuditWriter;
 
     @Captor
     private ArgumentCaptor<HearingStatusAuditEntity> hearingStatusAuditEntityCaptor;
@@ -47,7 +47,7 @@ class HearingStatusAuditServiceImplTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         hearingStatusAuditService =
-            new HearingStatusAuditServiceImpl(hearingStatusAuditRepository);
+            new HearingStatusAuditServiceImpl(hearingStatusAuditWriter);
     }
 
     @Nested
@@ -147,8 +147,31 @@ class HearingStatusAuditServiceImplTest {
         }
     }
 
+    @Test
+    void shouldSaveAuditTriageDetailsFromHearingAuditDetails() {
+        LocalDateTime updatedDateTime = LocalDateTime.now().minusMinutes(1);
+        HearingAuditDetails hearingAuditDetails = new HearingAuditDetails(2000000001L, "UPDATE_REQUESTED",
+                                                                          LocalDateTime.now().minusDays(1),
+                                                                          updatedDateTime, "ABA1", 3);
+        HearingStatusAuditContext context =
+            HearingStatusAuditContext.builder()
+                .hearingAuditDetails(hearingAuditDetails)
+                .hearingEvent(CREATE_HEARING_REQUEST)
+                .httpStatus(SUCCESS_STATUS)
+                .source(HMC)
+                .target(HMI)
+                .build();
+        hearingStatusAuditService.saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(context);
+        HearingStatusAuditEntity auditEntity = getHearingStatusAuditEntity();
+        assertEquals("2000000001", auditEntity.getHearingId());
+        assertEquals("UPDATE_REQUESTED", auditEntity.getStatus());
+        assertEquals("ABA1", auditEntity.getHmctsServiceId());
+        assertEquals("3", auditEntity.getRequestVersion());
+        assertEquals(updatedDateTime, auditEntity.getStatusUpdateDateTime());
+    }
+
     private HearingStatusAuditEntity getHearingStatusAuditEntity() {
-        verify(hearingStatusAuditRepository).save(hearingStatusAuditEntityCaptor.capture());
+        verify(hearingStatusAuditWriter).write(hearingStatusAuditEntityCaptor.capture());
         HearingStatusAuditEntity savedEntity = hearingStatusAuditEntityCaptor.getValue();
         return savedEntity;
 
@@ -0,0 +1,192 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.repository.HearingStatusAuditRepository;
+
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.hmc.service.HearingStatusAuditWriter.INSERT_SQL;
+import static uk.gov.hmcts.reform.hmc.service.HearingStatusAuditWriter.NEXT_IDS_SQL;
+
+@ExtendWith(MockitoExtension.class)
+class HearingStatusAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private HearingStatusAuditRepository hearingStatusAuditRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private ApplicationParams applicationParams = applicationParams();
+
+    @InjectMocks
+    private HearingStatusAuditWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    void shouldWriteBatchWithPooledIds() {
+        stubNextIds();
+        HearingStatusAuditEntity first = audit("2000000001");
+        HearingStatusAuditEntity second = audit("2000000002");
+
+        writer.write(first);
+        writer.write(second);
+
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(eq(INSERT_SQL), anyCollection(), eq(2), any());
+        writer.shutdown();
+        verify(jdbcTemplate).queryForList(NEXT_IDS_SQL, Long.class, 2);
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(second.getId()).isEqualTo(2L);
+        verify(hearingStatusAuditRepository, never()).save(any());
+        assertThat(meterRegistry.get("hmc.outbound.audit.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteIndividuallyWhenBatchFails() {
+        when(jdbcTemplate.queryForList(eq(NEXT_IDS_SQL), eq(Long.class), any()))
+            .thenThrow(new DataAccessResourceFailureException("connection reset"));
+        HearingStatusAuditEntity first = audit("2000000001");
+        HearingStatusAuditEntity second = audit("2000000002");
+
+        writer.write(first);
+        writer.write(second);
+
+        verify(hearingStatusAuditRepository, timeout(2000)).save(first);
+        verify(hearingStatusAuditRepository, timeout(2000)).save(second);
+    }
+
+    @Test
+    void shouldFlushBufferedAuditOnShutdown() {
+        stubNextIds();
+        HearingStatusAuditEntity audit = audit("2000000001");
+
+        writer.write(audit);
+        writer.shutdown();
+
+        verify(jdbcTemplate).batchUpdate(eq(INSERT_SQL), anyCollection(), eq(1), any());
+        assertThat(meterRegistry.get("hmc.outbound.audit.buffered").gauge().value()).isZero();
+        assertThat(meterRegistry.get("hmc.outbound.audit.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSaveDirectlyWhenDisabled() {
+        ApplicationParams disabledParams = applicationParams();
+        ReflectionTestUtils.setField(disabledParams, "auditWriteBehindEnabled", false);
+        HearingStatusAuditWriter disabledWriter = new HearingStatusAuditWriter(
+            jdbcTemplate, hearingStatusAuditRepository, transactionManager, new SimpleMeterRegistry(), disabledParams);
+        HearingStatusAuditEntity audit = audit("2000000001");
+
+        disabledWriter.write(audit);
+
+        verify(hearingStatusAuditRepository).save(audit);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldQueueAuditWrittenInTransactionOnlyOnceItCommits() {
+        stubNextIds();
+        HearingStatusAuditEntity audit = audit("2000000001");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.write(audit);
+            assertThat(meterRegistry.get("hmc.outbound.audit.buffered").gauge().value()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writer.shutdown();
+
+        verify(jdbcTemplate).batchUpdate(eq(INSERT_SQL), anyCollection(), eq(1), any());
+    }
+
+    @Test
+    void shouldDropAuditWrittenInTransactionThatRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.write(audit("2000000001"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writer.shutdown();
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(hearingStatusAuditRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldSaveDirectlyAfterShutdown() {
+        writer.shutdown();
+        HearingStatusAuditEntity audit = audit("2000000001");
+
+        writer.write(audit);
+
+        verify(hearingStatusAuditRepository).save(audit);
+    }
+
+    private void stubNextIds() {
+        when(jdbcTemplate.queryForList(eq(NEXT_IDS_SQL), eq(Long.class), any())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(2);
+            return LongStream.rangeClosed(1, count).boxed().toList();
+        });
+    }
+
+    private static ApplicationParams applicationParams() {
+        ApplicationParams applicationParams = new ApplicationParams();
+        ReflectionTestUtils.setField(applicationParams, "auditWriteBehindEnabled", true);
+        ReflectionTestUtils.setField(applicationParams, "auditWriteBehindBufferCapacity", 100);
+        ReflectionTestUtils.setField(applicationParams, "auditWriteBehindMaxBatchSize", 2);
+        ReflectionTestUtils.setField(applicationParams, "auditWriteBehindMaxWaitInMilliseconds", 5000L);
+        ReflectionTestUtils.setField(applicationParams, "auditWriteBehindShutdownTimeoutInSeconds", 5L);
+        return applicationParams;
+    }
+
+    private static HearingStatusAuditEntity audit(String hearingId) {
+        HearingStatusAuditEntity audit = new HearingStatusAuditEntity();
+        audit.setHearingId(hearingId);
+        audit.setHmctsServiceId("ABA1");
+        audit.setStatus("HEARING_REQUESTED");
+        audit.setHearingEvent("create-hearing-request");
+        audit.setRequestVersion("1");
+        audit.setStatusUpdateDateTime(LocalDateTime.now());
+        return audit;
+    }
+}
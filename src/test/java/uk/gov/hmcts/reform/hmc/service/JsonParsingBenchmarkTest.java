@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.azure.core.util.BinaryData;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the ways a message body can be read, for a small and a large hearing request: decoding to a String and
+ * parsing it, parsing the bytes with a shared reader, and only streaming through the bytes to check them. Run with
+ * {@code BENCHMARK=true ./gradlew test --tests '*JsonParsingBenchmarkTest'}; the results are logged rather than
+ * asserted, as they depend on the machine.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class JsonParsingBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonParsingBenchmarkTest.class);
+    private static final long WARM_UP_NANOS = 2_000_000_000L;
+    private static final long MEASURE_NANOS = 5_000_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader jsonReader = objectMapper.readerFor(JsonNode.class);
+
+    @Test
+    void shouldCompareParsingOfSmallAndLargePayloads() throws IOException {
+        compare("small", hearingRequest(1));
+        compare("large", hearingRequest(500));
+    }
+
+    private void compare(String size, String payload) throws IOException {
+        BinaryData body = BinaryData.fromString(payload);
+        assertThat(jsonReader.readTree(body.toBytes())).isEqualTo(objectMapper.readTree(body.toString()));
+
+        double fromString = opsPerSecond(() -> objectMapper.readTree(body.toString()));
+        double fromBytes = opsPerSecond(() -> jsonReader.readTree(body.toBytes()));
+        double streamed = opsPerSecond(() -> {
+            try (JsonParser parser = jsonReader.createParser(body.toBytes())) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        });
+
+        LOG.info("{} payload ({} bytes): String + readTree {} ops/s, bytes + ObjectReader {} ops/s, streaming check "
+                     + "{} ops/s", size, body.toBytes().length, Math.round(fromString), Math.round(fromBytes),
+                 Math.round(streamed));
+    }
+
+    private static double opsPerSecond(Operation operation) throws IOException {
+        run(operation, WARM_UP_NANOS);
+        long start = System.nanoTime();
+        long count = run(operation, MEASURE_NANOS);
+        return count / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static long run(Operation operation, long nanos) throws IOException {
+        long end = System.nanoTime() + nanos;
+        long count = 0;
+        while (System.nanoTime() < end) {
+            operation.run();
+            count++;
+        }
+        return count;
+    }
+
+    private static String hearingRequest(int attendees) {
+        StringJoiner entities = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < attendees; i++) {
+            entities.add("{\"entityId\":\"" + i + "\",\"entityTypeCode\":\"IND\",\"entityRoleCode\":\"APPL\","
+                             + "\"entityDetail\":{\"ind\":{\"title\":\"Mr\",\"firstName\":\"First" + i
+                             + "\",\"lastName\":\"Last" + i + "\",\"email\":\"person" + i + "@example.com\"}}}");
+        }
+        return "{\"hearingRequest\":{\"_case\":{\"caseIdHMCTS\":\"1111222233334444\",\"caseListingRequestId\":"
+            + "\"2000000000\",\"caseTitle\":\"Benchmark\",\"caseCourt\":{\"locationId\":\"1\"}},"
+            + "\"listing\":{\"listingDuration\":60,\"listingWelshHearingFlag\":false},\"entities\":" + entities
+            + "}}";
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusMessageLockRenewer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedMessageDispatcherTest {
+
+    private static final String HEARING_ID = "hearing_id";
+
+    @Mock
+    private MessageProcessor messageProcessor;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Mock
+    private ServiceBusMessageLockRenewer lockRenewer;
+
+    @Mock
+    private ServiceBusMessageLockRenewer.Renewal renewal;
+
+    private PartitionedMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(applicationParams.getConsumerPartitions()).thenReturn(4);
+        lenient().when(applicationParams.getConsumerMaxInFlight()).thenReturn(16);
+        lenient().when(applicationParams.getConsumerShutdownTimeoutInSeconds()).thenReturn(5L);
+        lenient().when(lockRenewer.renew(any())).thenReturn(renewal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldProcessOnCallingThreadWhenPartitioningDisabled() {
+        when(applicationParams.getConsumerPartitions()).thenReturn(1);
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        ServiceBusReceivedMessageContext messageContext = mock(ServiceBusReceivedMessageContext.class);
+
+        dispatcher.dispatch(messageContext);
+
+        assertThat(dispatcher.getPartitionCount()).isZero();
+        verify(messageProcessor).processMessage(messageContext);
+    }
+
+    @Test
+    void shouldTimeOnlyFirstMessage() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        when(applicationParams.getConsumerPartitions()).thenReturn(1);
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, meterRegistry, applicationParams);
+
+        dispatcher.dispatch(mock(ServiceBusReceivedMessageContext.class));
+        dispatcher.dispatch(mock(ServiceBusReceivedMessageContext.class));
+
+        assertThat(meterRegistry.get("hmc.outbound.consumer.first.message").timer().count()).isEqualTo(1);
+        verify(messageProcessor, times(2)).processMessage(any(ServiceBusReceivedMessageContext.class));
+    }
+
+    @Test
+    void shouldAssignSameHearingToSamePartition() {
+        int partition = PartitionedMessageDispatcher.partitionFor("2000000001", 8);
+
+        assertThat(PartitionedMessageDispatcher.partitionFor("2000000001", 8)).isEqualTo(partition);
+        assertThat(partition).isBetween(0, 7);
+        assertThat(PartitionedMessageDispatcher.partitionFor(null, 8)).isZero();
+    }
+
+    @Test
+    void shouldProcessMessagesForSameHearingInOrder() throws InterruptedException {
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        int messageCount = 20;
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(messageCount);
+        doAnswer(invocation -> {
+            ServiceBusReceivedMessageContext context = invocation.getArgument(0);
+            processed.add(context.getMessage().getMessageId());
+            latch.countDown();
+            return null;
+        }).when(messageProcessor).processMessage(any(ServiceBusReceivedMessageContext.class));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < messageCount; i++) {
+            String messageId = "message-" + i;
+            expected.add(messageId);
+            dispatcher.dispatch(messageContext(messageId, "2000000001"));
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldProcessOnVirtualThreadsWhenEnabled() throws InterruptedException {
+        when(applicationParams.isVirtualThreadsEnabled()).thenReturn(true);
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        List<Boolean> virtual = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            latch.countDown();
+            return null;
+        }).when(messageProcessor).processMessage(any(ServiceBusReceivedMessageContext.class));
+
+        dispatcher.dispatch(messageContext("message-1", "2000000001"));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).containsExactly(true);
+    }
+
+    @Test
+    void shouldStartAsyncMessageOnlyOnceTheLastForSameHearingIsSettled() throws InterruptedException {
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        List<String> started = Collections.synchronizedList(new ArrayList<>());
+        Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        when(messageProcessor.isAsync()).thenReturn(true);
+        when(messageProcessor.processMessageAsync(any(ServiceBusReceivedMessageContext.class), any()))
+            .thenAnswer(invocation -> {
+            ServiceBusReceivedMessageContext context = invocation.getArgument(0);
+            String messageId = context.getMessage().getMessageId();
+            CompletableFuture<Void> settled = new CompletableFuture<>();
+            pending.put(messageId, settled);
+            started.add(messageId);
+            (started.size() == 1 ? firstStarted : secondStarted).countDown();
+            return settled;
+        });
+
+        dispatcher.dispatch(messageContext("message-1", "2000000001"));
+        dispatcher.dispatch(messageContext("message-2", "2000000001"));
+
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondStarted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(started).containsExactly("message-1");
+
+        pending.get("message-1").complete(null);
+
+        assertThat(secondStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(started).containsExactly("message-1", "message-2");
+        pending.get("message-2").complete(null);
+    }
+
+    @Test
+    void shouldAbandonAsyncMessageWhenProcessingFails() {
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        ServiceBusReceivedMessageContext messageContext = messageContext("message-1", "2000000001");
+        when(messageProcessor.isAsync()).thenReturn(true);
+        when(messageProcessor.processMessageAsync(any(ServiceBusReceivedMessageContext.class), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("lookup failed")));
+
+        dispatcher.dispatch(messageContext);
+
+        verify(messageContext, timeout(5000)).abandon();
+    }
+
+    @Test
+    void shouldRenewLockUntilMessageIsSettled() throws InterruptedException {
+        dispatcher = new PartitionedMessageDispatcher(messageProcessor, lockRenewer, new SimpleMeterRegistry(),
+                                                      applicationParams);
+        ServiceBusReceivedMessageContext messageContext = messageContext("message-1", "2000000001");
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(messageProcessor).processMessage(any(ServiceBusReceivedMessageContext.class));
+
+        dispatcher.dispatch(messageContext);
+
+        verify(lockRenewer).renew(messageContext.getMessage());
+        verify(renewal, never()).close();
+        release.countDown();
+        verify(renewal, timeout(5000)).close();
+    }
+
+    private ServiceBusReceivedMessageContext messageContext(String messageId, String hearingId) {
+        ServiceBusReceivedMessageContext messageContext = mock(ServiceBusReceivedMessageContext.class);
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getMessageId()).thenReturn(messageId);
+        when(message.getApplicationProperties()).thenReturn(Map.of(HEARING_ID, hearingId));
+        return messageContext;
+    }
+}
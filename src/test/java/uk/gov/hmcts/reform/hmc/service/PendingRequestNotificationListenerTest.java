@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingRequestNotificationListenerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private MessageProcessor messageProcessor;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private PendingRequestNotificationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Test
+    void shouldNotListenWhenDisabled() {
+        listener = createListener(false, "pending_requests");
+
+        listener.start();
+
+        assertFalse(listener.isRunning());
+        verifyNoInteractions(dataSource, messageProcessor);
+    }
+
+    @Test
+    void shouldRejectInvalidChannel() {
+        assertThrows(IllegalArgumentException.class, () -> createListener(true, "pending_requests; DROP TABLE x"));
+    }
+
+    @Test
+    void shouldListenAndSweepNotifiedHearing() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getNotifications(anyInt()))
+            .thenReturn(new PGNotification[]{notification("2000000001")})
+            .thenReturn(new PGNotification[0]);
+        listener = createListener(true, "pending_requests");
+
+        listener.start();
+
+        verify(statement, timeout(2000)).execute("LISTEN pending_requests");
+        verify(messageProcessor, timeout(2000)).processQueuedPendingRequestsForHearing(2000000001L);
+        verify(pgConnection, timeout(2000).atLeast(2)).getNotifications(anyInt());
+    }
+
+    @Test
+    void shouldSweepWholeQueueWhenNotificationHasNoHearingId() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        PGNotification notification = notification("");
+        lenient().when(pgConnection.getNotifications(anyInt()))
+            .thenReturn(new PGNotification[]{notification})
+            .thenReturn(new PGNotification[0]);
+        listener = createListener(true, "pending_requests");
+
+        listener.start();
+
+        verify(notification, timeout(2000)).getParameter();
+        verify(messageProcessor, timeout(2000).atLeast(1)).processQueuedPendingRequests();
+        verify(messageProcessor, never()).processQueuedPendingRequestsForHearing(any());
+    }
+
+    @Test
+    void shouldReconnectWhenConnectionIsLost() throws SQLException {
+        when(dataSource.getConnection())
+            .thenThrow(new SQLException("connection refused"))
+            .thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+        listener = createListener(true, "pending_requests");
+
+        listener.start();
+
+        verify(statement, timeout(2000)).execute("LISTEN pending_requests");
+        verify(dataSource, atLeast(2)).getConnection();
+        verify(messageProcessor, timeout(2000)).processQueuedPendingRequests();
+    }
+
+    private static PGNotification notification(String parameter) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(parameter);
+        return notification;
+    }
+
+    private PendingRequestNotificationListener createListener(boolean enabled, String channel) {
+        when(applicationParams.isPendingRequestNotifyEnabled()).thenReturn(enabled);
+        when(applicationParams.getPendingRequestNotifyChannel()).thenReturn(channel);
+        lenient().when(applicationParams.getPendingRequestNotifyPollTimeoutInMilliseconds()).thenReturn(10);
+        lenient().when(applicationParams.getPendingRequestNotifyReconnectDelayInMilliseconds()).thenReturn(10L);
+        return new PendingRequestNotificationListener(dataSource, messageProcessor, new SimpleMeterRegistry(),
+                                                      applicationParams);
+    }
+}
@@ -4,6 +4,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -16,6 +17,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 import uk.gov.hmcts.reform.hmc.client.futurehearing.ErrorDetails;
@@ -23,13 +25,17 @@ import uk.gov.hmcts.reform.hmc.config.MessageSenderToTopicConfiguration;
 import uk.gov.hmcts.reform.hmc.config.PendingStatusType;
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.PendingRequestEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 import uk.gov.hmcts.reform.hmc.errorhandling.AuthenticationException;
 import uk.gov.hmcts.reform.hmc.errorhandling.BadFutureHearingRequestException;
+import uk.gov.hmcts.reform.hmc.errorhandling.HearingStatusPublishException;
 import uk.gov.hmcts.reform.hmc.errorhandling.ResourceNotFoundException;
+import uk.gov.hmcts.reform.hmc.helper.OutboundMessageSerializer;
 import uk.gov.hmcts.reform.hmc.helper.hmi.HmiHearingResponseMapper;
 import uk.gov.hmcts.reform.hmc.model.HearingStatusAuditContext;
 import uk.gov.hmcts.reform.hmc.model.HmcHearingResponse;
 import uk.gov.hmcts.reform.hmc.model.HmcHearingUpdate;
+import uk.gov.hmcts.reform.hmc.repository.HearingLookupCache;
 import uk.gov.hmcts.reform.hmc.repository.HearingRepository;
 import uk.gov.hmcts.reform.hmc.repository.PendingRequestRepository;
 import uk.gov.hmcts.reform.hmc.utils.TestingUtil;
@@ -37,6 +43,7 @@ import uk.gov.hmcts.reform.hmc.utils.TestingUtil;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +62,7 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static uk.gov.hmcts.reform.hmc.config.PendingStatusType.EXCEPTION;
+import static uk.gov.hmcts.reform.hmc.utils.TestingUtil.queuedPendingRequest;
 
 @DisplayName("PendingRequestServiceImpl")
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +74,9 @@ class PendingRequestServiceImplTest {
     @Mock
     private HearingRepository hearingRepository;
 
+    @Mock
+    private HearingLookupCache hearingLookupCache;
+
     @Mock
     private PendingRequestRepository pendingRequestRepository;
 
@@ -81,6 +92,9 @@ class PendingRequestServiceImplTest {
     @Mock
     private MessageSenderToTopicConfiguration messageSenderToTopicConfiguration;
 
+    @Spy
+    private OutboundMessageSerializer outboundMessageSerializer = new OutboundMessageSerializer(OBJECT_MAPPER);
+
     private static final String TEST_EXCEPTION_MESSAGE = "Test Exception";
     private static final String ERROR_MESSAGE =
         "Hearing id: %s with Case reference: %s , Service Code: %s and Error Description: %s updated to status %s";
@@ -153,6 +167,67 @@ class PendingRequestServiceImplTest {
             .findQueuedPendingRequestsForProcessing(anyLong(), anyString());
     }
 
+    @Test
+    void shouldClaimQueuedPendingRequestsInSubmittedOrder() {
+        QueuedPendingRequest older = queuedPendingRequest(2L, 2000000001L, LocalDateTime.now().minusHours(5));
+        QueuedPendingRequest newer = queuedPendingRequest(1L, 2000000002L, LocalDateTime.now().minusHours(1));
+        pendingRequestService.pendingWaitInterval = "2,MINUTES";
+        pendingRequestService.claimBatchSize = 10;
+        when(pendingRequestRepository.claimQueuedPendingRequests(
+            2L, "MINUTES", LocalDateTime.of(1970, 1, 1, 0, 0), 0L, 10))
+            .thenReturn(List.of(newer, older));
+
+        List<QueuedPendingRequest> results = pendingRequestService.claimQueuedPendingRequests(null);
+
+        assertThat(results).containsExactly(older, newer);
+    }
+
+    @Test
+    void shouldClaimNextPageAfterGivenRequest() {
+        LocalDateTime submittedDateTime = LocalDateTime.now().minusHours(1);
+        QueuedPendingRequest after = queuedPendingRequest(7L, 2000000001L, submittedDateTime);
+        pendingRequestService.pendingWaitInterval = "2,MINUTES";
+        pendingRequestService.claimBatchSize = 10;
+        when(pendingRequestRepository.claimQueuedPendingRequests(2L, "MINUTES", submittedDateTime, 7L, 10))
+            .thenReturn(List.of());
+
+        List<QueuedPendingRequest> results = pendingRequestService.claimQueuedPendingRequests(after);
+
+        assertThat(results).isEmpty();
+        verify(pendingRequestRepository).claimQueuedPendingRequests(2L, "MINUTES", submittedDateTime, 7L, 10);
+    }
+
+    @Test
+    void shouldClaimQueuedPendingRequestsForHearing() {
+        QueuedPendingRequest queued = queuedPendingRequest(3L, 2000000001L, LocalDateTime.now().minusHours(1));
+        pendingRequestService.pendingWaitInterval = "2,MINUTES";
+        pendingRequestService.claimBatchSize = 10;
+        when(pendingRequestRepository.claimQueuedPendingRequestsForHearing(
+            2L, "MINUTES", 2000000001L, LocalDateTime.of(1970, 1, 1, 0, 0), 0L, 10))
+            .thenReturn(List.of(queued));
+
+        List<QueuedPendingRequest> results = pendingRequestService.claimQueuedPendingRequestsForHearing(2000000001L,
+                                                                                                          null);
+
+        assertThat(results).containsExactly(queued);
+    }
+
+    @Test
+    void shouldReleaseClaim() {
+        long id = 1L;
+        LocalDateTime lastTriedDateTime = LocalDateTime.now().minusHours(1);
+        pendingRequestService.releaseClaim(id, lastTriedDateTime);
+
+        verify(pendingRequestRepository, times(1)).releaseClaim(id, lastTriedDateTime);
+    }
+
+    @Test
+    void shouldReleaseExpiredClaims() {
+        when(pendingRequestRepository.releaseExpiredClaims(450L)).thenReturn(2);
+
+        assertThat(pendingRequestService.releaseExpiredClaims(450L)).isEqualTo(2);
+    }
+
     @Test
     void shouldReturnFalseWhenLastTriedDateTimePeriodElapsed() {
         PendingRequestEntity pendingRequest = generatePendingRequest();
@@ -264,6 +339,8 @@ class PendingRequestServiceImplTest {
                                                    JsonNode.class);
         when(objectMapper.convertValue(any(), eq(JsonNode.class))).thenReturn(data);
         when(hmiHearingResponseMapper.mapEntityToHmcModel(any(), any())).thenReturn(generateHmcResponse("EXCEPTION"));
+        when(messageSenderToTopicConfiguration.sendMessage(any(), any(), any(), any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         ListAppender<ILoggingEvent> listAppender = getILoggingEventListAppender();
 
@@ -279,7 +356,7 @@ class PendingRequestServiceImplTest {
                                                     "EXCEPTION");
         verifyLogErrors(listAppender, expectedErrorMessage);
 
-        verify(objectMapper, times(3)).convertValue(any(), eq(JsonNode.class));
+        verify(objectMapper, times(2)).convertValue(any(), eq(JsonNode.class));
         verify(hearingRepository).save(hearing);
         verify(hmiHearingResponseMapper).mapEntityToHmcModel(any(), any());
         verify(messageSenderToTopicConfiguration).sendMessage(any(), any(), any(), any());
@@ -292,10 +369,10 @@ class PendingRequestServiceImplTest {
     }
 
     @Test
-    void shouldHandleNonRetriableException() {
+    void shouldHandleNonRetriableException() throws JsonProcessingException {
         HearingEntity hearing =
             TestingUtil.generateHearingEntityWithHearingResponse(2000000001L, null, null);
-        when(hearingRepository.findById(2000000001L)).thenReturn(Optional.of(hearing));
+        when(hearingLookupCache.findHearing(2000000001L)).thenReturn(Optional.of(hearing));
 
         ErrorDetails errorDetails = TestingUtil.generateErrorDetails("Bad request error", BAD_REQUEST.value());
         JsonNode extractedErrorDetails = OBJECT_MAPPER.convertValue(errorDetails, JsonNode.class);
@@ -306,13 +383,14 @@ class PendingRequestServiceImplTest {
         when(hmiHearingResponseMapper.mapEntityToHmcModel(hearing.getHearingResponses().getFirst(), hearing))
             .thenReturn(hmcHearingResponse);
 
-        JsonNode messageSenderMessage = OBJECT_MAPPER.convertValue(hmcHearingResponse, JsonNode.class);
-        when(objectMapper.convertValue(hmcHearingResponse, JsonNode.class)).thenReturn(messageSenderMessage);
-
         JsonNode hearingStatusAuditErrorDescription = OBJECT_MAPPER.convertValue(extractedErrorDetails, JsonNode.class);
         when(objectMapper.convertValue(extractedErrorDetails, JsonNode.class))
             .thenReturn(hearingStatusAuditErrorDescription);
 
+        when(messageSenderToTopicConfiguration
+                 .sendMessage(OBJECT_MAPPER.writeValueAsBytes(hmcHearingResponse), "Test", "2000000001", null))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
         PendingRequestEntity pendingRequest = generatePendingRequest();
         BadFutureHearingRequestException exception =
             new BadFutureHearingRequestException(TEST_EXCEPTION_MESSAGE, errorDetails);
@@ -324,13 +402,12 @@ class PendingRequestServiceImplTest {
         assertThat(hearing.getErrorDescription()).isEqualTo("Bad request error");
         assertThat(hearing.getErrorCode()).isEqualTo(400);
 
-        verify(hearingRepository).findById(2000000001L);
+        verify(hearingLookupCache).findHearing(2000000001L);
 
         verify(objectMapper).convertValue(errorDetails, JsonNode.class);
         verify(hearingRepository).save(hearing);
-        verify(objectMapper).convertValue(hmcHearingResponse, JsonNode.class);
         verify(messageSenderToTopicConfiguration)
-            .sendMessage(messageSenderMessage.toString(), "Test", "2000000001", null);
+            .sendMessage(OBJECT_MAPPER.writeValueAsBytes(hmcHearingResponse), "Test", "2000000001", null);
         verify(objectMapper).convertValue(extractedErrorDetails, JsonNode.class);
         verify(hearingStatusAuditService).saveAuditTriageDetailsWithUpdatedDateOrCurrentDate(
             HearingStatusAuditContext.builder()
@@ -345,12 +422,33 @@ class PendingRequestServiceImplTest {
         verify(pendingRequestRepository).markRequestForNonRetriableException(1L);
     }
 
+    @Test
+    void shouldNotMarkRequestWhenHearingStatusCannotBePublished() {
+        HearingEntity hearing =
+            TestingUtil.generateHearingEntityWithHearingResponse(2000000001L, null, null);
+        when(hearingLookupCache.findHearing(2000000001L)).thenReturn(Optional.of(hearing));
+        when(hmiHearingResponseMapper.mapEntityToHmcModel(any(), any())).thenReturn(generateHmcResponse("EXCEPTION"));
+        IllegalStateException publishFailure = new IllegalStateException("link closed");
+        when(messageSenderToTopicConfiguration.sendMessage(any(), any(), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(publishFailure));
+
+        PendingRequestEntity pendingRequest = generatePendingRequest();
+        BadFutureHearingRequestException exception = new BadFutureHearingRequestException(
+            TEST_EXCEPTION_MESSAGE, TestingUtil.generateErrorDetails("Bad request error", BAD_REQUEST.value()));
+
+        HearingStatusPublishException thrown = assertThrows(HearingStatusPublishException.class, () ->
+            pendingRequestService.handleNonRetriableException(pendingRequest, exception));
+
+        assertThat(thrown).hasCause(publishFailure);
+        verify(pendingRequestRepository, never()).markRequestForNonRetriableException(anyLong());
+    }
+
     @Test
     void shouldLogErrorWhenHearingDoesNotExist() {
         PendingRequestEntity pendingRequest = generatePendingRequest();
 
         Exception exception = new Exception("Test Exception");
-        when(hearingRepository.findById(2000000001L)).thenReturn(Optional.empty());
+        when(hearingLookupCache.findHearing(2000000001L)).thenReturn(Optional.empty());
 
         ListAppender<ILoggingEvent> listAppender = getILoggingEventListAppender();
 
@@ -359,7 +457,7 @@ class PendingRequestServiceImplTest {
         logger.detachAndStopAllAppenders();
         verifyLogErrors(listAppender, "Hearing id 2000000001 not found");
 
-        verify(hearingRepository).findById(2000000001L);
+        verify(hearingLookupCache).findHearing(2000000001L);
         verify(pendingRequestRepository).markRequestWithGivenStatus(1L, EXCEPTION.name());
 
         verify(hearingRepository, never()).save(any());
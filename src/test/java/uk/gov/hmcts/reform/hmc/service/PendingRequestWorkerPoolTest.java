@@ -0,0 +1,247 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.client.futurehearing.FutureHearingConcurrencyLimiter;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
+import uk.gov.hmcts.reform.hmc.errorhandling.FutureHearingUnavailableException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.hmc.utils.TestingUtil.queuedPendingRequest;
+
+@ExtendWith(MockitoExtension.class)
+class PendingRequestWorkerPoolTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FutureHearingConcurrencyLimiter concurrencyLimiter;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PendingRequestWorkerPool workerPool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        lenient().when(concurrencyLimiter.acquire()).thenReturn(() -> { });
+        when(applicationParams.getPendingRequestWorkers()).thenReturn(4);
+        when(applicationParams.getPendingRequestTransactionTimeoutInSeconds()).thenReturn(30);
+        when(applicationParams.getPendingRequestSweepTimeoutInSeconds()).thenReturn(5L);
+        workerPool = new PendingRequestWorkerPool(transactionManager, concurrencyLimiter, meterRegistry,
+                                                  applicationParams);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerPool.shutdown();
+    }
+
+    @Test
+    void shouldProcessEachRequestInItsOwnTransaction() {
+        List<QueuedPendingRequest> requests = List.of(pendingRequest(1L, 2000000001L, 3),
+                                                      pendingRequest(2L, 2000000002L, 2),
+                                                      pendingRequest(3L, 2000000003L, 1));
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+        boolean finished = workerPool.processAll(requests, workerPool.sweepDeadline(),
+                                                 request -> processed.add(request.getId()), request -> { });
+
+        assertThat(finished).isTrue();
+        assertThat(processed).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.get("hmc.outbound.pending.request.process").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("hmc.outbound.pending.request.batch").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldProcessRequestsForSameHearingInSubmittedOrder() {
+        List<QueuedPendingRequest> requests = List.of(pendingRequest(1L, 2000000001L, 3),
+                                                      pendingRequest(2L, 2000000002L, 3),
+                                                      pendingRequest(3L, 2000000001L, 2),
+                                                      pendingRequest(4L, 2000000001L, 1));
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+        workerPool.processAll(requests, workerPool.sweepDeadline(), request -> {
+            if (request.getHearingId() == 2000000001L) {
+                processed.add(request.getId());
+            }
+        }, request -> { });
+
+        assertThat(processed).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void shouldReleaseRemainingClaimsForHearingWhenRequestFails() {
+        List<QueuedPendingRequest> requests = List.of(pendingRequest(1L, 2000000001L, 3),
+                                                      pendingRequest(2L, 2000000001L, 2),
+                                                      pendingRequest(3L, 2000000002L, 1));
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        List<Long> released = Collections.synchronizedList(new ArrayList<>());
+
+        workerPool.processAll(requests, workerPool.sweepDeadline(), request -> {
+            if (request.getId() == 1L) {
+                throw new IllegalStateException("connection reset");
+            }
+            processed.add(request.getId());
+        }, request -> released.add(request.getId()));
+
+        assertThat(processed).containsExactly(3L);
+        assertThat(released).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldTakeConcurrencyPermitBeforeOpeningTransaction() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        when(concurrencyLimiter.acquire()).thenAnswer(invocation -> {
+            events.add("acquire");
+            return (FutureHearingConcurrencyLimiter.Permit) () -> events.add("release");
+        });
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            events.add("begin");
+            return mock(TransactionStatus.class);
+        });
+        doAnswer(invocation -> events.add("commit")).when(transactionManager).commit(any());
+
+        workerPool.processAll(List.of(pendingRequest(1L, 2000000001L, 1)), workerPool.sweepDeadline(),
+                              request -> events.add("process"), request -> { });
+
+        assertThat(events).containsExactly("acquire", "begin", "process", "commit", "release");
+    }
+
+    @Test
+    void shouldReleaseClaimsForHearingWhenNoConcurrencyPermitIsFree() {
+        when(concurrencyLimiter.acquire()).thenThrow(new FutureHearingUnavailableException("limit reached"));
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        List<Long> released = Collections.synchronizedList(new ArrayList<>());
+
+        workerPool.processAll(List.of(pendingRequest(1L, 2000000001L, 2), pendingRequest(2L, 2000000001L, 1)),
+                              workerPool.sweepDeadline(), request -> processed.add(request.getId()),
+                              request -> released.add(request.getId()));
+
+        assertThat(processed).isEmpty();
+        assertThat(released).containsExactly(1L, 2L);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void shouldReleaseClaimsInsteadOfStartingRequestsOnceSweepDeadlineHasPassed() {
+        when(applicationParams.getPendingRequestWorkers()).thenReturn(1);
+        PendingRequestWorkerPool expiredWorkerPool =
+            new PendingRequestWorkerPool(transactionManager, concurrencyLimiter, meterRegistry,
+                                         applicationParams);
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+        List<Long> released = Collections.synchronizedList(new ArrayList<>());
+        boolean finished;
+        try {
+            finished = expiredWorkerPool.processAll(List.of(pendingRequest(1L, 2000000001L, 2),
+                                                            pendingRequest(2L, 2000000001L, 1),
+                                                            pendingRequest(3L, 2000000002L, 1)),
+                                                    System.nanoTime() - 1,
+                                                    request -> processed.add(request.getId()),
+                                                    request -> released.add(request.getId()));
+        } finally {
+            expiredWorkerPool.shutdown();
+        }
+
+        assertThat(finished).isFalse();
+        assertThat(processed).isEmpty();
+        assertThat(released).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldProcessOnVirtualThreadsWhenEnabled() {
+        when(applicationParams.isVirtualThreadsEnabled()).thenReturn(true);
+        PendingRequestWorkerPool virtualWorkerPool =
+            new PendingRequestWorkerPool(transactionManager, concurrencyLimiter, meterRegistry,
+                                         applicationParams);
+        List<Boolean> virtual = Collections.synchronizedList(new ArrayList<>());
+        try {
+            virtualWorkerPool.processAll(List.of(pendingRequest(1L, 2000000001L, 1),
+                                                 pendingRequest(2L, 2000000002L, 1)),
+                                         virtualWorkerPool.sweepDeadline(),
+                                         request -> virtual.add(Thread.currentThread().isVirtual()), request -> { });
+        } finally {
+            virtualWorkerPool.shutdown();
+        }
+
+        assertThat(virtual).containsExactly(true, true);
+    }
+
+    @Test
+    void shouldTreatClaimsOlderThanSweepAndTransactionTimeoutsAsExpired() {
+        assertThat(workerPool.getClaimTimeoutInSeconds()).isEqualTo(95);
+    }
+
+    @Test
+    void shouldRequireTransactionTimeoutToOutlastFutureHearingsCalls() {
+        when(applicationParams.getHearingManagementInterfaceConnectTimeoutInMilliseconds()).thenReturn(10_000L);
+        when(applicationParams.getHearingManagementInterfaceReadTimeoutInMilliseconds()).thenReturn(60_000L);
+        when(applicationParams.getActiveDirectoryConnectTimeoutInMilliseconds()).thenReturn(5_000L);
+        when(applicationParams.getActiveDirectoryReadTimeoutInMilliseconds()).thenReturn(5_000L);
+
+        assertThat(PendingRequestWorkerPool.minimumTransactionTimeoutInSeconds(applicationParams)).isEqualTo(95);
+
+        when(applicationParams.isTokenCacheEnabled()).thenReturn(true);
+        assertThat(PendingRequestWorkerPool.minimumTransactionTimeoutInSeconds(applicationParams)).isEqualTo(85);
+
+        when(applicationParams.getHearingManagementInterfaceCallTimeoutInMilliseconds()).thenReturn(30_500L);
+        assertThat(PendingRequestWorkerPool.minimumTransactionTimeoutInSeconds(applicationParams)).isEqualTo(46);
+    }
+
+    @Test
+    void shouldFailAtStartupWhenTransactionTimeoutIsTooShort() {
+        when(applicationParams.getHearingManagementInterfaceReadTimeoutInMilliseconds()).thenReturn(60_000L);
+
+        assertThatThrownBy(() -> new PendingRequestWorkerPool(transactionManager, concurrencyLimiter, meterRegistry,
+                                                              applicationParams))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("must be at least 75");
+    }
+
+    @Test
+    void shouldCalculatePercentiles() {
+        List<Long> latencies = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            latencies.add(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(PendingRequestWorkerPool.percentileInMillis(latencies, 0.5)).isEqualTo(50);
+        assertThat(PendingRequestWorkerPool.percentileInMillis(latencies, 0.95)).isEqualTo(95);
+        assertThat(PendingRequestWorkerPool.percentileInMillis(latencies, 1.0)).isEqualTo(100);
+        assertThat(PendingRequestWorkerPool.percentileInMillis(List.of(), 0.5)).isZero();
+    }
+
+    private static QueuedPendingRequest pendingRequest(Long id, Long hearingId, int submittedHoursAgo) {
+        return queuedPendingRequest(id, hearingId, LocalDateTime.now().minusHours(submittedHoursAgo));
+    }
+}
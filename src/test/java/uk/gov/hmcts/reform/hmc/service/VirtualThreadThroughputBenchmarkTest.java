@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.hmc.service;
+
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessageContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.hmc.ApplicationParams;
+import uk.gov.hmcts.reform.hmc.config.ServiceBusMessageLockRenewer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares outbound queue throughput on platform and virtual partition threads, with HMI replaced by a fixed delay.
+ * Run with {@code BENCHMARK=true ./gradlew test --tests '*VirtualThreadThroughputBenchmarkTest'}; the results are
+ * logged rather than asserted, as they depend on the machine.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class VirtualThreadThroughputBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadThroughputBenchmarkTest.class);
+    private static final int PARTITIONS = 64;
+    private static final int WARM_UP_MESSAGES = 500;
+    private static final int MESSAGES = 5_000;
+    private static final long HMI_LATENCY_IN_MILLISECONDS = 20;
+
+    @Test
+    void shouldCompareThroughputOfPlatformAndVirtualThreads() throws InterruptedException {
+        double platform = throughput(false);
+        double virtual = throughput(true);
+
+        LOG.info("{} messages over {} partitions with {}ms HMI latency: platform threads {} msg/s, virtual threads "
+                     + "{} msg/s", MESSAGES, PARTITIONS, HMI_LATENCY_IN_MILLISECONDS, Math.round(platform),
+                 Math.round(virtual));
+        assertThat(platform).isPositive();
+        assertThat(virtual).isPositive();
+    }
+
+    private double throughput(boolean virtualThreads) throws InterruptedException {
+        run(virtualThreads, WARM_UP_MESSAGES);
+        return MESSAGES / (run(virtualThreads, MESSAGES) / 1_000_000_000.0);
+    }
+
+    private long run(boolean virtualThreads, int messageCount) throws InterruptedException {
+        CountDownLatch processed = new CountDownLatch(messageCount);
+        MessageProcessor messageProcessor = mock(MessageProcessor.class);
+        doAnswer(invocation -> {
+            Thread.sleep(HMI_LATENCY_IN_MILLISECONDS);
+            processed.countDown();
+            return null;
+        }).when(messageProcessor).processMessage(any(ServiceBusReceivedMessageContext.class));
+        List<ServiceBusReceivedMessageContext> messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            messages.add(messageContext(String.valueOf(2000000000L + i)));
+        }
+
+        ApplicationParams applicationParams = mock(ApplicationParams.class);
+        when(applicationParams.getConsumerPartitions()).thenReturn(PARTITIONS);
+        when(applicationParams.getConsumerMaxInFlight()).thenReturn(PARTITIONS * 2);
+        when(applicationParams.getConsumerShutdownTimeoutInSeconds()).thenReturn(30L);
+        when(applicationParams.isVirtualThreadsEnabled()).thenReturn(virtualThreads);
+
+        ServiceBusMessageLockRenewer lockRenewer = mock(ServiceBusMessageLockRenewer.class);
+        when(lockRenewer.renew(any())).thenReturn(() -> { });
+
+        PartitionedMessageDispatcher dispatcher = new PartitionedMessageDispatcher(
+            messageProcessor, lockRenewer, new SimpleMeterRegistry(), applicationParams);
+        try {
+            long start = System.nanoTime();
+            messages.forEach(dispatcher::dispatch);
+            assertThat(processed.await(5, TimeUnit.MINUTES)).isTrue();
+            return System.nanoTime() - start;
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private static ServiceBusReceivedMessageContext messageContext(String hearingId) {
+        ServiceBusReceivedMessageContext messageContext = mock(ServiceBusReceivedMessageContext.class);
+        ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+        when(messageContext.getMessage()).thenReturn(message);
+        when(message.getApplicationProperties()).thenReturn(Map.of("hearing_id", hearingId));
+        return messageContext;
+    }
+}
@@ -9,6 +9,7 @@ import uk.gov.hmcts.reform.hmc.data.CaseHearingRequestEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingResponseEntity;
 import uk.gov.hmcts.reform.hmc.data.HearingStatusAuditEntity;
+import uk.gov.hmcts.reform.hmc.data.QueuedPendingRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -113,6 +114,30 @@ public class TestingUtil {
         return entity;
     }
 
+    public static QueuedPendingRequest queuedPendingRequest(Long id, Long hearingId, LocalDateTime submittedDateTime) {
+        return new QueuedPendingRequest() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getHearingId() {
+                return hearingId;
+            }
+
+            @Override
+            public LocalDateTime getSubmittedDateTime() {
+                return submittedDateTime;
+            }
+
+            @Override
+            public LocalDateTime getLastTriedDateTime() {
+                return submittedDateTime;
+            }
+        };
+    }
+
     public static Stream<Arguments> healthStatuses() {
         return Stream.of(
             arguments(Status.UP),